@@ -0,0 +1,98 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import io.github.jonestimd.swing.table.Highlighter;
+
+/**
+ * Highlights occurrences of values in a string by wrapping them with a HTML tag.  The highlight text is compiled into
+ * a {@link TermMatcher} that is reused until the highlight text changes and the highlighted strings are saved in an
+ * LRU cache, so repainting a cell doesn't repeat the search.
+ */
+public class CachedHtmlHighlighter implements Highlighter {
+    public static final int DEFAULT_CACHE_SIZE = 1000;
+    private final String startTag;
+    private final String endTag;
+    private final Map<String, String> cache;
+    private TermMatcher matcher;
+
+    /**
+     * Create a highlighter with the default cache size.
+     * @param startTag the start tag to use for highlighting
+     * @param endTag the end tag to use for highlighting
+     */
+    public CachedHtmlHighlighter(String startTag, String endTag) {
+        this(startTag, endTag, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Create a highlighter.
+     * @param startTag the start tag to use for highlighting
+     * @param endTag the end tag to use for highlighting
+     * @param cacheSize the maximum number of highlighted strings to cache
+     */
+    public CachedHtmlHighlighter(String startTag, String endTag, int cacheSize) {
+        this.startTag = startTag;
+        this.endTag = endTag;
+        this.cache = new LinkedHashMap<String, String>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Entry<String, String> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * @return an HTML string with values in {@code highlightText} wrapped by the start and end tags.
+     */
+    @Override
+    public String highlight(String value, Collection<String> highlightText) {
+        if (highlightText.isEmpty()) {
+            return value;
+        }
+        if (matcher == null || ! matcher.hasTerms(highlightText)) {
+            matcher = new TermMatcher(highlightText);
+            cache.clear();
+        }
+        return cache.computeIfAbsent(value, this::highlight);
+    }
+
+    private String highlight(String value) {
+        int[] bounds = matcher.findMatches(value);
+        if (bounds.length == 0) {
+            return value;
+        }
+        StringBuilder buffer = new StringBuilder(value.length() + 13 + bounds.length / 2 * (startTag.length() + endTag.length()));
+        buffer.append("<html>");
+        int from = 0;
+        for (int i = 0; i < bounds.length; i += 2) {
+            buffer.append(value, from, bounds[i]).append(startTag).append(value, bounds[i], bounds[i + 1]).append(endTag);
+            from = bounds[i + 1];
+        }
+        return buffer.append(value, from, value.length()).append("</html>").toString();
+    }
+}
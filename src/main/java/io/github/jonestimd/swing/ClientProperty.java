@@ -21,5 +21,6 @@ package io.github.jonestimd.swing;
 
 public enum ClientProperty {
     SETTINGS_PERSISTER,
-    MNEMONIC_AND_NAME_KEY;
+    MNEMONIC_AND_NAME_KEY,
+    HIGHLIGHT_COLOR;
 }
\ No newline at end of file
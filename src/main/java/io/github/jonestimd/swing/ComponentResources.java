@@ -175,6 +175,8 @@ public class ComponentResources extends ListResourceBundle {
             { "confirm.unsavedChanges.option.confirm", "Discard Changes" },
             { "confirm.unsavedChanges.option.cancel", "Cancel" },
 
+            { "streamingTask.status.progress", "Loaded {0,number,integer} rows" },
+
             { VALIDATION_MESSAGE_BACKGROUND.key, new Color(255,255,200) },
 
             { "calendar.button.tooltip", "Select a date from the calendar" },
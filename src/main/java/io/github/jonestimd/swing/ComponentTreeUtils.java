@@ -23,10 +23,14 @@ package io.github.jonestimd.swing;
 
 import java.awt.Component;
 import java.awt.Container;
+import java.awt.event.HierarchyEvent;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
+import javax.swing.JComponent;
 import javax.swing.JMenu;
 import javax.swing.JPopupMenu;
 
@@ -36,6 +40,9 @@ import io.github.jonestimd.util.JavaPredicates;
  * Utility methods for traversing a Swing component hierarchy.
  */
 public class ComponentTreeUtils {
+    private static final String ANCESTOR_CACHE_KEY = ComponentTreeUtils.class.getName() + ".ancestorCache";
+    private static final Object NO_ANCESTOR = new Object();
+
     /**
      * Traverse a container and all its descendants, passing each component to a consumer.
      * @param rootComponent the container
@@ -164,6 +171,51 @@ public class ComponentTreeUtils {
         return Optional.ofNullable(component);
     }
 
+    /**
+     * Find an ancestor of a component and save the result on the component.  The saved results are cleared when the
+     * component or any of its ancestors is added to or removed from a container.  Intended for lookups that are
+     * repeated frequently, e.g. by a cell renderer.  Results that depend on a popup menu's invoker are not saved.
+     * @param component the starting component
+     * @param type the required type of the ancestor
+     * @return the first ancestor of the specified type
+     */
+    public static <T> T findCachedAncestor(Component component, Class<T> type) {
+        if (! (component instanceof JComponent)) {
+            return findAncestor(component, type);
+        }
+        Map<Class<?>, Object> cache = getAncestorCache((JComponent) component);
+        Object ancestor = cache.get(type);
+        if (ancestor == null) {
+            boolean cacheable = true;
+            Component parent = component;
+            while (parent != null && ! type.isInstance(parent)) {
+                cacheable &= ! (parent instanceof JPopupMenu);
+                parent = getParent(parent);
+            }
+            ancestor = parent == null ? NO_ANCESTOR : parent;
+            if (cacheable) {
+                cache.put(type, ancestor);
+            }
+        }
+        return ancestor == NO_ANCESTOR ? null : type.cast(ancestor);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Class<?>, Object> getAncestorCache(JComponent component) {
+        Map<Class<?>, Object> cache = (Map<Class<?>, Object>) component.getClientProperty(ANCESTOR_CACHE_KEY);
+        if (cache == null) {
+            Map<Class<?>, Object> newCache = new HashMap<>();
+            component.addHierarchyListener(event -> {
+                if ((event.getChangeFlags() & HierarchyEvent.PARENT_CHANGED) != 0) {
+                    newCache.clear();
+                }
+            });
+            component.putClientProperty(ANCESTOR_CACHE_KEY, newCache);
+            cache = newCache;
+        }
+        return cache;
+    }
+
     /**
      * Check if one component is the ancestor of another component.
      * @param component the descendant component
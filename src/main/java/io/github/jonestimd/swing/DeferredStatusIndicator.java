@@ -37,7 +37,7 @@ public class DeferredStatusIndicator implements StatusIndicator {
     }
 
     private void onShowing(Component component) {
-        delegate = ComponentTreeUtils.findAncestor(component, StatusIndicator.class);
+        delegate = ComponentTreeUtils.findCachedAncestor(component, StatusIndicator.class);
         if (disabled) delegate.disableUI(statusMessage);
         else if (statusMessage != null) delegate.setStatusMessage(statusMessage);
     }
@@ -57,6 +57,13 @@ public class HtmlHighlighter implements Highlighter {
         return ranges.isEmpty() ? value : highlightRanges(value, ranges);
     }
 
+    /**
+     * @return a highlighter with the same tags that caches the highlighted strings
+     */
+    public CachedHtmlHighlighter cached() {
+        return new CachedHtmlHighlighter(startTag, endTag);
+    }
+
     protected String highlightRanges(String value, Set<Range> ranges) {
         StringBuilder buffer = new StringBuilder("<html>");
         int from = 0;
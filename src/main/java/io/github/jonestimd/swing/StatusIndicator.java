@@ -52,7 +52,7 @@ public interface StatusIndicator {
      */
     static StatusIndicator forComponent(Component component) {
         if (component == null) return LoggerStatusIndicator.INSTANCE;
-        StatusIndicator indicator = ComponentTreeUtils.findAncestor(component, StatusIndicator.class);
+        StatusIndicator indicator = ComponentTreeUtils.findCachedAncestor(component, StatusIndicator.class);
         if (indicator == null && !component.isShowing()) return new DeferredStatusIndicator(component);
         return indicator == null ? LoggerStatusIndicator.INSTANCE : indicator;
     }
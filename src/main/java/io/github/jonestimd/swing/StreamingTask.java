@@ -0,0 +1,314 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing;
+
+import java.awt.Component;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.swing.SwingUtilities;
+import javax.swing.SwingWorker;
+
+import io.github.jonestimd.swing.dialog.ExceptionDialog;
+
+/**
+ * An abstract class for loading items on a background thread and displaying them while they are loaded.  The
+ * background task passes items to a sink and the items are delivered to {@link #updateUI(List)} in chunks.  The
+ * size of the chunks is adjusted so that each update takes about {@link #getFrameBudget()} milliseconds on the
+ * Swing event thread, allowing the UI to repaint between chunks.
+ * @param <T> the type of the items
+ * @see BackgroundTask
+ */
+public abstract class StreamingTask<T> {
+    public static final long DEFAULT_FRAME_BUDGET = 16L;
+    protected static final int MIN_CHUNK_SIZE = 16;
+    private static final String PROGRESS_MESSAGE = ComponentResources.lookupString("streamingTask.status.progress");
+    private final Logger logger = Logger.getLogger(StreamingTask.class.getName());
+
+    /**
+     * @return description of the background task to be displayed to the user.
+     */
+    public abstract String getStatusMessage();
+
+    /**
+     * Prepare the UI to receive the items (called on the Swing event thread before the task is started).
+     */
+    public abstract void startUI();
+
+    /**
+     * Execute a long running task (called on a non-Swing thread).
+     * @param sink receives the items as they are loaded.  Throws {@link CancellationException} if the task has been
+     *        cancelled or failed to update the UI.
+     */
+    public abstract void performTask(Consumer<? super T> sink);
+
+    /**
+     * Update the UI with a chunk of items (called on the Swing event thread).
+     */
+    public abstract void updateUI(List<T> items);
+
+    /**
+     * Handle an exception thrown by the long running task (called on the Swing event thread).
+     * @return true if the exception has been handled.
+     */
+    public abstract boolean handleException(Throwable th);
+
+    /**
+     * @return the target number of milliseconds for each call to {@link #updateUI(List)}.
+     */
+    protected long getFrameBudget() {
+        return DEFAULT_FRAME_BUDGET;
+    }
+
+    /**
+     * @return the executor for running {@link #performTask(Consumer)} or null to use {@link SwingWorker}'s thread pool.
+     */
+    protected Executor getExecutor() {
+        return null;
+    }
+
+    /**
+     * Create a task from callbacks.
+     * @param statusMessage the message to display while the task is running
+     * @param startUI the action to perform on the Swing Event Dispatch Thread before starting the task
+     * @param doInBackground the action to perform on the background thread
+     * @param updateUI the action to perform on the Swing Event Dispatch Thread for each chunk of items
+     * @param onException exception handler (returns true if it handled the exception or false to display an error
+     *        dialog)
+     * @param <T> the type of the items
+     * @return the new task
+     */
+    public static <T> StreamingTask<T> task(String statusMessage, Runnable startUI, Consumer<Consumer<? super T>> doInBackground,
+            Consumer<List<T>> updateUI, Function<Throwable, Boolean> onException) {
+        return new StreamingTask<T>() {
+            @Override
+            public String getStatusMessage() {
+                return statusMessage;
+            }
+
+            @Override
+            public void startUI() {
+                if (startUI != null) startUI.run();
+            }
+
+            @Override
+            public void performTask(Consumer<? super T> sink) {
+                doInBackground.accept(sink);
+            }
+
+            @Override
+            public void updateUI(List<T> items) {
+                updateUI.accept(items);
+            }
+
+            @Override
+            public boolean handleException(Throwable th) {
+                return onException != null && onException.apply(th);
+            }
+        };
+    }
+
+    /**
+     * Run this task on a background thread. This method should only be called from the Swing Event Dispatch thread.
+     * The UI will be disabled and the status message will be displayed if {@code owner} or one if its ancestors is
+     * a {@link StatusIndicator}.
+     * @param owner owner component for displaying an error dialog if the task fails
+     */
+    public CompletableFuture<Integer> run(Component owner) {
+        return run(StatusIndicator.forComponent(owner), owner);
+    }
+
+    /**
+     * Run this task on a background thread. This method should only be called from the Swing Event Dispatch thread.
+     * @param statusIndicator UI component to receive status messages (disabled while the task is running)
+     * @param owner owner component for displaying an error dialog if the task fails
+     * @return a future that completes with the number of items on the Swing Event Dispatch thread after the last
+     *         chunk has been displayed.  Cancelling the future stops the task.
+     */
+    public CompletableFuture<Integer> run(StatusIndicator statusIndicator, Component owner) {
+        statusIndicator.disableUI(getStatusMessage());
+        Publisher publisher = new Publisher(statusIndicator, owner);
+        try {
+            startUI();
+        } catch (Throwable ex) {
+            publisher.updateFailed(ex);
+            return publisher.result;
+        }
+        Worker worker = new Worker(publisher);
+        Executor executor = getExecutor();
+        if (executor == null) worker.execute();
+        else executor.execute(worker);
+        return publisher.result;
+    }
+
+    /**
+     * Runs the background task and notifies the publisher on the Swing event thread when it completes.
+     */
+    private class Worker extends SwingWorker<Void, Void> {
+        private final Publisher publisher;
+
+        private Worker(Publisher publisher) {
+            this.publisher = publisher;
+        }
+
+        @Override
+        protected Void doInBackground() {
+            performTask(publisher::accept);
+            return null;
+        }
+
+        @Override
+        protected void done() {
+            try {
+                get();
+                publisher.taskComplete(null);
+            } catch (ExecutionException ex) {
+                publisher.taskComplete(ex.getCause());
+            } catch (CancellationException | InterruptedException ex) {
+                publisher.taskComplete(ex);
+            }
+        }
+    }
+
+    /**
+     * Queues the items from the background task and delivers them to the Swing event thread.
+     */
+    private class Publisher {
+        private final Queue<T> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final CompletableFuture<Integer> result = new CompletableFuture<>();
+        private final StatusIndicator statusIndicator;
+        private final Component owner;
+        private int chunkSize = MIN_CHUNK_SIZE;
+        private int count = 0;
+        private boolean taskComplete = false;
+        private boolean uiEnabled = false;
+
+        private Publisher(StatusIndicator statusIndicator, Component owner) {
+            this.statusIndicator = statusIndicator;
+            this.owner = owner;
+        }
+
+        /**
+         * Called on the background thread.
+         */
+        public void accept(T item) {
+            if (result.isDone()) throw new CancellationException();
+            queue.add(item);
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) SwingUtilities.invokeLater(this::publish);
+        }
+
+        private void publish() {
+            scheduled.set(false);
+            if (!result.isDone()) {
+                List<T> chunk = nextChunk();
+                if (!chunk.isEmpty()) publish(chunk);
+                if (!queue.isEmpty()) schedule();
+                else if (taskComplete) {
+                    enableUI();
+                    result.complete(count);
+                }
+            }
+            if (result.isDone()) enableUI();
+        }
+
+        private List<T> nextChunk() {
+            List<T> chunk = new ArrayList<>(chunkSize);
+            T item;
+            while (chunk.size() < chunkSize && (item = queue.poll()) != null) {
+                chunk.add(item);
+            }
+            return chunk;
+        }
+
+        private void publish(List<T> chunk) {
+            long start = System.nanoTime();
+            try {
+                updateUI(chunk);
+            } catch (Throwable ex) {
+                updateFailed(ex);
+                return;
+            }
+            count += chunk.size();
+            chunkSize = nextChunkSize(chunk.size(), System.nanoTime() - start);
+            statusIndicator.setStatusMessage(MessageFormat.format(PROGRESS_MESSAGE, count));
+        }
+
+        /**
+         * Estimate the number of items that can be displayed within the frame budget, allowing the chunk size to
+         * at most double each time.
+         */
+        private int nextChunkSize(int size, long elapsedNanos) {
+            long maxSize = Math.max(size, chunkSize) * 2L;
+            long budgetSize = elapsedNanos <= 0 ? maxSize : size * TimeUnit.MILLISECONDS.toNanos(getFrameBudget()) / elapsedNanos;
+            return (int) Math.max(MIN_CHUNK_SIZE, Math.min(maxSize, budgetSize));
+        }
+
+        private void updateFailed(Throwable ex) {
+            logger.log(Level.SEVERE, "Error updating UI", ex);
+            enableUI();
+            ExceptionDialog.show(owner, ex);
+            result.completeExceptionally(ex);
+        }
+
+        /**
+         * Called on the Swing event thread after the background task completes.
+         */
+        private void taskComplete(Throwable throwable) {
+            taskComplete = true;
+            if (throwable == null || result.isDone()) publish();
+            else {
+                enableUI();
+                if (!handleException(throwable)) {
+                    logger.log(Level.SEVERE, "Error loading data", throwable);
+                    ExceptionDialog.show(owner, throwable);
+                }
+                result.completeExceptionally(throwable);
+            }
+        }
+
+        private void enableUI() {
+            if (!uiEnabled) {
+                uiEnabled = true;
+                queue.clear();
+                statusIndicator.enableUI();
+            }
+        }
+    }
+}
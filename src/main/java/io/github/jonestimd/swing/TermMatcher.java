@@ -0,0 +1,183 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * Finds occurrences of a set of terms in a string using an Aho-Corasick automaton, so the string is scanned once
+ * regardless of the number of terms.  Matching ignores case and overlapping matches are combined.
+ */
+public class TermMatcher {
+    private static final int[] NO_MATCHES = new int[0];
+    private final List<String> terms;
+    private final Node root = new Node();
+    private int[] buffer = NO_MATCHES;
+
+    /**
+     * Compile the automaton for a set of terms.
+     * @param terms the terms to match (empty terms are ignored)
+     */
+    public TermMatcher(Collection<String> terms) {
+        this.terms = Collections.unmodifiableList(new ArrayList<>(terms));
+        for (String term : terms) {
+            addTerm(term);
+        }
+        linkFailures();
+    }
+
+    private void addTerm(String term) {
+        Node node = root;
+        for (int i = 0; i < term.length(); i++) {
+            node = node.addChild(Character.toLowerCase(term.charAt(i)));
+        }
+        node.matchLength = Math.max(node.matchLength, term.length());
+    }
+
+    private void linkFailures() {
+        Queue<Node> queue = new ArrayDeque<>();
+        for (Node child : root.children) {
+            child.failure = root;
+            queue.add(child);
+        }
+        while (! queue.isEmpty()) {
+            Node node = queue.remove();
+            for (int i = 0; i < node.chars.length; i++) {
+                Node child = node.children[i];
+                child.failure = root.next(node.failure, node.chars[i]);
+                child.matchLength = Math.max(child.matchLength, child.failure.matchLength);
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * @return the terms used to build this matcher
+     */
+    public List<String> getTerms() {
+        return terms;
+    }
+
+    /**
+     * @return true if this matcher was built from the same terms in the same order
+     */
+    public boolean hasTerms(Collection<String> terms) {
+        if (terms.size() != this.terms.size()) {
+            return false;
+        }
+        Iterator<String> iterator = terms.iterator();
+        for (String term : this.terms) {
+            if (! term.equals(iterator.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Find the occurrences of the terms in a string.  The working buffer is reused between calls, so a matcher
+     * must not be shared between threads.
+     * @param value the string to search
+     * @return pairs of start (inclusive) and end (exclusive) indexes of the matches in ascending order
+     */
+    public int[] findMatches(String value) {
+        int[] bounds = buffer;
+        int count = 0;
+        Node node = root;
+        for (int i = 0; i < value.length(); i++) {
+            node = root.next(node, Character.toLowerCase(value.charAt(i)));
+            if (node.matchLength > 0) {
+                if (count + 2 > bounds.length) {
+                    bounds = buffer = Arrays.copyOf(bounds, Math.max(count + 2, bounds.length * 2));
+                }
+                int start = i + 1 - node.matchLength;
+                while (count > 0 && bounds[count - 1] > start) {
+                    start = Math.min(start, bounds[count - 2]);
+                    count -= 2;
+                }
+                bounds[count++] = start;
+                bounds[count++] = i + 1;
+            }
+        }
+        return count == 0 ? NO_MATCHES : Arrays.copyOf(bounds, count);
+    }
+
+    private static class Node {
+        private char[] chars = new char[0];
+        private Node[] children = new Node[0];
+        private Node failure;
+        /** the length of the longest term that ends at this node */
+        private int matchLength;
+
+        private Node child(char ch) {
+            int index = Arrays.binarySearch(chars, ch);
+            return index < 0 ? null : children[index];
+        }
+
+        private Node addChild(char ch) {
+            int index = Arrays.binarySearch(chars, ch);
+            if (index >= 0) {
+                return children[index];
+            }
+            index = -index - 1;
+            Node child = new Node();
+            chars = insert(chars, index, ch);
+            children = insert(children, index, child);
+            return child;
+        }
+
+        /**
+         * Follow the failure links from {@code node} to find the transition for {@code ch}.  Must be called on the
+         * root node.
+         */
+        private Node next(Node node, char ch) {
+            Node next;
+            while ((next = node.child(ch)) == null && node != this) {
+                node = node.failure;
+            }
+            return next == null ? this : next;
+        }
+
+        private static char[] insert(char[] array, int index, char value) {
+            char[] result = new char[array.length + 1];
+            System.arraycopy(array, 0, result, 0, index);
+            result[index] = value;
+            System.arraycopy(array, index, result, index + 1, array.length - index);
+            return result;
+        }
+
+        private static Node[] insert(Node[] array, int index, Node value) {
+            Node[] result = new Node[array.length + 1];
+            System.arraycopy(array, 0, result, 0, index);
+            result[index] = value;
+            System.arraycopy(array, index, result, index + 1, array.length - index);
+            return result;
+        }
+    }
+}
@@ -23,6 +23,8 @@ package io.github.jonestimd.swing.component;
 
 import java.awt.Color;
 import java.awt.event.KeyEvent;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 import java.util.PrimitiveIterator.OfInt;
 import java.util.ResourceBundle;
@@ -32,17 +34,21 @@ import java.util.stream.IntStream;
 
 import javax.swing.JTextPane;
 import javax.swing.event.CaretEvent;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import javax.swing.text.BadLocationException;
 import javax.swing.text.DefaultHighlighter.DefaultHighlightPainter;
+import javax.swing.text.Document;
+import javax.swing.text.Element;
 import javax.swing.text.Highlighter.HighlightPainter;
 import javax.swing.text.MutableAttributeSet;
 import javax.swing.text.Style;
 import javax.swing.text.StyleConstants;
 
 import io.github.jonestimd.swing.ComponentResources;
-import io.github.jonestimd.swing.DocumentConsumerAdapter;
 import io.github.jonestimd.swing.SwingResource;
 import io.github.jonestimd.swing.filter.BasicFilterParser;
+import io.github.jonestimd.swing.filter.FilterCache;
 import io.github.jonestimd.swing.filter.FilterParser;
 import io.github.jonestimd.swing.filter.FilterSource;
 import io.github.jonestimd.swing.table.sort.BeanModelRowSorter;
@@ -61,6 +67,8 @@ import io.github.jonestimd.util.Streams;
  *   <li>and: &amp;</li>
  *   <li>or: | (displayed as &#x2502;)</li>
  * </ul>
+ * <p>The positions of the operators are tracked as the document changes, so parsing the filter and matching
+ * parentheses don't require querying the document for the attributes of each character.</p>
  * <p>This component can be used with a {@link BeanModelRowSorter} to filter the rows displayed in a table.</p>
  * @param <T> the parameter type of the parsed predicate
  */
@@ -80,6 +88,10 @@ public class FilterField<T> extends JTextPane implements FilterSource {
     private final String operatorSymbols;
     private final char groupStart;
     private final char groupEnd;
+    private String filterText = "";
+    /** sorted indexes of the operator characters */
+    private int[] operators = new int[8];
+    private int operatorCount;
 
     /**
      * Construct a filter field using the specified {@code filterParser}.
@@ -98,7 +110,7 @@ public class FilterField<T> extends JTextPane implements FilterSource {
         StyleConstants.setBold(boldStyle, true);
         StyleConstants.setForeground(boldStyle, Color.BLUE);
         addCaretListener(this::caretUpdate);
-        getDocument().addDocumentListener(new DocumentConsumerAdapter(this::updateFilter));
+        getDocument().addDocumentListener(new OperatorTracker());
     }
 
     private void caretUpdate(CaretEvent event) {
@@ -107,13 +119,14 @@ public class FilterField<T> extends JTextPane implements FilterSource {
             highlightKey = null;
         }
         int dot = event.getDot();
-        if (dot > 0) {
+        int index = dot > 0 ? Arrays.binarySearch(operators, 0, operatorCount, dot - 1) : -1;
+        if (index >= 0) {
             try {
-                if (getText(dot - 1, 1).equals("(") && isOperator(dot - 1)) {
-                    highlight(IntStream.range(dot, getText().length()).iterator(), groupEnd, groupStart);
+                if (filterText.charAt(dot - 1) == groupStart) {
+                    highlight(IntStream.range(index + 1, operatorCount).iterator(), groupEnd, groupStart);
                 }
-                else if (getText(dot - 1, 1).equals(")") && isOperator(dot - 1)) {
-                    highlight(Streams.reverseRange(dot - 1, 0).iterator(), groupStart, groupEnd);
+                else if (filterText.charAt(dot - 1) == groupEnd) {
+                    highlight(Streams.reverseRange(index, 0).iterator(), groupStart, groupEnd);
                 }
             } catch (BadLocationException e) {
                 throw new RuntimeException(e);
@@ -121,7 +134,7 @@ public class FilterField<T> extends JTextPane implements FilterSource {
         }
     }
 
-    private void updateFilter(String text) {
+    private void updateFilter() {
         setToolTipText(null);
         try {
             predicate = filterParser.parse(this);
@@ -137,17 +150,16 @@ public class FilterField<T> extends JTextPane implements FilterSource {
 
     /**
      * Highlight the matching parenthesis.
-     * @param iterator character indexes to search for the match
+     * @param iterator indexes into the operator positions to search for the match
      * @param highlight parenthesis to find and highlight
      * @param pair opposing parenthesis
      */
     private void highlight(OfInt iterator, char highlight, char pair) throws BadLocationException {
         int depth = 0;
-        String text = getText();
         while (iterator.hasNext()) {
-            int i = iterator.nextInt();
-            if (text.charAt(i) == pair && isOperator(i)) depth++;
-            else if (text.charAt(i) == highlight && isOperator(i) && depth-- == 0) {
+            int i = operators[iterator.nextInt()];
+            if (filterText.charAt(i) == pair) depth++;
+            else if (filterText.charAt(i) == highlight && depth-- == 0) {
                 highlightKey = getHighlighter().addHighlight(i, i + 1, highlightPainter);
                 break;
             }
@@ -156,7 +168,52 @@ public class FilterField<T> extends JTextPane implements FilterSource {
 
     @Override
     public boolean isOperator(int index) {
-        return StyleConstants.isBold(getStyledDocument().getCharacterElement(index).getAttributes());
+        return Arrays.binarySearch(operators, 0, operatorCount, index) >= 0;
+    }
+
+    @Override
+    public BitSet getOperators() {
+        BitSet bitSet = new BitSet(filterText.length());
+        for (int i = 0; i < operatorCount; i++) {
+            bitSet.set(operators[i]);
+        }
+        return bitSet;
+    }
+
+    /**
+     * @return the index of the first operator at or after {@code offset}
+     */
+    private int firstOperator(int offset) {
+        int index = Arrays.binarySearch(operators, 0, operatorCount, offset);
+        return index < 0 ? -index - 1 : index;
+    }
+
+    /**
+     * Replace the operator positions in {@code [from, to)} with the bold characters in the specified range of the
+     * document.
+     */
+    private void replaceOperators(int from, int to, int startOffset, int endOffset) {
+        int[] positions = new int[endOffset - startOffset];
+        int count = 0;
+        for (int offset = startOffset; offset < endOffset; ) {
+            Element element = getStyledDocument().getCharacterElement(offset);
+            int elementEnd = Math.min(endOffset, element.getEndOffset());
+            if (StyleConstants.isBold(element.getAttributes())) {
+                while (offset < elementEnd) positions[count++] = offset++;
+            }
+            offset = elementEnd;
+        }
+        int newCount = operatorCount - (to - from) + count;
+        if (newCount > operators.length) operators = Arrays.copyOf(operators, Math.max(newCount, operators.length * 2));
+        System.arraycopy(operators, to, operators, from + count, operatorCount - to);
+        System.arraycopy(positions, 0, operators, from, count);
+        operatorCount = newCount;
+    }
+
+    private void shiftOperators(int from, int delta) {
+        for (int i = from; i < operatorCount; i++) {
+            operators[i] += delta;
+        }
     }
 
     @Override
@@ -204,6 +261,52 @@ public class FilterField<T> extends JTextPane implements FilterSource {
         return new Builder<>(new BasicFilterParser<>(predicateFactory));
     }
 
+    /**
+     * Create a builder for a filter field that shares parsed filters with other fields using the same cache.
+     */
+    public static <T> Builder<T> builder(FilterCache<T> filterCache) {
+        return new Builder<>(filterCache.newParser());
+    }
+
+    /**
+     * Updates the operator positions and the filter text when the document changes and then updates the filter.
+     */
+    private class OperatorTracker implements DocumentListener {
+        @Override
+        public void insertUpdate(DocumentEvent e) {
+            int from = firstOperator(e.getOffset());
+            shiftOperators(from, e.getLength());
+            replaceOperators(from, from, e.getOffset(), e.getOffset() + e.getLength());
+            documentChanged(e.getDocument());
+        }
+
+        @Override
+        public void removeUpdate(DocumentEvent e) {
+            int from = firstOperator(e.getOffset());
+            int to = firstOperator(e.getOffset() + e.getLength());
+            shiftOperators(to, -e.getLength());
+            replaceOperators(from, to, e.getOffset(), e.getOffset());
+            documentChanged(e.getDocument());
+        }
+
+        @Override
+        public void changedUpdate(DocumentEvent e) {
+            int from = firstOperator(e.getOffset());
+            int to = firstOperator(e.getOffset() + e.getLength());
+            replaceOperators(from, to, e.getOffset(), e.getOffset() + e.getLength());
+            documentChanged(e.getDocument());
+        }
+
+        private void documentChanged(Document document) {
+            try {
+                filterText = document.getText(0, document.getLength());
+            } catch (BadLocationException ex) {
+                throw new RuntimeException(ex);
+            }
+            updateFilter();
+        }
+    }
+
     public static class Builder<T> {
         private final FilterParser<T> filterParser;
         private ResourceBundle bundle = ComponentResources.BUNDLE;
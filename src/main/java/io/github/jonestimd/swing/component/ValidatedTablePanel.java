@@ -105,7 +105,7 @@ public abstract class ValidatedTablePanel<T> extends ValidatedPanel {
             }
         });
         tableModel.addTableModelListener(event -> {
-            UnsavedChangesIndicator indicator = ComponentTreeUtils.findAncestor(ValidatedTablePanel.this, UnsavedChangesIndicator.class);
+            UnsavedChangesIndicator indicator = ComponentTreeUtils.findCachedAncestor(ValidatedTablePanel.this, UnsavedChangesIndicator.class);
             if (indicator != null) { // table may not be visible
                 indicator.setUnsavedChanges(tableModel.isChanged());
             }
@@ -22,6 +22,7 @@
 package io.github.jonestimd.swing.filter;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
@@ -40,7 +41,9 @@ import io.github.jonestimd.swing.SwingResource;
  *   <li>and: &amp;</li>
  *   <li>or: &#x2502;</li>
  * </ul>
- * <strong>Note:</strong>  This class is not thread safe.  It is intended for use on the Swing event thread.
+ * <p>{@link #parseFilter(FilterSource)} is reentrant, so the parser can be shared (e.g. by a {@link FilterCache}) as
+ * long as the predicate factory is stateless.  {@link #parse(FilterSource)} also saves the terms for
+ * {@link #getTerms()}, so it is intended for use by a single component on the Swing event thread.</p>
  */
 public class BasicFilterParser<T> implements FilterParser<T> {
     private static final char AND = SwingResource.FILTER_OPERATOR_SYMBOL_AND.getChar();
@@ -49,10 +52,7 @@ public class BasicFilterParser<T> implements FilterParser<T> {
     private static final char GROUP_START = SwingResource.FILTER_OPERATOR_SYMBOL_GROUP_START.getChar();
     private static final char GROUP_END = SwingResource.FILTER_OPERATOR_SYMBOL_GROUP_END.getChar();
     private final Function<String, Predicate<T>> predicateFactory;
-    private final StringBuilder buffer = new StringBuilder();
-    private List<Operation<T>> stack = new LinkedList<>();
-    private Predicate<T> groupTerm;
-    private final List<String> terms = new ArrayList<>();
+    private List<String> terms = Collections.emptyList();
 
     /**
      * Construct a parser.
@@ -63,76 +63,93 @@ public class BasicFilterParser<T> implements FilterParser<T> {
     }
 
     public Predicate<T> parse(FilterSource source) {
-        terms.clear();
-        buffer.setLength(0);
-        stack.clear();
-        groupTerm = null;
-        String text = source.getText();
-        for (int i = 0; i < text.length(); i++) {
-            if (source.isOperator(i)) {
-                if (text.charAt(i) == AND) squashStack(Operator.And);
-                else if (text.charAt(i) == OR) squashStack(Operator.Or);
-                else if (text.charAt(i) == NOT) stack.add(0, Operation.not());
-                else if (text.charAt(i) == GROUP_START) stack.add(0, Operation.group());
-                else if (text.charAt(i) == GROUP_END) closeParenthesis();
-                else throw new IllegalArgumentException("unknown operator: " + text.charAt(i));
+        terms = Collections.emptyList();
+        ParsedFilter<T> filter = parseFilter(source);
+        terms = filter.getTerms();
+        return filter.getPredicate();
+    }
+
+    /**
+     * Parse the filter text without updating the state of this parser.
+     * @return the predicate and terms of the parsed filter text
+     */
+    public ParsedFilter<T> parseFilter(FilterSource source) {
+        return new Parser().parse(source.getText(), source.getOperators());
+    }
+
+    @Override
+    public List<String> getTerms() {
+        return terms;
+    }
+
+    /**
+     * Holds the state of a single parse.
+     */
+    private class Parser {
+        private final StringBuilder buffer = new StringBuilder();
+        private final List<Operation<T>> stack = new LinkedList<>();
+        private Predicate<T> groupTerm;
+        private final List<String> terms = new ArrayList<>();
+
+        public ParsedFilter<T> parse(String text, BitSet operators) {
+            int start = 0;
+            for (int i = operators.nextSetBit(0); i >= 0 && i < text.length(); i = operators.nextSetBit(i + 1)) {
+                buffer.append(text, start, i);
+                char operator = text.charAt(i);
+                if (operator == AND) squashStack(Operator.And);
+                else if (operator == OR) squashStack(Operator.Or);
+                else if (operator == NOT) stack.add(0, Operation.not());
+                else if (operator == GROUP_START) stack.add(0, Operation.group());
+                else if (operator == GROUP_END) closeParenthesis();
+                else throw new IllegalArgumentException("unknown operator: " + operator);
+                start = i + 1;
             }
-            else {
-                buffer.append(text.charAt(i));
+            buffer.append(text, start, text.length());
+            if (buffer.toString().trim().isEmpty() && groupTerm == null && stack.isEmpty()) {
+                return new ParsedFilter<>(null, terms);
             }
+            Predicate<T> predicate = getTerm();
+            while (! stack.isEmpty()) predicate = pop(predicate);
+            return new ParsedFilter<>(predicate, terms);
         }
-        if (buffer.toString().trim().isEmpty() && groupTerm == null && stack.isEmpty()) return null;
-        Predicate<T> predicate = getTerm();
-        while (! stack.isEmpty()) predicate = pop(predicate);
-        return predicate;
-    }
 
-    private void closeParenthesis() {
-        Predicate<T> term = getTerm();
-        while (! stack.isEmpty()) {
-            Operation<T> operation = stack.remove(0);
-            if (operation.operator == Operator.Group) {
-                groupTerm = term;
-                return;
+        private void closeParenthesis() {
+            Predicate<T> term = getTerm();
+            while (! stack.isEmpty()) {
+                Operation<T> operation = stack.remove(0);
+                if (operation.operator == Operator.Group) {
+                    groupTerm = term;
+                    return;
+                }
+                term = operation.apply(term);
             }
-            term = operation.apply(term);
+            throw new IllegalStateException("unexpected ')'");
         }
-        throw newParseException("unexpected ')'");
-    }
 
-    private Predicate<T> getTerm() {
-        String value = buffer.toString().trim();
-        if (! value.isEmpty()) {
-            if (groupTerm != null) throw newParseException("missing operator");
-            buffer.setLength(0);
-            terms.add(value);
-            return predicateFactory.apply(value);
-        }
-        if (groupTerm != null) {
-            Predicate<T> term = groupTerm;
-            groupTerm = null;
-            return term;
+        private Predicate<T> getTerm() {
+            String value = buffer.toString().trim();
+            if (! value.isEmpty()) {
+                if (groupTerm != null) throw new IllegalStateException("missing operator");
+                buffer.setLength(0);
+                terms.add(value);
+                return predicateFactory.apply(value);
+            }
+            if (groupTerm != null) {
+                Predicate<T> term = groupTerm;
+                groupTerm = null;
+                return term;
+            }
+            throw new IllegalStateException("missing term");
         }
-        throw newParseException("missing term");
-    }
-
-    private IllegalStateException newParseException(String s) {
-        terms.clear();
-        return new IllegalStateException(s);
-    }
 
-    private void squashStack(Operator operator) {
-        Predicate<T> leftTerm = getTerm();
-        while (! stack.isEmpty() && stack.get(0).operator.precedes(operator)) leftTerm = pop(leftTerm);
-        stack.add(0, operator.operateOn(leftTerm));
-    }
-
-    private Predicate<T> pop(Predicate<T> term) {
-        return stack.remove(0).apply(term);
-    }
+        private void squashStack(Operator operator) {
+            Predicate<T> leftTerm = getTerm();
+            while (! stack.isEmpty() && stack.get(0).operator.precedes(operator)) leftTerm = pop(leftTerm);
+            stack.add(0, operator.operateOn(leftTerm));
+        }
 
-    @Override
-    public List<String> getTerms() {
-        return Collections.unmodifiableList(terms);
+        private Predicate<T> pop(Predicate<T> term) {
+            return stack.remove(0).apply(term);
+        }
     }
 }
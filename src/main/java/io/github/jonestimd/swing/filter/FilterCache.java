@@ -0,0 +1,164 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing.filter;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A least recently used cache of parsed filters.  The cache is keyed by the filter text and the operator positions,
+ * so a cache hit skips parsing and predicate construction.  A cache can be shared by multiple filter fields by
+ * creating a parser for each field using {@link #newParser()}.
+ * <p>The predicates are shared by all of the users of the cache, so the predicate factory must be stateless.</p>
+ * @param <T> the parameter type of the parsed predicates
+ */
+public class FilterCache<T> {
+    private final BasicFilterParser<T> parser;
+    private final Map<Key, ParsedFilter<T>> cache;
+
+    /**
+     * Create a cache that uses a {@link BasicFilterParser}.
+     * @param maxSize the maximum number of parsed filters to keep
+     * @param predicateFactory a function for creating a predicate for a single term
+     */
+    public FilterCache(int maxSize, Function<String, Predicate<T>> predicateFactory) {
+        this(maxSize, new BasicFilterParser<>(predicateFactory));
+    }
+
+    /**
+     * @param maxSize the maximum number of parsed filters to keep
+     * @param parser the parser to use for cache misses
+     */
+    public FilterCache(int maxSize, BasicFilterParser<T> parser) {
+        this.parser = parser;
+        this.cache = new LinkedHashMap<Key, ParsedFilter<T>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Entry<Key, ParsedFilter<T>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Get the parsed filter for the filter text, parsing the text if it is not in the cache.  Invalid filter text is
+     * not cached.
+     * @return the parsed filter
+     */
+    public ParsedFilter<T> parse(FilterSource source) {
+        Key key = new Key(source.getText(), source.getOperators());
+        synchronized (cache) {
+            ParsedFilter<T> filter = cache.get(key);
+            if (filter != null) return filter;
+        }
+        ParsedFilter<T> filter = parser.parseFilter(key);
+        synchronized (cache) {
+            cache.put(key, filter);
+        }
+        return filter;
+    }
+
+    /**
+     * @return the number of parsed filters in the cache
+     */
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * Remove all parsed filters from the cache.
+     */
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Create a parser that uses this cache.  Each {@link FilterParser} keeps the terms of its last parsed filter, so
+     * a separate parser is required for each filter field.
+     */
+    public FilterParser<T> newParser() {
+        return new FilterParser<T>() {
+            private List<String> terms = Collections.emptyList();
+
+            @Override
+            public Predicate<T> parse(FilterSource source) {
+                terms = Collections.emptyList();
+                ParsedFilter<T> filter = FilterCache.this.parse(source);
+                terms = filter.getTerms();
+                return filter.getPredicate();
+            }
+
+            @Override
+            public List<String> getTerms() {
+                return terms;
+            }
+        };
+    }
+
+    private static class Key implements FilterSource {
+        private final String text;
+        private final BitSet operators;
+
+        public Key(String text, BitSet operators) {
+            this.text = text;
+            this.operators = operators;
+        }
+
+        @Override
+        public String getText() {
+            return text;
+        }
+
+        @Override
+        public boolean isOperator(int index) {
+            return operators.get(index);
+        }
+
+        @Override
+        public BitSet getOperators() {
+            return operators;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return text.equals(key.text) && operators.equals(key.operators);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(text, operators);
+        }
+    }
+}
@@ -21,6 +21,8 @@
 // SOFTWARE.
 package io.github.jonestimd.swing.filter;
 
+import java.util.BitSet;
+
 /**
  * An interface for a component that provides text to be parsed by a {@link FilterParser}.  The {@link #isOperator(int)}
  * method is used to determine where to divide the filter text into terms and what logical operators are contained
@@ -37,4 +39,19 @@ public interface FilterSource {
      * @return true if the character at {@code index} is an operator or false if it is part of a filter term
      */
     boolean isOperator(int index);
+
+    /**
+     * Get the positions of all of the operators in the raw filter text.  The default implementation calls
+     * {@link #isOperator(int)} for each character.  Implementations that track the operator positions should override
+     * this method.
+     * @return the indexes of the operator characters in the raw filter text
+     */
+    default BitSet getOperators() {
+        String text = getText();
+        BitSet operators = new BitSet(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            if (isOperator(i)) operators.set(i);
+        }
+        return operators;
+    }
 }
@@ -0,0 +1,59 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing.filter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * The result of parsing filter text.
+ * @param <T> the parameter type of the predicate
+ */
+public class ParsedFilter<T> {
+    private final Predicate<T> predicate;
+    private final List<String> terms;
+
+    /**
+     * @param predicate the parsed predicate ({@code null} for blank filter text)
+     * @param terms the terms of the parsed predicate
+     */
+    public ParsedFilter(Predicate<T> predicate, List<String> terms) {
+        this.predicate = predicate;
+        this.terms = Collections.unmodifiableList(new ArrayList<>(terms));
+    }
+
+    /**
+     * @return the parsed predicate or {@code null} if the filter text was blank
+     */
+    public Predicate<T> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * @return the individual terms of the parsed predicate
+     */
+    public List<String> getTerms() {
+        return terms;
+    }
+}
@@ -26,7 +26,8 @@ import java.math.BigDecimal;
 import java.text.Format;
 
 /**
- * A table cell renderer that uses different colors for positive and negative numbers.
+ * A table cell renderer that uses different colors for positive and negative numbers.  Supports {@link BigDecimal}
+ * and the boxed values of primitive column adapters.
  */
 public class CurrencyTableCellRenderer extends FormatTableCellRenderer {
     private final Color positiveColor;
@@ -50,11 +51,18 @@ public class CurrencyTableCellRenderer extends FormatTableCellRenderer {
 
     protected void setValue(Object value) {
         super.setValue(value);
-        if (value != null && ((BigDecimal) value).signum() < 0) {
+        if (isNegative(value)) {
             setForeground(negativeColor);
         }
         else {
             setForeground(positiveColor);
         }
     }
+
+    private static boolean isNegative(Object value) {
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).signum() < 0;
+        }
+        return value instanceof Number && ((Number) value).doubleValue() < 0d;
+    }
 }
\ No newline at end of file
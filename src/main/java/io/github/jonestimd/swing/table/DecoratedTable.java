@@ -24,6 +24,8 @@ package io.github.jonestimd.swing.table;
 import java.awt.Color;
 import java.awt.Component;
 import java.awt.Dimension;
+import java.awt.Point;
+import java.awt.Rectangle;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
@@ -42,11 +44,16 @@ import javax.swing.JComponent;
 import javax.swing.JFormattedTextField;
 import javax.swing.JLabel;
 import javax.swing.JTable;
+import javax.swing.JViewport;
 import javax.swing.KeyStroke;
 import javax.swing.RowSorter.SortKey;
+import javax.swing.SwingUtilities;
 import javax.swing.UIManager;
 import javax.swing.border.Border;
 import javax.swing.border.EmptyBorder;
+import javax.swing.event.ChangeListener;
+import javax.swing.event.RowSorterEvent;
+import javax.swing.event.TableModelEvent;
 import javax.swing.plaf.TableUI;
 import javax.swing.plaf.UIResource;
 import javax.swing.table.JTableHeader;
@@ -74,6 +81,7 @@ import io.github.jonestimd.swing.table.model.ColumnIdentifier;
  *              <li>use initial text key for item selection in combo box cell editor</li>
  *              <li>stop editing on {@code ENTER} and remain on current cell</li>
  *         </ul>
+ *     <li>optionally notify the model of the rows in the viewport (see {@link #setPrefetchMargin(int)})</li>
  * </ul>
  */
 public class DecoratedTable<Bean, Model extends BeanTableModel<Bean>> extends JTable {
@@ -81,6 +89,12 @@ public class DecoratedTable<Bean, Model extends BeanTableModel<Bean>> extends JT
     private Color evenBackground;
     private Color oddBackground;
     private int headerRows;
+    private boolean prefetchEnabled;
+    private int prefetchMargin;
+    private boolean prefetchScheduled;
+    private int prefetchFirstRow = -1;
+    private int prefetchLastRow = -1;
+    private final ChangeListener viewportListener = event -> schedulePrefetch();
 
     public DecoratedTable(Model dm) {
         super(dm);
@@ -130,6 +144,92 @@ public class DecoratedTable<Bean, Model extends BeanTableModel<Bean>> extends JT
         if (setSortKeys) getRowSorter().setSortKeys(sortKeys);
     }
 
+    /**
+     * Enable notification of the model when rows are scrolled into view (see {@link BeanTableModel#prefetchRows(int...)}).
+     * The model is notified of the visible rows plus {@code margin} rows before and after them.  The model is not
+     * notified again until rows outside of the previous window become visible or the rows of the table change.
+     * @param margin the number of rows to include before and after the visible rows or a negative value to disable
+     *        notification
+     */
+    public void setPrefetchMargin(int margin) {
+        this.prefetchEnabled = margin >= 0;
+        this.prefetchMargin = Math.max(margin, 0);
+        resetPrefetchWindow();
+    }
+
+    /**
+     * @return the number of rows to include before and after the visible rows or -1 if prefetch is disabled.
+     */
+    public int getPrefetchMargin() {
+        return prefetchEnabled ? prefetchMargin : -1;
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        if (getParent() instanceof JViewport) {
+            ((JViewport) getParent()).addChangeListener(viewportListener);
+        }
+    }
+
+    @Override
+    public void removeNotify() {
+        if (getParent() instanceof JViewport) {
+            ((JViewport) getParent()).removeChangeListener(viewportListener);
+        }
+        super.removeNotify();
+    }
+
+    /**
+     * Overridden to notify the model of the visible rows when the rows change.
+     */
+    @Override
+    public void tableChanged(TableModelEvent event) {
+        super.tableChanged(event);
+        if (event.getType() != TableModelEvent.UPDATE || event.getLastRow() == Integer.MAX_VALUE) resetPrefetchWindow();
+    }
+
+    /**
+     * Overridden to notify the model of the visible rows when the row order changes.
+     */
+    @Override
+    public void sorterChanged(RowSorterEvent event) {
+        super.sorterChanged(event);
+        resetPrefetchWindow();
+    }
+
+    private void resetPrefetchWindow() {
+        prefetchFirstRow = -1;
+        prefetchLastRow = -1;
+        schedulePrefetch();
+    }
+
+    private void schedulePrefetch() {
+        if (prefetchEnabled && !prefetchScheduled) {
+            prefetchScheduled = true;
+            SwingUtilities.invokeLater(this::prefetchVisibleRows);
+        }
+    }
+
+    /**
+     * Notify the model of the visible rows if they are not in the previous prefetch window.
+     */
+    public void prefetchVisibleRows() {
+        prefetchScheduled = false;
+        Rectangle visibleRect = getVisibleRect();
+        int rowCount = getRowCount();
+        if (prefetchEnabled && rowCount > 0 && !visibleRect.isEmpty()) {
+            int firstVisible = Math.max(rowAtPoint(visibleRect.getLocation()), 0);
+            int lastVisible = rowAtPoint(new Point(visibleRect.x, visibleRect.y + visibleRect.height - 1));
+            if (lastVisible < 0) lastVisible = rowCount - 1;
+            if (firstVisible < prefetchFirstRow || lastVisible > prefetchLastRow) {
+                prefetchFirstRow = Math.max(firstVisible - prefetchMargin, 0);
+                prefetchLastRow = Math.min(lastVisible + prefetchMargin, rowCount - 1);
+                getModel().prefetchRows(IntStream.rangeClosed(prefetchFirstRow, prefetchLastRow).map(this::convertRowIndexToModel).toArray());
+            }
+        }
+    }
+
     /**
      * Overridden to set background colors.
      */
@@ -21,36 +21,158 @@
 // SOFTWARE.
 package io.github.jonestimd.swing.table;
 
+import java.awt.Color;
 import java.awt.Component;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Insets;
+import java.awt.Rectangle;
 import java.util.Collection;
 import java.util.Collections;
 
+import javax.swing.Icon;
 import javax.swing.JTable;
+import javax.swing.SwingUtilities;
 import javax.swing.table.DefaultTableCellRenderer;
 
+import io.github.jonestimd.swing.CachedHtmlHighlighter;
+import io.github.jonestimd.swing.ClientProperty;
 import io.github.jonestimd.swing.ComponentTreeUtils;
 import io.github.jonestimd.swing.HighlightText;
+import io.github.jonestimd.swing.HtmlHighlighter;
+import io.github.jonestimd.swing.TermMatcher;
 
 /**
  * A table cell renderer that highlights substrings within the cell value.  An ancestor component that implements
  * {@link HighlightText} is used to provide the substrings to be highlighted.
+ * <p>
+ * By default, the {@link Highlighter} is used to convert the value to HTML.  If a highlight color is set, then the
+ * value is displayed as plain text and the matching substrings are highlighted by painting rectangles behind the
+ * text, which avoids creating an HTML view for each rendered cell.  The highlight color can be set on the renderer or
+ * on the table using the {@link ClientProperty#HIGHLIGHT_COLOR} client property.
  */
 public class HighlightTableCellRenderer extends DefaultTableCellRenderer {
+    private static final int[] NO_MATCHES = new int[0];
+    private static final String ELLIPSIS = "...";
     private final Highlighter highlighter;
     private Collection<String> highlightText;
+    private Color highlightColor;
+    private Color paintColor;
+    private TermMatcher matcher;
+    private int[] matches = NO_MATCHES;
+    private char[] chars = new char[0];
+    private Font metricsFont;
+    private FontMetrics fontMetrics;
+    private final Rectangle viewRect = new Rectangle();
+    private final Rectangle iconRect = new Rectangle();
+    private final Rectangle textRect = new Rectangle();
 
+    /**
+     * @param highlighter the highlighter to use for generating HTML.  An {@link HtmlHighlighter} is replaced with a
+     *        {@link CachedHtmlHighlighter} for this renderer, so that repainting a cell doesn't repeat the search.
+     */
     public HighlightTableCellRenderer(Highlighter highlighter) {
-        this.highlighter = highlighter;
+        this.highlighter = highlighter.getClass() == HtmlHighlighter.class ? ((HtmlHighlighter) highlighter).cached() : highlighter;
+    }
+
+    /**
+     * Set the color to use for painting highlights.
+     * @param highlightColor the highlight color or {@code null} to use the table's
+     *        {@link ClientProperty#HIGHLIGHT_COLOR} or the {@link Highlighter}
+     */
+    public void setHighlightColor(Color highlightColor) {
+        this.highlightColor = highlightColor;
+        this.paintColor = highlightColor;
+    }
+
+    public Color getHighlightColor() {
+        return highlightColor;
     }
 
     @Override
     public Component getTableCellRendererComponent(JTable table, Object value, boolean isSelected, boolean hasFocus, int row, int column) {
-        HighlightText highlightSource = ComponentTreeUtils.findAncestor(table, HighlightText.class);
+        HighlightText highlightSource = ComponentTreeUtils.findCachedAncestor(table, HighlightText.class);
         this.highlightText = highlightSource != null ? highlightSource.getHighlightText() : Collections.emptyList();
+        this.paintColor = highlightColor != null ? highlightColor : (Color) table.getClientProperty(ClientProperty.HIGHLIGHT_COLOR);
         return super.getTableCellRendererComponent(table, value, isSelected, hasFocus, row, column);
     }
 
     protected void setValue(Object value) {
-        super.setValue(value == null ? null : highlighter.highlight(value.toString(), highlightText));
+        if (paintColor == null) {
+            super.setValue(value == null ? null : highlighter.highlight(value.toString(), highlightText));
+        }
+        else {
+            String text = value == null ? null : value.toString();
+            super.setValue(text);
+            matches = text == null || highlightText.isEmpty() || highlighter == Highlighter.NOOP_HIGHLIGHTER ? NO_MATCHES : getMatcher().findMatches(text);
+        }
+    }
+
+    private TermMatcher getMatcher() {
+        if (matcher == null || ! matcher.hasTerms(highlightText)) {
+            matcher = new TermMatcher(highlightText);
+        }
+        return matcher;
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        if (paintColor != null && matches.length > 0 && ui != null) {
+            Graphics graphics = g.create();
+            try {
+                if (isOpaque()) {
+                    graphics.setColor(getBackground());
+                    graphics.fillRect(0, 0, getWidth(), getHeight());
+                }
+                paintHighlights(graphics);
+                ui.paint(graphics, this);
+            } finally {
+                graphics.dispose();
+            }
+        }
+        else {
+            super.paintComponent(g);
+        }
+    }
+
+    /**
+     * Paint the highlight rectangles using the same layout as the label UI.  Matches in the elided part of the text
+     * are not highlighted.
+     */
+    private void paintHighlights(Graphics g) {
+        String text = getText();
+        FontMetrics metrics = getFontMetrics();
+        String clippedText = layoutText(text, metrics);
+        int visibleLength = clippedText.equals(text) ? text.length() : Math.max(0, clippedText.length() - ELLIPSIS.length());
+        if (chars.length < visibleLength) {
+            chars = new char[visibleLength];
+        }
+        text.getChars(0, visibleLength, chars, 0);
+        g.setColor(paintColor);
+        for (int i = 0; i < matches.length && matches[i] < visibleLength; i += 2) {
+            int start = matches[i];
+            int end = Math.min(matches[i + 1], visibleLength);
+            int x = textRect.x + metrics.charsWidth(chars, 0, start);
+            g.fillRect(x, textRect.y, metrics.charsWidth(chars, start, end - start), textRect.height);
+        }
+    }
+
+    private FontMetrics getFontMetrics() {
+        if (fontMetrics == null || metricsFont != getFont()) {
+            metricsFont = getFont();
+            fontMetrics = getFontMetrics(metricsFont);
+        }
+        return fontMetrics;
+    }
+
+    private String layoutText(String text, FontMetrics metrics) {
+        Insets insets = getInsets();
+        viewRect.setBounds(insets.left, insets.top, getWidth() - insets.left - insets.right, getHeight() - insets.top - insets.bottom);
+        iconRect.setBounds(0, 0, 0, 0);
+        textRect.setBounds(0, 0, 0, 0);
+        Icon icon = isEnabled() ? getIcon() : getDisabledIcon();
+        return SwingUtilities.layoutCompoundLabel(this, metrics, text, icon, getVerticalAlignment(), getHorizontalAlignment(),
+                getVerticalTextPosition(), getHorizontalTextPosition(), viewRect, iconRect, textRect, getIconTextGap());
     }
 }
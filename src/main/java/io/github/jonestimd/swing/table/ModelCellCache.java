@@ -0,0 +1,163 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing.table;
+
+import java.util.Arrays;
+
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+import javax.swing.table.TableModel;
+
+import io.github.jonestimd.swing.table.model.EventSupportTableModel;
+
+/**
+ * Caches a value for each cell of a table model, keyed by model row and column.  The cached rows are cleared using
+ * the ranges of the {@link TableModelEvent}s fired by the model, so that a {@link TableDecorator} can save the state
+ * it uses to prepare each cell renderer.  The events of an {@link EventSupportTableModel} are received when they are
+ * fired, before they are merged or deferred.
+ * @param <T> the type of the cached values
+ */
+public class ModelCellCache<T> implements TableModelListener {
+    private static final Object NULL_VALUE = new Object();
+    private final CellLoader<T> loader;
+    private Object[][] rows;
+    private long hitCount = 0;
+    private long missCount = 0;
+
+    /**
+     * Create a cache that is not registered as a listener.  The owner of the cache must pass the events of the
+     * table model to {@link #tableChanged(TableModelEvent)} before they are delivered to other listeners.
+     * @param rowCount the current number of rows in the table model
+     * @param loader computes the value when a cell is not cached
+     */
+    public ModelCellCache(int rowCount, CellLoader<T> loader) {
+        this.loader = loader;
+        this.rows = new Object[rowCount][];
+    }
+
+    /**
+     * Create a cache and add it as a listener on the table model.
+     * @param model the table model
+     * @param loader computes the value when a cell is not cached
+     * @see EventSupportTableModel#addCacheListener(TableModelListener)
+     */
+    public ModelCellCache(TableModel model, CellLoader<T> loader) {
+        this.loader = loader;
+        this.rows = new Object[model.getRowCount()][];
+        if (model instanceof EventSupportTableModel) {
+            ((EventSupportTableModel) model).addCacheListener(this);
+        }
+        else model.addTableModelListener(this);
+    }
+
+    /**
+     * Get the cached value for a cell.
+     * @param modelRow the model row index
+     * @param modelColumn the model column index
+     * @return the cached value
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int modelRow, int modelColumn) {
+        if (modelRow >= rows.length) {
+            rows = Arrays.copyOf(rows, modelRow + 1);
+        }
+        Object[] row = rows[modelRow];
+        if (row == null || modelColumn >= row.length) {
+            rows[modelRow] = row = row == null ? new Object[modelColumn + 1] : Arrays.copyOf(row, modelColumn + 1);
+        }
+        Object value = row[modelColumn];
+        if (value == null) {
+            missCount++;
+            T loaded = loader.load(modelRow, modelColumn);
+            row[modelColumn] = value = loaded == null ? NULL_VALUE : loaded;
+        }
+        else hitCount++;
+        return value == NULL_VALUE ? null : (T) value;
+    }
+
+    /**
+     * Clear the cached values for a range of rows.
+     * @param firstRow the first model row index
+     * @param lastRow the last model row index (inclusive)
+     */
+    public void clearRows(int firstRow, int lastRow) {
+        if (firstRow < rows.length) {
+            Arrays.fill(rows, firstRow, Math.min(lastRow + 1, rows.length), null);
+        }
+    }
+
+    /**
+     * Clear all cached values.
+     */
+    public void clear() {
+        rows = new Object[rows.length][];
+    }
+
+    /**
+     * @return the number of requests for a cached value.
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return the number of requests that required loading the value.
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    @Override
+    public void tableChanged(TableModelEvent event) {
+        int rowCount = ((TableModel) event.getSource()).getRowCount();
+        int firstRow = event.getFirstRow();
+        int lastRow = event.getLastRow();
+        if (firstRow == TableModelEvent.HEADER_ROW || lastRow == Integer.MAX_VALUE) {
+            rows = new Object[rowCount][];
+        }
+        else if (event.getType() == TableModelEvent.INSERT) {
+            Object[][] newRows = new Object[rowCount][];
+            int count = lastRow - firstRow + 1;
+            if (rows.length + count == rowCount) {
+                System.arraycopy(rows, 0, newRows, 0, Math.min(firstRow, rows.length));
+                System.arraycopy(rows, firstRow, newRows, lastRow + 1, Math.max(0, rows.length - firstRow));
+            }
+            rows = newRows;
+        }
+        else if (event.getType() == TableModelEvent.DELETE) {
+            Object[][] newRows = new Object[rowCount][];
+            if (rows.length - (lastRow - firstRow + 1) == rowCount) {
+                System.arraycopy(rows, 0, newRows, 0, firstRow);
+                System.arraycopy(rows, lastRow + 1, newRows, firstRow, rows.length - lastRow - 1);
+            }
+            rows = newRows;
+        }
+        else clearRows(firstRow, lastRow);
+    }
+
+    /**
+     * Computes the value for a cell.
+     */
+    public interface CellLoader<T> {
+        T load(int modelRow, int modelColumn);
+    }
+}
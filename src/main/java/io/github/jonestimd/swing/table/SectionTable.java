@@ -22,6 +22,7 @@ package io.github.jonestimd.swing.table;
 import java.awt.Color;
 import java.awt.Component;
 import java.awt.Font;
+import java.util.BitSet;
 
 import javax.swing.JTable;
 import javax.swing.UIManager;
@@ -97,6 +98,34 @@ public class SectionTable<Bean, Model extends SectionTableModel<Bean>> extends D
         return getModel().isSectionRow(convertRowIndexToModel(row));
     }
 
+    /**
+     * Find the section headers in a range of rows.
+     * @param firstRow the first view row (inclusive)
+     * @param lastRow the last view row (inclusive)
+     * @return the section header rows relative to {@code firstRow}
+     */
+    public BitSet getSectionRows(int firstRow, int lastRow) {
+        int[] modelRows = new int[lastRow - firstRow + 1];
+        int minRow = Integer.MAX_VALUE;
+        int maxRow = -1;
+        for (int i = 0; i < modelRows.length; i++) {
+            modelRows[i] = convertRowIndexToModel(firstRow + i);
+            minRow = Math.min(minRow, modelRows[i]);
+            maxRow = Math.max(maxRow, modelRows[i]);
+        }
+        if (maxRow < 0) {
+            return new BitSet();
+        }
+        BitSet modelSections = getModel().getSectionRows(minRow, maxRow);
+        BitSet sectionRows = new BitSet(modelRows.length);
+        for (int i = 0; i < modelRows.length; i++) {
+            if (modelSections.get(modelRows[i] - minRow)) {
+                sectionRows.set(i);
+            }
+        }
+        return sectionRows;
+    }
+
     @Override
     public String getUIClassID() {
         return uiClassID;
@@ -25,6 +25,7 @@ import java.awt.Component;
 import java.awt.Graphics;
 import java.awt.Point;
 import java.awt.Rectangle;
+import java.util.BitSet;
 
 import javax.swing.JComponent;
 import javax.swing.plaf.ComponentUI;
@@ -33,7 +34,10 @@ import javax.swing.table.JTableHeader;
 import javax.swing.table.TableCellRenderer;
 
 /**
- * Extends {@link BasicTableUI} to handle section tables.
+ * Extends {@link BasicTableUI} to handle section tables.  Each run of rows between section rows is painted by
+ * {@link BasicTableUI} through a graphics clipped to that run, so the cells of the section rows are never rendered
+ * individually.  Each section row is then painted once as a single cell spanning all of the columns, along with the
+ * grid lines at its edges.
  */
 public class SectionTableUI extends BasicTableUI {
     public static ComponentUI createUI(JComponent c) {
@@ -42,7 +46,6 @@ public class SectionTableUI extends BasicTableUI {
 
     @Override
     public void paint(Graphics g, JComponent c) {
-        super.paint(g, c);
         Rectangle clip = g.getClipBounds();
         Rectangle bounds = table.getBounds();
         // account for the fact that the graphics has already been translated
@@ -50,7 +53,8 @@ public class SectionTableUI extends BasicTableUI {
         bounds.x = bounds.y = 0;
 
         JTableHeader header = table.getTableHeader();
-        if (bounds.intersects(clip) && (header == null || header.getDraggedColumn() == null)) {
+        if (table.getRowCount() > 0 && table.getColumnCount() > 0 && bounds.intersects(clip)
+                && (header == null || header.getDraggedColumn() == null)) {
             Point upperLeft = clip.getLocation();
             Point lowerRight = new Point(clip.x + clip.width, clip.y + clip.height);
 
@@ -59,11 +63,67 @@ public class SectionTableUI extends BasicTableUI {
             if (rowMax == -1) {
                 rowMax = table.getRowCount()-1;
             }
-            for (int row = rowMin; row <= rowMax; row++) {
-                if (((SectionTable<?, ?>) table).isSectionRow(row)) {
-                    Rectangle cellRect = table.getCellRect(row, 0, false);
-                    cellRect.add(table.getCellRect(row, table.getColumnCount()-1, false));
-                    paintCell(g, cellRect, row);
+            BitSet sectionRows = ((SectionTable<?, ?>) table).getSectionRows(rowMin, rowMax);
+            int runStart = rowMin;
+            for (int i = sectionRows.nextSetBit(0); i >= 0; i = sectionRows.nextSetBit(i + 1)) {
+                int row = rowMin + i;
+                if (row > runStart) {
+                    paintRows(g, c, clip, runStart, row - 1);
+                }
+                paintSectionRow(g, row);
+                runStart = row + 1;
+            }
+            if (runStart <= rowMax) {
+                paintRows(g, c, clip, runStart, rowMax);
+            }
+        }
+        else {
+            super.paint(g, c);
+        }
+    }
+
+    /**
+     * Use {@link BasicTableUI} to paint a range of rows that doesn't contain any section rows.
+     */
+    private void paintRows(Graphics g, JComponent c, Rectangle clip, int firstRow, int lastRow) {
+        int top = table.getCellRect(firstRow, 0, true).y;
+        Rectangle lastRect = table.getCellRect(lastRow, 0, true);
+        Graphics rowGraphics = g.create();
+        try {
+            rowGraphics.clipRect(clip.x, top, clip.width, lastRect.y + lastRect.height - top);
+            super.paint(rowGraphics, c);
+        } finally {
+            rowGraphics.dispose();
+        }
+    }
+
+    private void paintSectionRow(Graphics g, int row) {
+        Rectangle cellRect = table.getCellRect(row, 0, false);
+        cellRect.add(table.getCellRect(row, table.getColumnCount()-1, false));
+        paintCell(g, cellRect, row);
+        paintGrid(g, row, cellRect);
+    }
+
+    /**
+     * Paint the grid lines that are not covered by the section cell.
+     */
+    private void paintGrid(Graphics g, int row, Rectangle cellRect) {
+        if (table.getShowHorizontalLines() || table.getShowVerticalLines()) {
+            Rectangle rowRect = table.getCellRect(row, 0, true);
+            rowRect.add(table.getCellRect(row, table.getColumnCount()-1, true));
+            g.setColor(table.getGridColor());
+            if (table.getShowHorizontalLines()) {
+                int y = rowRect.y + rowRect.height - 1;
+                g.drawLine(rowRect.x, y, rowRect.x + rowRect.width - 1, y);
+            }
+            if (table.getShowVerticalLines()) {
+                int bottom = rowRect.y + rowRect.height - 1;
+                if (cellRect.x > rowRect.x) {
+                    g.drawLine(rowRect.x, rowRect.y, rowRect.x, bottom);
+                }
+                int right = rowRect.x + rowRect.width - 1;
+                if (cellRect.x + cellRect.width - 1 < right) {
+                    g.drawLine(right, rowRect.y, right, bottom);
                 }
             }
         }
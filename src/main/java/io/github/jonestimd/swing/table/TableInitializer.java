@@ -21,6 +21,7 @@
 // SOFTWARE.
 package io.github.jonestimd.swing.table;
 
+import java.awt.Color;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -39,6 +40,7 @@ import javax.swing.table.TableCellRenderer;
 import javax.swing.table.TableColumn;
 import javax.swing.table.TableColumnModel;
 
+import io.github.jonestimd.swing.ClientProperty;
 import io.github.jonestimd.swing.table.action.UndoAction;
 import io.github.jonestimd.swing.table.model.BeanTableModel;
 import io.github.jonestimd.swing.table.model.ChangeBufferTableModel;
@@ -57,6 +59,7 @@ public class TableInitializer {
     private final Map<String, TableCellRenderer> columnRenderers;
     private final Map<String, Supplier<TableCellEditor>> columnEditors;
     private final BiFunction<JTable, ColumnConfiguration, ColumnWidthCalculator> columnWidthCalculatorBuilder;
+    private Color highlightColor;
 
     public TableInitializer(Map<Class<?>, TableCellRenderer> tableCellRenderers,
                             Map<Class<?>, Supplier<TableCellEditor>> tableCellEditors,
@@ -77,6 +80,16 @@ public class TableInitializer {
         this.columnWidthCalculatorBuilder = columnWidthCalculatorBuilder;
     }
 
+    /**
+     * Select how the {@link HighlightTableCellRenderer}s display highlights in the tables that are initialized.  The
+     * color is set as a client property of each table, so renderers that are shared with other tables are unchanged.
+     * @param highlightColor the color to use for painting highlights behind plain text or {@code null} to use the
+     *        HTML {@link Highlighter}s
+     */
+    public void setHighlightColor(Color highlightColor) {
+        this.highlightColor = highlightColor;
+    }
+
     private String getColumnResource(Object columnId, String resourceId) {
         if (columnId instanceof ColumnAdapter) {
             return ((ColumnAdapter<?,?>) columnId).getResource(resourceId, null);
@@ -87,6 +100,9 @@ public class TableInitializer {
     public <B, M extends BeanTableModel<B>, T extends DecoratedTable<B, M>> T initialize(final T table) {
         applyDefaultRenders(table);
         applyDefaultEditors(table);
+        if (highlightColor != null) {
+            table.putClientProperty(ClientProperty.HIGHLIGHT_COLOR, highlightColor);
+        }
         TableColumnModel columnModel = table.getColumnModel();
         columnModel.addColumnModelListener(new TableColumnModelListener() {
             public void columnSelectionChanged(ListSelectionEvent e) {
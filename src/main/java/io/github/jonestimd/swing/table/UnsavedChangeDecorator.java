@@ -22,24 +22,36 @@
 package io.github.jonestimd.swing.table;
 
 import java.awt.Color;
+import java.awt.Font;
 import java.awt.color.ColorSpace;
 import java.awt.font.TextAttribute;
 import java.util.Collections;
 import java.util.Map;
 
 import javax.swing.JComponent;
+import javax.swing.table.TableModel;
 
+import com.google.common.collect.MapMaker;
 import io.github.jonestimd.swing.table.model.BeanTableModel;
 import io.github.jonestimd.swing.table.model.ChangeBufferTableModel;
+import io.github.jonestimd.util.LruMap;
 
 /**
- * A {@link TableDecorator} that highlights cells that contain unsaved values.
+ * A {@link TableDecorator} that highlights cells that contain unsaved values.  The change state of each cell is cached
+ * until the model fires an event for the row and the mixed colors and fonts are reused.
  */
 public class UnsavedChangeDecorator implements TableDecorator {
     private static final Map<TextAttribute, ?> STRIKETHRU_ATTRS =
             Collections.singletonMap(TextAttribute.STRIKETHROUGH, TextAttribute.STRIKETHROUGH_ON);
+    private static final int MAX_STYLES = 16;
     private final Color pendingChangeBackground;
     private final Color pendingDeleteBackground;
+    private final Map<TableModel, ModelCellCache<CellState>> stateCaches = new MapMaker().weakKeys().makeMap();
+    private final Map<Color, Color> changeBackgrounds = new LruMap<>(MAX_STYLES);
+    private final Map<Color, Color> deleteBackgrounds = new LruMap<>(MAX_STYLES);
+    private final Map<Font, Font> deleteFonts = new LruMap<>(MAX_STYLES);
+
+    private enum CellState { UNCHANGED, CHANGED, PENDING_DELETE }
 
     public UnsavedChangeDecorator() {
         this(Color.CYAN, Color.PINK);
@@ -51,13 +63,44 @@ public class UnsavedChangeDecorator implements TableDecorator {
     }
 
     public <B, M extends BeanTableModel<B>> void prepareRenderer(DecoratedTable<B, M> table, JComponent renderer, int modelRow, int modelColumn) {
-        if (((ChangeBufferTableModel<?>) table.getModel()).isPendingDelete(modelRow)) {
-            renderer.setBackground(mixColor(renderer.getBackground(), pendingDeleteBackground));
-            renderer.setFont(renderer.getFont().deriveFont(STRIKETHRU_ATTRS));
+        CellState state = getStateCache((ChangeBufferTableModel<?>) table.getModel()).get(modelRow, modelColumn);
+        if (state == CellState.PENDING_DELETE) {
+            renderer.setBackground(getBackground(deleteBackgrounds, renderer.getBackground(), pendingDeleteBackground));
+            renderer.setFont(getDeleteFont(renderer.getFont()));
+        }
+        else if (state == CellState.CHANGED) {
+            renderer.setBackground(getBackground(changeBackgrounds, renderer.getBackground(), pendingChangeBackground));
+        }
+    }
+
+    private ModelCellCache<CellState> getStateCache(ChangeBufferTableModel<?> model) {
+        ModelCellCache<CellState> cache = stateCaches.get(model);
+        if (cache == null) {
+            cache = new ModelCellCache<>(model, (row, column) -> {
+                if (model.isPendingDelete(row)) return CellState.PENDING_DELETE;
+                return model.isChangedAt(row, column) ? CellState.CHANGED : CellState.UNCHANGED;
+            });
+            stateCaches.put(model, cache);
         }
-        else if (((ChangeBufferTableModel<?>) table.getModel()).isChangedAt(modelRow, modelColumn)) {
-            renderer.setBackground(mixColor(renderer.getBackground(), pendingChangeBackground));
+        return cache;
+    }
+
+    private Color getBackground(Map<Color, Color> backgrounds, Color background, Color highlight) {
+        Color mixed = backgrounds.get(background);
+        if (mixed == null) {
+            mixed = mixColor(background, highlight);
+            backgrounds.put(background, mixed);
+        }
+        return mixed;
+    }
+
+    private Font getDeleteFont(Font font) {
+        Font deleteFont = deleteFonts.get(font);
+        if (deleteFont == null) {
+            deleteFont = font.deriveFont(STRIKETHRU_ATTRS);
+            deleteFonts.put(font, deleteFont);
         }
+        return deleteFont;
     }
 
     private Color mixColor(Color color1, Color color2) {
@@ -21,34 +21,57 @@
 // SOFTWARE.
 package io.github.jonestimd.swing.table;
 
+import java.util.Map;
+
 import javax.swing.JComponent;
 import javax.swing.border.Border;
 import javax.swing.border.CompoundBorder;
+import javax.swing.table.TableModel;
 
+import com.google.common.collect.MapMaker;
 import io.github.jonestimd.swing.table.model.BeanTableModel;
 import io.github.jonestimd.swing.table.model.ValidatedTableModel;
 import io.github.jonestimd.swing.validation.ValidationBorder;
+import io.github.jonestimd.util.LruMap;
 
 /**
- * A {@link TableDecorator} that highlights cells with validation errors.
+ * A {@link TableDecorator} that highlights cells with validation errors.  The validation messages are cached until
+ * the model fires an event for the row and the compound borders are reused.
  */
 public class ValidationDecorator implements TableDecorator {
+    private static final int MAX_BORDERS = 8;
     private ValidationBorder validationBorder = new ValidationBorder();
+    private final Map<TableModel, ModelCellCache<String>> errorCaches = new MapMaker().weakKeys().makeMap();
+    private final Map<Border, Border> compoundBorders = new LruMap<>(MAX_BORDERS);
 
     public <B, M extends BeanTableModel<B>> void prepareRenderer(DecoratedTable<B, M> table, JComponent renderer, int row, int column) {
-        String errors = ((ValidatedTableModel) table.getModel()).validateAt(row, column);
+        String errors = getErrorCache(table.getModel()).get(row, column);
         validationBorder.setValid(errors == null);
         addValidationBorder(renderer);
         if (errors != null) renderer.setToolTipText(errors);
     }
 
+    private ModelCellCache<String> getErrorCache(TableModel model) {
+        ModelCellCache<String> cache = errorCaches.get(model);
+        if (cache == null) {
+            cache = new ModelCellCache<>(model, ((ValidatedTableModel) model)::validateAt);
+            errorCaches.put(model, cache);
+        }
+        return cache;
+    }
+
     private void addValidationBorder(JComponent component) {
         Border border = component.getBorder();
         if (border == null) {
             component.setBorder(validationBorder);
         }
         else {
-            component.setBorder(new CompoundBorder(border, validationBorder));
+            Border compoundBorder = compoundBorders.get(border);
+            if (compoundBorder == null) {
+                compoundBorder = new CompoundBorder(border, validationBorder);
+                compoundBorders.put(border, compoundBorder);
+            }
+            component.setBorder(compoundBorder);
         }
     }
 }
\ No newline at end of file
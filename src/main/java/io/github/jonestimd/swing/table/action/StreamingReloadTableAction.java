@@ -0,0 +1,115 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing.table.action;
+
+import java.awt.event.ActionEvent;
+import java.util.Collections;
+import java.util.ResourceBundle;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import javax.swing.JComponent;
+import javax.swing.JTable;
+
+import io.github.jonestimd.swing.StreamingTask;
+import io.github.jonestimd.swing.action.LocalizedAction;
+import io.github.jonestimd.swing.dialog.Dialogs;
+import io.github.jonestimd.swing.table.DecoratedTable;
+import io.github.jonestimd.swing.table.model.BeanListTableModel;
+import io.github.jonestimd.swing.table.model.BufferedBeanListTableModel;
+
+/**
+ * An abstract UI action for reloading the data in a table that displays the rows while they are loaded.  Displays a
+ * confirmation dialog if the table contains unsaved changes.
+ * @param <T> the class of the beans displayed in the table
+ * @see ReloadTableAction
+ * @see StreamingTask
+ */
+public abstract class StreamingReloadTableAction<T> extends LocalizedAction {
+    private final JComponent owner;
+    private final JTable table;
+    private final BufferedBeanListTableModel<T> tableModel;
+    private final String statusMessage;
+    private int selectedRow;
+    private int selectedColumn;
+
+    public StreamingReloadTableAction(JComponent owner, ResourceBundle bundle, String resourcePrefix,
+            DecoratedTable<T, ? extends BeanListTableModel<T>> table, BufferedBeanListTableModel<T> tableModel) {
+        super(bundle, resourcePrefix);
+        this.owner = owner;
+        this.table = table;
+        this.tableModel = tableModel;
+        this.statusMessage = bundle.containsKey(resourcePrefix + ".status.initialize") ?
+                bundle.getString(resourcePrefix + ".status.initialize") : null;
+    }
+
+    public final void actionPerformed(ActionEvent event) {
+        if (confirmAction(event)) {
+            reload();
+        }
+    }
+
+    /**
+     * Clear the table and start loading the rows.  Should only be called on the Swing event thread.
+     * @return a future that completes with the number of rows after the last row is displayed.  Cancelling the
+     *         future stops loading the rows.
+     */
+    protected CompletableFuture<Integer> reload() {
+        CompletableFuture<Integer> task = StreamingTask.<T>task(statusMessage, this::startUI, this::performTask,
+                tableModel::addRows, this::handleException).run(owner);
+        CompletableFuture<Integer> result = task.whenComplete((count, ex) -> restoreSelection());
+        result.whenComplete((count, ex) -> {
+            if (ex instanceof CancellationException) task.cancel(true);
+        });
+        return result;
+    }
+
+    public boolean confirmAction(ActionEvent event) {
+        return ! tableModel.isChanged() || Dialogs.confirmDiscardChanges(table.getTopLevelAncestor());
+    }
+
+    /**
+     * Load the rows (called on a non-Swing thread).
+     * @param sink receives the rows as they are loaded
+     */
+    protected abstract void performTask(Consumer<? super T> sink);
+
+    protected boolean handleException(Throwable th) {
+        return false;
+    }
+
+    protected void startUI() {
+        selectedRow = Math.max(0, table.getSelectedRow());
+        selectedColumn = Math.max(0, table.getSelectedColumn());
+        tableModel.setBeans(Collections.emptyList());
+    }
+
+    private void restoreSelection() {
+        int rowCount = table.getRowCount();
+        if (rowCount > 0) {
+            int row = Math.min(selectedRow, rowCount - 1);
+            table.getSelectionModel().setSelectionInterval(row, row);
+            table.getColumnModel().getSelectionModel().setSelectionInterval(selectedColumn, selectedColumn);
+        }
+    }
+}
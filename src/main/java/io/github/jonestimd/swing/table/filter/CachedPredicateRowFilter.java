@@ -0,0 +1,146 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing.table.filter;
+
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+import javax.swing.JTextField;
+import javax.swing.RowFilter;
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+import javax.swing.table.TableRowSorter;
+
+import com.google.common.collect.MapMaker;
+import io.github.jonestimd.swing.DocumentChangeHandler;
+import io.github.jonestimd.swing.table.model.BeanTableModel;
+
+/**
+ * A text search row filter that caches the normalized (lower case) search text of each bean.  The filter text is read
+ * once when the text field changes instead of for each row.  The cache uses weak references to the beans and the
+ * entries are invalidated by {@link TableModelEvent}s from the table model.
+ * <p>In narrowing mode, the result of the previous test is reused when the previous filter text is contained in the
+ * new filter text (and the bean was excluded) or when the new filter text is contained in the previous filter text
+ * (and the bean was included).  Narrowing mode should only be used when the matcher has the same semantics as
+ * {@link String#contains(CharSequence)}.</p>
+ * @param <T> the class of the beans in the table
+ * @see PredicateRowFilter
+ */
+public class CachedPredicateRowFilter<T> extends RowFilter<BeanTableModel<T>, Integer> implements TableModelListener {
+    private final Map<T, RowText> rowTextCache = new MapMaker().weakKeys().makeMap();
+    private final Function<T, String> rowText;
+    private final BiPredicate<String, String> matcher;
+    private final boolean narrowing;
+    private String filterText;
+
+    /**
+     * Install a row filter on a table that matches rows containing the filter text (ignoring case).
+     * @param rowSorter the table's row sorter
+     * @param filterField the text field to use for the filter criteria
+     * @param rowText a function that provides the search text for a bean
+     * @param <T> the class of the beans in the table
+     */
+    public static <T> CachedPredicateRowFilter<T> install(TableRowSorter<? extends BeanTableModel<T>> rowSorter, JTextField filterField, Function<T, String> rowText) {
+        CachedPredicateRowFilter<T> rowFilter = new CachedPredicateRowFilter<>(filterField, rowText, String::contains, true, rowSorter::allRowsChanged);
+        rowSorter.getModel().addTableModelListener(rowFilter);
+        rowSorter.setRowFilter(rowFilter);
+        return rowFilter;
+    }
+
+    /**
+     * Create a new row filter.  The filter must be added as a listener on the table model after the table has been
+     * created, so that the cache is invalidated before the row sorter is updated.
+     * @param filterField the text field to use for the filter criteria
+     * @param rowText a function that provides the search text for a bean
+     * @param matcher the predicate to evaluate using the normalized search text and the normalized filter text
+     * @param narrowing true to reuse the previous result when the filter text is narrowed or widened
+     */
+    public CachedPredicateRowFilter(JTextField filterField, Function<T, String> rowText, BiPredicate<String, String> matcher, boolean narrowing) {
+        this(filterField, rowText, matcher, narrowing, () -> {});
+    }
+
+    private CachedPredicateRowFilter(JTextField filterField, Function<T, String> rowText, BiPredicate<String, String> matcher,
+            boolean narrowing, Runnable filterChanged) {
+        this.rowText = rowText;
+        this.matcher = matcher;
+        this.narrowing = narrowing;
+        this.filterText = normalize(filterField.getText());
+        filterField.getDocument().addDocumentListener(new DocumentChangeHandler(() -> {
+            filterText = normalize(filterField.getText());
+            filterChanged.run();
+        }));
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase();
+    }
+
+    @Override
+    public boolean include(Entry<? extends BeanTableModel<T>, ? extends Integer> entry) {
+        T bean = entry.getModel().getBean(entry.getIdentifier());
+        RowText text = rowTextCache.get(bean);
+        if (text == null) {
+            text = new RowText(normalize(rowText.apply(bean)));
+            rowTextCache.put(bean, text);
+        }
+        else if (narrowing && text.filterText != null) {
+            if (text.included ? text.filterText.contains(filterText) : filterText.contains(text.filterText)) {
+                return text.included;
+            }
+        }
+        text.included = matcher.test(text.text, filterText);
+        text.filterText = filterText;
+        return text.included;
+    }
+
+    /**
+     * Invalidate the cached search text for the updated rows.
+     */
+    @Override
+    public void tableChanged(TableModelEvent event) {
+        if (event.getType() == TableModelEvent.UPDATE) {
+            if (event.getFirstRow() == TableModelEvent.HEADER_ROW || event.getLastRow() == Integer.MAX_VALUE) {
+                rowTextCache.clear();
+            }
+            else {
+                BeanTableModel<?> model = (BeanTableModel<?>) event.getSource();
+                for (int row = event.getFirstRow(); row <= event.getLastRow(); row++) {
+                    rowTextCache.remove(model.getBean(row));
+                }
+            }
+        }
+    }
+
+    /**
+     * Search text and the last result for a bean.
+     */
+    private static class RowText {
+        private final String text;
+        private String filterText;
+        private boolean included;
+
+        public RowText(String text) {
+            this.text = text;
+        }
+    }
+}
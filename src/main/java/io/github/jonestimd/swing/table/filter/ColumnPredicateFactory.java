@@ -0,0 +1,200 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing.table.filter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAccessor;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import io.github.jonestimd.swing.component.FilterField;
+import io.github.jonestimd.swing.filter.BasicFilterParser;
+import io.github.jonestimd.swing.table.model.BeanTableModel;
+import io.github.jonestimd.swing.table.model.ColumnAdapter;
+import io.github.jonestimd.swing.table.model.ColumnIdentifier;
+
+/**
+ * A predicate factory for {@link BasicFilterParser} (or {@link FilterField}) that supports terms that are qualified by
+ * a column ID or column name.  A qualified term is evaluated against the value of a single column using the column's
+ * value type.  Terms that are not qualified by a known column are passed to the default predicate factory.  The
+ * following comparisons are supported.
+ * <ul>
+ *   <li>{@code column:value} - text columns contain the value, date columns start with the value (ISO format) and
+ *   other columns are equal to the value</li>
+ *   <li>{@code column=value}, {@code column!=value} - the column value is (not) equal to the value</li>
+ *   <li>{@code column>value}, {@code column>=value}, {@code column<value}, {@code column<=value} - numeric columns
+ *   are compared numerically, date columns are compared using the ISO format and other columns are compared using
+ *   the case insensitive string value</li>
+ * </ul>
+ * Text comparisons are case insensitive.  A {@code null} column value only matches {@code !=}.  Date values are
+ * compared without the time of day when either the column value or the filter value doesn't include a time.  Column
+ * values are truncated to the precision of a partial filter value (e.g. {@code date<=2024-01} includes all of
+ * January and {@code date>2024-01} excludes all of January).  A comparison without a filter value (e.g. while the
+ * user is still typing) matches all rows.
+ * @param <T> the class of the beans in the table
+ */
+public class ColumnPredicateFactory<T> implements Function<String, Predicate<T>> {
+    private static final Pattern QUALIFIED_TERM = Pattern.compile("([^:=!<>]+?)\\s*(:|=|!=|>=|<=|>|<)\\s*(.*)");
+    private final Map<String, ColumnAdapter<? super T, ?>> columns = new HashMap<>();
+    private final Function<String, Predicate<T>> defaultFactory;
+
+    /**
+     * Create a predicate factory for the columns of a table model.  Columns whose identifier is not a
+     * {@link ColumnAdapter} can't be used to qualify filter terms.
+     * @param model the table model
+     * @param defaultFactory the predicate factory for unqualified terms
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, M extends BeanTableModel<T> & ColumnIdentifier> ColumnPredicateFactory<T> of(M model, Function<String, Predicate<T>> defaultFactory) {
+        return new ColumnPredicateFactory<T>(IntStream.range(0, model.getColumnCount())
+                .mapToObj(model::getColumnIdentifier).filter(ColumnAdapter.class::isInstance)
+                .map(identifier -> (ColumnAdapter<? super T, ?>) identifier).collect(Collectors.toList()), defaultFactory);
+    }
+
+    /**
+     * @param columnAdapters the columns that can be used to qualify filter terms
+     * @param defaultFactory the predicate factory for unqualified terms
+     */
+    public ColumnPredicateFactory(Collection<? extends ColumnAdapter<? super T, ?>> columnAdapters, Function<String, Predicate<T>> defaultFactory) {
+        this.defaultFactory = defaultFactory;
+        for (ColumnAdapter<? super T, ?> columnAdapter : columnAdapters) {
+            columns.putIfAbsent(columnAdapter.getName().toLowerCase(), columnAdapter);
+            columns.put(columnAdapter.getColumnId().toLowerCase(), columnAdapter);
+        }
+    }
+
+    @Override
+    public Predicate<T> apply(String term) {
+        Matcher matcher = QUALIFIED_TERM.matcher(term);
+        if (matcher.matches()) {
+            ColumnAdapter<? super T, ?> columnAdapter = columns.get(matcher.group(1).trim().toLowerCase());
+            if (columnAdapter != null) {
+                if (matcher.group(3).trim().isEmpty()) return bean -> true;
+                Predicate<Object> valuePredicate = newValuePredicate(columnAdapter.getType(), matcher.group(2), matcher.group(3).trim());
+                return bean -> valuePredicate.test(columnAdapter.getValue(bean));
+            }
+        }
+        return defaultFactory.apply(term);
+    }
+
+    private Predicate<Object> newValuePredicate(Class<?> type, String operator, String value) {
+        if (Number.class.isAssignableFrom(type) || type.isPrimitive() && type != boolean.class && type != char.class) {
+            BigDecimal number = parseNumber(value);
+            return compare(operator, columnValue -> toBigDecimal((Number) columnValue).compareTo(number));
+        }
+        if (Date.class.isAssignableFrom(type) || TemporalAccessor.class.isAssignableFrom(type)) {
+            return operator.equals(":") ? columnValue -> columnValue != null && toIsoString(columnValue).startsWith(value)
+                    : compare(operator, columnValue -> compareDates(toIsoString(columnValue), value));
+        }
+        if (type == Boolean.class || type == boolean.class) {
+            if (operator.equals("=") || operator.equals(":")) return Boolean.valueOf(value)::equals;
+            if (operator.equals("!=")) return columnValue -> ! Boolean.valueOf(value).equals(columnValue);
+            throw new IllegalArgumentException("invalid comparison: " + operator);
+        }
+        if (operator.equals(":")) {
+            String search = value.toLowerCase();
+            return columnValue -> columnValue != null && columnValue.toString().toLowerCase().contains(search);
+        }
+        return compare(operator, columnValue -> columnValue.toString().compareToIgnoreCase(value));
+    }
+
+    private static BigDecimal parseNumber(String value) {
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("invalid number: " + value);
+        }
+    }
+
+    private static BigDecimal toBigDecimal(Number value) {
+        if (value instanceof BigDecimal) return (BigDecimal) value;
+        if (value instanceof Double || value instanceof Float) return BigDecimal.valueOf(value.doubleValue());
+        return new BigDecimal(value.toString());
+    }
+
+    private static String toIsoString(Object value) {
+        if (value instanceof java.sql.Date) return ((java.sql.Date) value).toLocalDate().toString();
+        if (value instanceof java.sql.Time) return ((java.sql.Time) value).toLocalTime().toString();
+        if (value instanceof java.sql.Timestamp) return ((java.sql.Timestamp) value).toLocalDateTime().toString();
+        if (value instanceof Date) {
+            return LocalDateTime.ofInstant(((Date) value).toInstant(), ZoneId.systemDefault()).toString();
+        }
+        return value.toString();
+    }
+
+    /**
+     * Compare ISO date strings, ignoring the time of day unless both values include a time.  The column value is
+     * truncated to the length of the filter value so that a partial filter value (e.g. a year and month) matches all
+     * of the dates within its period.
+     */
+    private static int compareDates(String columnValue, String filterValue) {
+        if (!hasTime(columnValue) || !hasTime(filterValue)) {
+            columnValue = datePart(columnValue);
+            filterValue = datePart(filterValue);
+        }
+        if (columnValue.length() > filterValue.length()) columnValue = columnValue.substring(0, filterValue.length());
+        return columnValue.compareTo(filterValue);
+    }
+
+    private static boolean hasTime(String isoValue) {
+        return isoValue.indexOf('T') >= 0;
+    }
+
+    private static String datePart(String isoValue) {
+        int index = isoValue.indexOf('T');
+        return index < 0 ? isoValue : isoValue.substring(0, index);
+    }
+
+    /**
+     * Create a predicate for a comparison operator.
+     * @param operator the comparison operator
+     * @param comparison compares a non-null column value to the filter value
+     */
+    private static Predicate<Object> compare(String operator, Function<Object, Integer> comparison) {
+        IntPredicate result = getComparisonResult(operator);
+        if (operator.equals("!=")) return columnValue -> columnValue == null || result.test(comparison.apply(columnValue));
+        return columnValue -> columnValue != null && result.test(comparison.apply(columnValue));
+    }
+
+    private static IntPredicate getComparisonResult(String operator) {
+        switch (operator) {
+            case ":":
+            case "=": return diff -> diff == 0;
+            case "!=": return diff -> diff != 0;
+            case ">": return diff -> diff > 0;
+            case ">=": return diff -> diff >= 0;
+            case "<": return diff -> diff < 0;
+            default: return diff -> diff <= 0;
+        }
+    }
+}
@@ -21,23 +21,80 @@ package io.github.jonestimd.swing.table.model;
 
 import java.beans.PropertyChangeListener;
 import java.beans.PropertyChangeSupport;
-import java.util.LinkedList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javax.swing.SwingUtilities;
 import javax.swing.SwingWorker;
+import javax.swing.Timer;
+
+import io.github.jonestimd.util.TimedLruCache;
 
 /**
  * Base class for loading table data in a background thread.
+ * <p>Queries are executed on {@link SwingWorker}'s shared thread pool unless an {@link Executor} is provided.  The
+ * number of queries that execute concurrently can be limited, in which case additional queries wait in a queue.
+ * Queries submitted within the batch delay can be combined into a single query (see {@link #combine(Object, Object)}).
+ * A pending query is cancelled when a new query includes it (see {@link #matches(Object, Object)}).</p>
+ * <p>Query results can be cached (see {@link #setResultCache(int, long, boolean)}).  Queries used with the cache must
+ * implement {@code equals()} and {@code hashCode()}.  Cached results are delivered on a later cycle of the
+ * <i>Event Dispatch Thread</i>, so that the model is not updated while the table is being rendered.</p>
  * @param <Bean> the class representing a row in the table
  * @param <Query> the class representing the request for the data (e.g. a {@link java.util.Collection Collection} of IDs)
  * @param <Result> the class representing the collection of retrieved data (e.g. a {@link java.util.Map Map} of IDs to row data)
  */
 public abstract class AsyncTableDataProvider<Bean, Query, Result> implements TableDataProvider<Bean> {
+    /**
+     * The property name for cache statistics events.  The new value of the event is a {@link CacheStatistics}.
+     */
+    public static final String CACHE_STATISTICS_PROPERTY = "cacheStatistics";
     private final Logger logger = Logger.getLogger(AsyncTableDataProvider.class.getName());
     protected final PropertyChangeSupport changeSupport = new PropertyChangeSupport(this);
-    private List<Worker> workers = new LinkedList<>();
+    private final Executor executor;
+    private final int maxConcurrentQueries;
+    private final Timer batchTimer;
+    /** running and queued workers */
+    private final List<Worker> workers = new ArrayList<>();
+    private final Deque<Worker> queuedWorkers = new ArrayDeque<>();
+    /** cached results waiting to be delivered */
+    private final List<Query> cachedQueries = new ArrayList<>();
+    private int runningWorkers = 0;
+    private Query batchQuery;
+    private TimedLruCache<Query, Result> resultCache;
+    private boolean staleWhileRevalidate;
+    private CacheStatistics cacheStatistics = new CacheStatistics(0, 0, 0);
+
+    /**
+     * Create a provider that executes each query immediately on {@link SwingWorker}'s thread pool.
+     */
+    protected AsyncTableDataProvider() {
+        this(null, Integer.MAX_VALUE, 0);
+    }
+
+    /**
+     * @param executor the executor for running queries or {@code null} to use {@link SwingWorker}'s thread pool
+     * @param maxConcurrentQueries the maximum number of queries to execute at the same time
+     * @param batchDelay the number of milliseconds to wait for additional queries to combine into a batch
+     *        (0 to disable batching)
+     */
+    protected AsyncTableDataProvider(Executor executor, int maxConcurrentQueries, int batchDelay) {
+        if (maxConcurrentQueries < 1) throw new IllegalArgumentException("maxConcurrentQueries must be positive");
+        this.executor = executor;
+        this.maxConcurrentQueries = maxConcurrentQueries;
+        if (batchDelay > 0) {
+            this.batchTimer = new Timer(batchDelay, event -> submitBatch());
+            this.batchTimer.setRepeats(false);
+        }
+        else this.batchTimer = null;
+    }
 
     @Override
     public void addStateChangeListener(PropertyChangeListener listener) {
@@ -49,6 +106,40 @@ public abstract class AsyncTableDataProvider<Bean, Query, Result> implements Tab
         changeSupport.removePropertyChangeListener(STATE_PROPERTY, listener);
     }
 
+    /**
+     * Add {@code PropertyChangeListener} to be notified when the cache statistics change.
+     * @see #CACHE_STATISTICS_PROPERTY
+     */
+    public void addCacheStatisticsListener(PropertyChangeListener listener) {
+        changeSupport.addPropertyChangeListener(CACHE_STATISTICS_PROPERTY, listener);
+    }
+
+    public void removeCacheStatisticsListener(PropertyChangeListener listener) {
+        changeSupport.removePropertyChangeListener(CACHE_STATISTICS_PROPERTY, listener);
+    }
+
+    /**
+     * Enable caching of query results.
+     * @param maxSize the maximum number of results to cache
+     * @param timeToLive the number of milliseconds before a result expires
+     * @param staleWhileRevalidate true to use an expired result while the query is executed again
+     */
+    public void setResultCache(int maxSize, long timeToLive, boolean staleWhileRevalidate) {
+        this.resultCache = new TimedLruCache<>(maxSize, timeToLive);
+        this.staleWhileRevalidate = staleWhileRevalidate;
+    }
+
+    /**
+     * Remove all results from the cache.
+     */
+    public void clearResultCache() {
+        if (resultCache != null) resultCache.clear();
+    }
+
+    public CacheStatistics getCacheStatistics() {
+        return cacheStatistics;
+    }
+
     protected void firePropertyChange(String propertyName, Object oldValue, Object newValue) {
         changeSupport.firePropertyChange(propertyName, oldValue, newValue);
     }
@@ -57,6 +148,23 @@ public abstract class AsyncTableDataProvider<Bean, Query, Result> implements Tab
         firePropertyChange(STATE_PROPERTY, null, null);
     }
 
+    /**
+     * Notify the table that column values have changed for some rows.
+     * @param beans the beans for the changed rows or {@code null} to update all rows
+     */
+    protected void fireStateChanged(Collection<Bean> beans) {
+        firePropertyChange(STATE_PROPERTY, null, beans);
+    }
+
+    /**
+     * Get the beans whose column values are updated by the result of a query.  Used to limit the table update to the
+     * effected rows (e.g. when the query was submitted by {@link #prefetch(Collection)}).
+     * @return the effected beans or {@code null} to update all rows (the default)
+     */
+    protected Collection<Bean> getUpdatedBeans(Query query) {
+        return null;
+    }
+
     /**
      * Execute a query on a background thread.
      */
@@ -77,15 +185,101 @@ public abstract class AsyncTableDataProvider<Bean, Query, Result> implements Tab
     protected abstract boolean matches(Query pendingQuery, Query newQuery);
 
     /**
-     * Submit {@code query} if it is not already in the queue.
+     * Combine two queries into a single query when batching is enabled.  The default implementation returns
+     * {@code null}, which causes the queries to be executed separately.
+     * @param batchQuery the query for the current batch
+     * @param newQuery a query to be added to the batch
+     * @return a query that includes both queries or {@code null} if the queries can't be combined
+     */
+    protected Query combine(Query batchQuery, Query newQuery) {
+        return null;
+    }
+
+    /**
+     * Submit {@code query} if it is not already in the queue.  Pending queries that are included in {@code query}
+     * are cancelled.
      * <p>Note: this method should only be called from the <i>Event Dispatch Thread</i>.</p>
      * @see #matches(Object, Object)
      */
     protected void submitIfNotPending(Query query) {
-        if (! isPending(query)) {
-            Worker worker = new Worker(query);
-            workers.add(worker);
-            worker.execute();
+        if (! isPending(query) && (resultCache == null || ! useCachedResult(query))) {
+            if (batchTimer == null) submit(query);
+            else addToBatch(query);
+        }
+    }
+
+    /**
+     * @return true if the query does not need to be executed.
+     */
+    private boolean useCachedResult(Query query) {
+        TimedLruCache<Query, Result>.Entry entry = resultCache.getEntry(query);
+        CacheStatistics oldStatistics = cacheStatistics;
+        boolean expired = entry != null && entry.isExpired();
+        if (entry != null && (!expired || staleWhileRevalidate)) {
+            cacheStatistics = expired ? oldStatistics.staleHit() : oldStatistics.hit();
+            firePropertyChange(CACHE_STATISTICS_PROPERTY, oldStatistics, cacheStatistics);
+            Result result = entry.getValue();
+            cachedQueries.add(query);
+            SwingUtilities.invokeLater(() -> {
+                cachedQueries.remove(query);
+                setResult(result);
+                fireStateChanged(getUpdatedBeans(query));
+            });
+            return !expired;
+        }
+        cacheStatistics = oldStatistics.miss();
+        firePropertyChange(CACHE_STATISTICS_PROPERTY, oldStatistics, cacheStatistics);
+        return false;
+    }
+
+    private void addToBatch(Query query) {
+        if (batchQuery != null) {
+            Query combined = combine(batchQuery, query);
+            if (combined == null) submit(batchQuery);
+            else query = combined;
+        }
+        batchQuery = query;
+        if (!batchTimer.isRunning()) batchTimer.start();
+    }
+
+    private void submitBatch() {
+        if (batchQuery != null) {
+            Query query = batchQuery;
+            batchQuery = null;
+            submit(query);
+        }
+    }
+
+    private void submit(Query query) {
+        cancelSuperseded(query);
+        Worker worker = new Worker(query);
+        workers.add(worker);
+        queuedWorkers.add(worker);
+        startWorkers();
+    }
+
+    private void cancelSuperseded(Query query) {
+        for (Worker worker : new ArrayList<>(workers)) {
+            if (matches(query, worker.query)) {
+                workers.remove(worker);
+                queuedWorkers.remove(worker);
+                worker.cancel(true);
+            }
+        }
+    }
+
+    private void releaseWorker() {
+        runningWorkers--;
+        startWorkers();
+    }
+
+    private void startWorkers() {
+        while (runningWorkers < maxConcurrentQueries && !queuedWorkers.isEmpty()) {
+            Worker worker = queuedWorkers.remove();
+            worker.started = true;
+            runningWorkers++;
+            if (executor == null) worker.execute();
+            else executor.execute(worker);
         }
     }
 
@@ -93,10 +287,18 @@ public abstract class AsyncTableDataProvider<Bean, Query, Result> implements Tab
      * @return the number of queries in the queue.
      */
     public int activeQueries() {
-        return workers.size();
+        return workers.size() + (batchQuery == null ? 0 : 1);
     }
 
     private boolean isPending(Query query) {
+        if (batchQuery != null && matches(batchQuery, query)) {
+            return true;
+        }
+        for (Query cachedQuery : cachedQueries) {
+            if (matches(cachedQuery, query)) {
+                return true;
+            }
+        }
         for (Worker worker : workers) {
             if (matches(worker.query, query) && !worker.isDone()) {
                 return true;
@@ -105,8 +307,15 @@ public abstract class AsyncTableDataProvider<Bean, Query, Result> implements Tab
         return false;
     }
 
+    /**
+     * Holds one of the {@code maxConcurrentQueries} slots from the time it is started until {@link #doInBackground()}
+     * exits, so that a cancelled query still counts while {@link #getData(Object)} is running.
+     */
     private class Worker extends SwingWorker<Result, Object> {
         private final Query query;
+        private boolean started;
+        /** set by {@link #doInBackground()} or by {@link #done()} when cancelled before the query is executed */
+        private final AtomicBoolean claimed = new AtomicBoolean();
 
         private Worker(Query query) {
             this.query = query;
@@ -114,21 +323,85 @@ public abstract class AsyncTableDataProvider<Bean, Query, Result> implements Tab
 
         @Override
         protected Result doInBackground() throws Exception {
-            return getData(query);
+            if (!claimed.compareAndSet(false, true)) return null;
+            try {
+                return getData(query);
+            } finally {
+                SwingUtilities.invokeLater(AsyncTableDataProvider.this::releaseWorker);
+            }
         }
 
         @Override
         protected void done() {
-            if (!isCancelled()) {
-                super.done();
-                try {
-                    setResult(get());
-                    workers.remove(this);
-                    fireStateChanged();
-                } catch (Exception ex) {
-                    logger.log(Level.SEVERE, "failed to get table data", ex);
+            workers.remove(this);
+            if (started && claimed.compareAndSet(false, true)) runningWorkers--;
+            try {
+                if (!isCancelled()) {
+                    Result result = get();
+                    if (resultCache != null) resultCache.put(query, result);
+                    setResult(result);
+                    fireStateChanged(getUpdatedBeans(query));
                 }
+            } catch (ExecutionException ex) {
+                logger.log(Level.SEVERE, "failed to get table data", ex.getCause());
+            } catch (Exception ex) {
+                logger.log(Level.SEVERE, "failed to get table data", ex);
+            } finally {
+                startWorkers();
             }
         }
     }
+
+    /**
+     * Counts of result cache lookups.
+     */
+    public static class CacheStatistics {
+        private final long hitCount;
+        private final long staleHitCount;
+        private final long missCount;
+
+        public CacheStatistics(long hitCount, long staleHitCount, long missCount) {
+            this.hitCount = hitCount;
+            this.staleHitCount = staleHitCount;
+            this.missCount = missCount;
+        }
+
+        private CacheStatistics hit() {
+            return new CacheStatistics(hitCount + 1, staleHitCount, missCount);
+        }
+
+        private CacheStatistics staleHit() {
+            return new CacheStatistics(hitCount, staleHitCount + 1, missCount);
+        }
+
+        private CacheStatistics miss() {
+            return new CacheStatistics(hitCount, staleHitCount, missCount + 1);
+        }
+
+        /**
+         * @return the number of lookups that found an unexpired result.
+         */
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        /**
+         * @return the number of lookups that used an expired result while executing the query.
+         */
+        public long getStaleHitCount() {
+            return staleHitCount;
+        }
+
+        /**
+         * @return the number of lookups that required executing the query.
+         */
+        public long getMissCount() {
+            return missCount;
+        }
+
+        @Override
+        public String toString() {
+            return "CacheStatistics{hits=" + hitCount + ", staleHits=" + staleHitCount + ", misses=" + missCount + "}";
+        }
+    }
 }
@@ -23,6 +23,7 @@ import java.awt.Cursor;
 import java.awt.event.MouseEvent;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -33,7 +34,7 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 
 import javax.swing.JTable;
-import javax.swing.table.AbstractTableModel;
+import javax.swing.event.TableModelEvent;
 
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ListMultimap;
@@ -50,7 +51,7 @@ import io.github.jonestimd.util.JavaPredicates;
  * @param <T> the class representing a row in the table
  * @see SectionTableRowSorter
  */
-public class BeanListMultimapTableModel<G, T> extends AbstractTableModel implements ColumnIdentifier, SectionTableModel<T>, BeanTableModel<T> {
+public class BeanListMultimapTableModel<G, T> extends EventSupportTableModel implements ColumnIdentifier, SectionTableModel<T>, BeanTableModel<T> {
     private static final int GROWTH_FACTOR = 10;
     private final BeanTableAdapter<T> beanTableAdapter;
     private final Function<T, G> groupingFunction;
@@ -59,6 +60,7 @@ public class BeanListMultimapTableModel<G, T> extends AbstractTableModel impleme
     private final Comparator<G> groupOrdering;
     private final List<G> sortedGroups = new ArrayList<>();
     private int[] groupOffsets = new int[GROWTH_FACTOR];
+    private final CellValueCache valueCache = new CellValueCache(this, this::getBeanValueAt);
 
     /**
      * Create a new model.
@@ -81,6 +83,20 @@ public class BeanListMultimapTableModel<G, T> extends AbstractTableModel impleme
         return Arrays.binarySearch(groupOffsets, 0, sortedGroups.size(), rowIndex) >= 0;
     }
 
+    /**
+     * Find the group header rows in a range of rows using a single search of the group offsets.
+     */
+    @Override
+    public BitSet getSectionRows(int firstRow, int lastRow) {
+        BitSet sectionRows = new BitSet(lastRow - firstRow + 1);
+        for (int group = Math.max(0, getGroupNumber(firstRow)); group < sortedGroups.size() && groupOffsets[group] <= lastRow; group++) {
+            if (groupOffsets[group] >= firstRow) {
+                sectionRows.set(groupOffsets[group] - firstRow);
+            }
+        }
+        return sectionRows;
+    }
+
     @Override
     public int getSectionRow(int rowIndex) {
         return groupOffsets[getGroupNumber(rowIndex)];
@@ -126,10 +142,15 @@ public class BeanListMultimapTableModel<G, T> extends AbstractTableModel impleme
 
     @Override
     public void updateBeans(Collection<T> beans, BiPredicate<T, T> isEqual) {
-        for (T bean : beans) {
-            int index = indexOf(item -> isEqual.test(bean, item));
-            if (index < 0) put(groupingFunction.apply(bean), bean);
-            else setBean(index, bean);
+        beanTableAdapter.beginUpdate();
+        try {
+            for (T bean : beans) {
+                int index = indexOf(item -> isEqual.test(bean, item));
+                if (index < 0) put(groupingFunction.apply(bean), bean);
+                else setBean(index, bean);
+            }
+        } finally {
+            beanTableAdapter.endUpdate();
         }
     }
 
@@ -221,6 +242,7 @@ public class BeanListMultimapTableModel<G, T> extends AbstractTableModel impleme
         int groupOffset = groupOffsets[groupIndex];
         List<T> beans = groups.removeAll(group);
         groupRemoved(groupIndex, groupOffset, beans.size());
+        beanTableAdapter.removeBeans(beans);
         return beans;
     }
 
@@ -240,6 +262,7 @@ public class BeanListMultimapTableModel<G, T> extends AbstractTableModel impleme
             groupChanged(groupIndex, beans.size());
             fireTableRowsInserted(groupOffsets[groupIndex+1]-beans.size(), groupOffsets[groupIndex+1]-1);
         }
+        beanTableAdapter.addBeans(new ArrayList<>(beans));
     }
 
     private void groupRemoved(int groupIndex, int groupOffset, int size) {
@@ -315,6 +338,10 @@ public class BeanListMultimapTableModel<G, T> extends AbstractTableModel impleme
         if (isSectionRow(rowIndex)) {
             return null;
         }
+        return valueCache.get(rowIndex, columnIndex);
+    }
+
+    private Object getBeanValueAt(int rowIndex, int columnIndex) {
         return beanTableAdapter.getValue(getBean(rowIndex), columnIndex);
     }
 
@@ -341,6 +368,45 @@ public class BeanListMultimapTableModel<G, T> extends AbstractTableModel impleme
             throw new IllegalArgumentException("Can't edit section row");
         }
         beanTableAdapter.setValue(aValue, getBean(rowIndex), rowIndex, columnIndex);
+        valueCache.clearRows(rowIndex, rowIndex);
         fireTableCellUpdated(rowIndex, columnIndex);
     }
+
+    @Override
+    public void prefetchRows(int... rowIndexes) {
+        List<T> beans = new ArrayList<>(rowIndexes.length);
+        for (int rowIndex : rowIndexes) {
+            T bean = getBean(rowIndex);
+            if (bean != null) beans.add(bean);
+        }
+        beanTableAdapter.prefetch(beans);
+    }
+
+    @Override
+    public void beginUpdate() {
+        super.beginUpdate();
+        beanTableAdapter.beginUpdate();
+    }
+
+    @Override
+    public void endUpdate() {
+        beanTableAdapter.endUpdate();
+        super.endUpdate();
+    }
+
+    /**
+     * Get the cache for the values of this model.  No columns are cached by default.  Cached values are cleared by
+     * {@link #setValueAt(Object, int, int)} and by the events fired by this model, so the model must be notified of
+     * changes to derived values (e.g. by calling {@link #fireTableRowsUpdated(int, int)}).
+     * @see CellValueCache#setCachedColumns(int...)
+     */
+    public CellValueCache getValueCache() {
+        return valueCache;
+    }
+
+    @Override
+    public void fireTableChanged(TableModelEvent event) {
+        valueCache.tableChanged(event);
+        super.fireTableChanged(event);
+    }
 }
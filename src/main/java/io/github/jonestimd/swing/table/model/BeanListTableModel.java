@@ -21,6 +21,7 @@ package io.github.jonestimd.swing.table.model;
 
 import java.awt.Cursor;
 import java.awt.event.MouseEvent;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -29,7 +30,7 @@ import java.util.function.BiPredicate;
 import java.util.function.Predicate;
 
 import javax.swing.JTable;
-import javax.swing.table.AbstractTableModel;
+import javax.swing.event.TableModelEvent;
 import javax.swing.table.TableModel;
 
 import io.github.jonestimd.collection.IdentityArrayList;
@@ -39,9 +40,10 @@ import io.github.jonestimd.collection.IdentityArrayList;
  * @param <T> the class representing a row in the table
  * @see ColumnAdapter
  */
-public class BeanListTableModel<T> extends AbstractTableModel implements ColumnIdentifier, BeanTableModel<T> {
+public class BeanListTableModel<T> extends EventSupportTableModel implements ColumnIdentifier, BeanTableModel<T> {
     protected final BeanTableAdapter<T> beanTableAdapter;
     private List<T> beans = new IdentityArrayList<>();
+    private final CellValueCache valueCache = new CellValueCache(this, (row, column) -> getValue(getRow(row), column));
 
     public BeanListTableModel(List<? extends ColumnAdapter<? super T, ?>> columnAdapters) {
         this(columnAdapters, Collections.emptyList());
@@ -116,7 +118,7 @@ public class BeanListTableModel<T> extends AbstractTableModel implements ColumnI
 
     @Override
     public Object getValueAt(int rowIndex, int columnIndex) {
-        return getValue(getRow(rowIndex), columnIndex);
+        return valueCache.get(rowIndex, columnIndex);
     }
 
     @Override
@@ -130,6 +132,7 @@ public class BeanListTableModel<T> extends AbstractTableModel implements ColumnI
     @SuppressWarnings("unchecked")
     protected void setValue(Object value, int rowIndex, int columnIndex) {
         beanTableAdapter.setValue(value, getRow(rowIndex), rowIndex, columnIndex);
+        valueCache.clearRows(rowIndex, rowIndex);
         fireTableCellUpdated(rowIndex, columnIndex);
     }
 
@@ -167,11 +170,28 @@ public class BeanListTableModel<T> extends AbstractTableModel implements ColumnI
         fireTableRowsInserted(row, row);
     }
 
+    /**
+     * Append rows to the end of the table and fire a single insert event.
+     */
+    public void addRows(Collection<T> beans) {
+        if (!beans.isEmpty()) {
+            int firstRow = this.beans.size();
+            this.beans.addAll(beans);
+            beanTableAdapter.addBeans(beans);
+            fireTableRowsInserted(firstRow, this.beans.size() - 1);
+        }
+    }
+
     public void updateBeans(Collection<T> beans, BiPredicate<T, T> isEqual) {
-        for (T bean : beans) {
-            int index = indexOf(item -> isEqual.test(bean, item));
-            if (index < 0) addRow(bean);
-            else setRow(index, bean);
+        beanTableAdapter.beginUpdate();
+        try {
+            for (T bean : beans) {
+                int index = indexOf(item -> isEqual.test(bean, item));
+                if (index < 0) addRow(bean);
+                else setRow(index, bean);
+            }
+        } finally {
+            beanTableAdapter.endUpdate();
         }
     }
 
@@ -193,8 +213,50 @@ public class BeanListTableModel<T> extends AbstractTableModel implements ColumnI
     }
 
     public void removeAll(Iterable<T> rowBeans) {
-        for (T bean : rowBeans) {
-            removeRow(bean);
+        beanTableAdapter.beginUpdate();
+        try {
+            for (T bean : rowBeans) {
+                removeRow(bean);
+            }
+        } finally {
+            beanTableAdapter.endUpdate();
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public void prefetchRows(int... rowIndexes) {
+        List<T> beans = new ArrayList<>(rowIndexes.length);
+        for (int rowIndex : rowIndexes) {
+            beans.add(getRow(rowIndex));
+        }
+        beanTableAdapter.prefetch(beans);
+    }
+
+    @Override
+    public void beginUpdate() {
+        super.beginUpdate();
+        beanTableAdapter.beginUpdate();
+    }
+
+    @Override
+    public void endUpdate() {
+        beanTableAdapter.endUpdate();
+        super.endUpdate();
+    }
+
+    /**
+     * Get the cache for the values of this model.  No columns are cached by default.  Cached values are cleared by
+     * {@link #setValueAt(Object, int, int)} and by the events fired by this model, so the model must be notified of
+     * changes to derived values (e.g. by calling {@link #fireTableRowsUpdated(int, int)}).
+     * @see CellValueCache#setCachedColumns(int...)
+     */
+    public CellValueCache getValueCache() {
+        return valueCache;
+    }
+
+    @Override
+    public void fireTableChanged(TableModelEvent event) {
+        valueCache.tableChanged(event);
+        super.fireTableChanged(event);
+    }
+}
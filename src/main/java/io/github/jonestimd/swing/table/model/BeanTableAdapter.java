@@ -24,10 +24,14 @@ import java.beans.PropertyChangeListener;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javax.swing.event.TableModelEvent;
 import javax.swing.table.AbstractTableModel;
@@ -44,6 +48,11 @@ public class BeanTableAdapter<T> {
     private final AbstractTableModel tableModel;
     private final List<ColumnAdapter<? super T, ?>> columnAdapters = new ArrayList<>();
     private final List<TableDataProvider<T>> dataProviders = new LinkedList<>();
+    private final Map<ColumnAdapter<?, ?>, Integer> columnIndexes = new IdentityHashMap<>();
+    /** the column of the update event for each provider ({@link TableModelEvent#ALL_COLUMNS} for multiple columns) */
+    private final Map<TableDataProvider<T>, Integer> providerEventColumns = new IdentityHashMap<>();
+    private int updateDepth = 0;
+    private final List<DeferredOperation> deferredOperations = new ArrayList<>();
 
     public BeanTableAdapter(AbstractTableModel tableModel, List<? extends ColumnAdapter<T, ?>> columnAdapters) {
         this(tableModel, columnAdapters, Collections.emptyList());
@@ -64,8 +73,16 @@ public class BeanTableAdapter<T> {
     public void setColumnAdapters(Collection<? extends ColumnAdapter<? super T, ?>> columnAdapters) {
         this.columnAdapters.clear();
         this.columnAdapters.addAll(columnAdapters);
+        providerEventColumns.clear();
         for (TableDataProvider<T> dataProvider : dataProviders) {
-            this.columnAdapters.addAll(dataProvider.getColumnAdapters());
+            List<? extends ColumnAdapter<T, ?>> providerColumns = dataProvider.getColumnAdapters();
+            if (providerColumns.size() == 1) providerEventColumns.put(dataProvider, this.columnAdapters.size());
+            else if (providerColumns.size() > 1) providerEventColumns.put(dataProvider, TableModelEvent.ALL_COLUMNS);
+            this.columnAdapters.addAll(providerColumns);
+        }
+        columnIndexes.clear();
+        for (int i = this.columnAdapters.size() - 1; i >= 0; i--) {
+            columnIndexes.put(this.columnAdapters.get(i), i);
         }
         tableModel.fireTableStructureChanged();
     }
@@ -74,6 +91,13 @@ public class BeanTableAdapter<T> {
         return columnAdapters.get(index);
     }
 
+    /**
+     * @return the index of the column adapter or -1 if it is not a column of the table.
+     */
+    public int indexOf(ColumnAdapter<?, ?> columnAdapter) {
+        return columnIndexes.getOrDefault(columnAdapter, -1);
+    }
+
     public int getColumnCount() {
         return columnAdapters.size();
     }
@@ -108,51 +132,185 @@ public class BeanTableAdapter<T> {
     }
 
     public void setBeans(Collection<T> beans) {
+        if (isUpdating()) {
+            deferredOperations.clear();
+            deferredOperations.add(new DeferredOperation(OperationType.SET, new ArrayList<>(beans)));
+            return;
+        }
         for (TableDataProvider<T> provider : dataProviders) {
             provider.setBeans(beans);
         }
     }
 
     public void addBean(T bean) {
-        for (TableDataProvider<T> provider : dataProviders) {
-            provider.addBean(bean);
+        if (isUpdating()) deferOperation(OperationType.ADD, Collections.singletonList(bean));
+        else {
+            for (TableDataProvider<T> provider : dataProviders) {
+                provider.addBean(bean);
+            }
+        }
+    }
+
+    public void addBeans(Collection<T> beans) {
+        if (isUpdating()) deferOperation(OperationType.ADD, beans);
+        else if (!beans.isEmpty()) {
+            for (TableDataProvider<T> provider : dataProviders) {
+                provider.addBeans(beans);
+            }
         }
     }
 
     public void updateBean(T bean, String columnId, Object oldValue) {
-        for (TableDataProvider<T> provider : dataProviders) {
-            provider.updateBean(bean, columnId, oldValue);
+        if (isUpdating()) deferOperation(OperationType.UPDATE, Collections.singletonList(new BeanChange<>(bean, columnId, oldValue)));
+        else {
+            for (TableDataProvider<T> provider : dataProviders) {
+                provider.updateBean(bean, columnId, oldValue);
+            }
         }
     }
 
     public void removeBean(T bean) {
-        for (TableDataProvider<T> provider : dataProviders) {
-            provider.removeBean(bean);
+        if (isUpdating()) deferOperation(OperationType.REMOVE, Collections.singletonList(bean));
+        else {
+            for (TableDataProvider<T> provider : dataProviders) {
+                provider.removeBean(bean);
+            }
+        }
+    }
+
+    public void removeBeans(Collection<T> beans) {
+        if (isUpdating()) deferOperation(OperationType.REMOVE, beans);
+        else if (!beans.isEmpty()) {
+            for (TableDataProvider<T> provider : dataProviders) {
+                provider.removeBeans(beans);
+            }
         }
     }
 
     public void notifyDataProviders(T row, int rowIndex, String columnId, Object oldValue) {
-        for (TableDataProvider<T> dataProvider : dataProviders) {
-            if (dataProvider.updateBean(row, columnId, oldValue)) {
-                fireTableColumnsChanged(dataProvider, rowIndex, rowIndex);
+        if (isUpdating()) deferOperation(OperationType.UPDATE, Collections.singletonList(new BeanChange<>(row, columnId, oldValue)));
+        else {
+            for (TableDataProvider<T> dataProvider : dataProviders) {
+                if (dataProvider.updateBean(row, columnId, oldValue)) {
+                    fireTableColumnsChanged(dataProvider, rowIndex, rowIndex);
+                }
+            }
+        }
+    }
+
+    /**
+     * Notify the data providers of changes to multiple beans.  Fires column update events for the rows of the changed
+     * beans when a data provider's columns are effected.
+     */
+    public void notifyDataProviders(Collection<BeanChange<T>> changes) {
+        if (isUpdating()) deferOperation(OperationType.UPDATE, changes);
+        else if (!changes.isEmpty()) {
+            for (TableDataProvider<T> dataProvider : dataProviders) {
+                if (dataProvider.updateBeans(changes)) {
+                    fireTableColumnsChanged(dataProvider, changes.stream().map(BeanChange::getBean).collect(Collectors.toList()));
+                }
+            }
+        }
+    }
+
+    public void prefetch(Collection<T> beans) {
+        for (TableDataProvider<T> provider : dataProviders) {
+            provider.prefetch(beans);
+        }
+    }
+
+    /**
+     * Start deferring notifications to the data providers.  Calls may be nested.
+     */
+    public void beginUpdate() {
+        updateDepth++;
+    }
+
+    /**
+     * Stop deferring notifications to the data providers.  When the outermost batch ends, consecutive notifications
+     * of the same type are combined and sent to the data providers using their batch methods.
+     * @throws IllegalStateException if there is no batch in progress
+     */
+    public void endUpdate() {
+        if (updateDepth == 0) throw new IllegalStateException("endUpdate() without beginUpdate()");
+        if (--updateDepth == 0) {
+            List<DeferredOperation> operations = new ArrayList<>(deferredOperations);
+            deferredOperations.clear();
+            for (DeferredOperation operation : operations) {
+                switch (operation.type) {
+                    case SET: setBeans(operation.getItems()); break;
+                    case ADD: addBeans(operation.getItems()); break;
+                    case REMOVE: removeBeans(operation.getItems()); break;
+                    case UPDATE: notifyDataProviders(operation.getItems()); break;
+                }
             }
         }
     }
 
+    private boolean isUpdating() {
+        return updateDepth > 0;
+    }
+
+    private void deferOperation(OperationType type, Collection<?> items) {
+        if (!dataProviders.isEmpty() && !items.isEmpty()) {
+            DeferredOperation last = deferredOperations.isEmpty() ? null : deferredOperations.get(deferredOperations.size() - 1);
+            if (last != null && last.type == type) last.items.addAll(items);
+            else deferredOperations.add(new DeferredOperation(type, new ArrayList<>(items)));
+        }
+    }
+
+    /**
+     * Fire a single update event for the provider's columns.
+     */
     private void fireTableColumnsChanged(TableDataProvider<T> provider, int firstRow, int lastRow) {
-        for (ColumnAdapter<T, ?> columnAdapter : provider.getColumnAdapters()) {
-            int column = columnAdapters.indexOf(columnAdapter);
+        Integer column = providerEventColumns.get(provider);
+        if (column != null) {
             tableModel.fireTableChanged(new TableModelEvent(tableModel, firstRow, lastRow, column, TableModelEvent.UPDATE));
         }
     }
 
+    /**
+     * Fire update events for the provider's columns for the rows containing {@code beans}.
+     */
+    private void fireTableColumnsChanged(TableDataProvider<T> provider, Collection<?> beans) {
+        Set<Object> beanSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        beanSet.addAll(beans);
+        BeanTableModel<?> beanTableModel = (BeanTableModel<?>) tableModel;
+        UpdateRanges rows = new UpdateRanges();
+        for (int row = 0; row < tableModel.getRowCount(); row++) {
+            if (beanSet.contains(beanTableModel.getBean(row))) rows.add(row, row, TableModelEvent.ALL_COLUMNS);
+        }
+        rows.fire(tableModel, event -> fireTableColumnsChanged(provider, event.getFirstRow(), event.getLastRow()));
+    }
+
     private class DataProviderListener implements PropertyChangeListener {
         @Override
         @SuppressWarnings("unchecked")
         public void propertyChange(PropertyChangeEvent evt) {
-            if (tableModel.getRowCount() > 0) {
-                fireTableColumnsChanged((TableDataProvider<T>) evt.getSource(), 0, tableModel.getRowCount() - 1);
+            TableDataProvider<T> provider = (TableDataProvider<T>) evt.getSource();
+            if (evt.getNewValue() instanceof Collection && tableModel instanceof BeanTableModel) {
+                fireTableColumnsChanged(provider, (Collection<?>) evt.getNewValue());
             }
+            else if (tableModel.getRowCount() > 0) {
+                fireTableColumnsChanged(provider, 0, tableModel.getRowCount() - 1);
+            }
+        }
+    }
+
+    private enum OperationType { SET, ADD, REMOVE, UPDATE }
+
+    private static class DeferredOperation {
+        private final OperationType type;
+        private final List<Object> items;
+
+        public DeferredOperation(OperationType type, List<Object> items) {
+            this.type = type;
+            this.items = items;
+        }
+
+        @SuppressWarnings("unchecked")
+        public <V> List<V> getItems() {
+            return (List<V>) items;
         }
     }
 }
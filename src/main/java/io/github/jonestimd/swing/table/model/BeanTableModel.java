@@ -61,6 +61,43 @@ public interface BeanTableModel<T> extends TableModel {
      */
     void updateBeans(Collection<T> beans, BiPredicate<T, T> isEqual);
 
+    /**
+     * Start a batch of changes.  Table model events are deferred until the end of the batch.  Calls may be nested.
+     * The default implementation does nothing.
+     */
+    default void beginUpdate() {
+    }
+
+    /**
+     * End a batch of changes.  When the outermost batch ends, the smallest set of events that describes the changes is
+     * fired to the table model listeners.  The default implementation does nothing.  Implementations that defer
+     * events throw {@link IllegalStateException} if there is no batch in progress.
+     */
+    default void endUpdate() {
+    }
+
+    /**
+     * Apply a batch of changes to the model.
+     * @param changes the changes to apply
+     * @see #beginUpdate()
+     */
+    default void update(Runnable changes) {
+        beginUpdate();
+        try {
+            changes.run();
+        } finally {
+            endUpdate();
+        }
+    }
+
+    /**
+     * Notification that rows are visible or about to become visible.  Can be used to load data for the rows on demand.
+     * The default implementation does nothing.
+     * @param rowIndexes the model indexes of the rows
+     */
+    default void prefetchRows(int... rowIndexes) {
+    }
+
     /**
      * Get the mouse cursor to display for a cell.
      * @param rowIndex the row index of the cell
@@ -279,9 +279,11 @@ public class BufferedHeaderDetailTableModel<H> extends HeaderDetailTableModel<H>
     }
 
     /**
-     * Update the errors for a row without firing change events.
+     * Update the errors for a row without firing change events.  Clears the cached values of the row, so that the
+     * current values are validated.
      */
     protected void updateRowValidation(int rowIndex) {
+        getValueCache().clearRows(rowIndex, rowIndex);
         for (int columnIndex = 0; columnIndex < getColumnCount(); columnIndex++) {
             validateCell(rowIndex, columnIndex);
         }
@@ -355,10 +357,11 @@ public class BufferedHeaderDetailTableModel<H> extends HeaderDetailTableModel<H>
     }
 
     /**
-     * Overridden to update validation.
+     * Overridden to update validation.  Clears the cached values of the row before validating the cell.
      */
     @Override
     public void fireTableCellUpdated(int row, int column) {
+        getValueCache().clearRows(row, row);
         validateCell(row, column);
         super.fireTableCellUpdated(row, column);
     }
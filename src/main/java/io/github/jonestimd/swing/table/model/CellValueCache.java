@@ -0,0 +1,138 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing.table.model;
+
+import java.util.Arrays;
+
+import javax.swing.event.TableModelEvent;
+import javax.swing.table.TableModel;
+
+import io.github.jonestimd.swing.table.ModelCellCache;
+import io.github.jonestimd.swing.table.ModelCellCache.CellLoader;
+
+/**
+ * Memoizes the values of selected columns of a table model.  The values for each row are stored in a compact array
+ * with one slot for each cached column.  Values of the other columns are always computed by the loader.
+ * <p>The owning model must pass its events to {@link #tableChanged(TableModelEvent)} before they are delivered to
+ * listeners and must clear any rows that it changes before firing the events for the change.</p>
+ */
+public class CellValueCache {
+    private static final int NOT_CACHED = -1;
+    private final TableModel model;
+    private final CellLoader<Object> loader;
+    private int[] columns = new int[0];
+    private int[] slots = new int[0];
+    private ModelCellCache<Object> cache;
+
+    /**
+     * Create a cache with no cached columns.
+     * @param model the owning table model
+     * @param loader computes the value of a cell
+     */
+    public CellValueCache(TableModel model, CellLoader<Object> loader) {
+        this.model = model;
+        this.loader = loader;
+    }
+
+    /**
+     * Set the columns to cache.  Clears the cached values and the hit/miss counts.
+     * @param columns the model column indexes (empty to disable the cache)
+     */
+    public void setCachedColumns(int... columns) {
+        this.columns = Arrays.stream(columns).distinct().toArray();
+        this.slots = new int[Arrays.stream(columns).max().orElse(-1) + 1];
+        Arrays.fill(slots, NOT_CACHED);
+        for (int slot = 0; slot < this.columns.length; slot++) {
+            slots[this.columns[slot]] = slot;
+        }
+        cache = this.columns.length == 0 ? null
+                : new ModelCellCache<>(model.getRowCount(), (row, slot) -> loader.load(row, this.columns[slot]));
+    }
+
+    /**
+     * @return the indexes of the cached columns.
+     */
+    public int[] getCachedColumns() {
+        return columns.clone();
+    }
+
+    public boolean isCached(int columnIndex) {
+        return columnIndex < slots.length && slots[columnIndex] != NOT_CACHED;
+    }
+
+    /**
+     * Get the value of a cell.
+     * @param rowIndex the model row index
+     * @param columnIndex the model column index
+     * @return the cached value or the value computed by the loader
+     */
+    public Object get(int rowIndex, int columnIndex) {
+        return isCached(columnIndex) ? cache.get(rowIndex, slots[columnIndex]) : loader.load(rowIndex, columnIndex);
+    }
+
+    /**
+     * Clear the cached values for a range of rows.
+     * @param firstRow the first model row index
+     * @param lastRow the last model row index (inclusive)
+     */
+    public void clearRows(int firstRow, int lastRow) {
+        if (cache != null) cache.clearRows(firstRow, lastRow);
+    }
+
+    /**
+     * Clear all cached values.
+     */
+    public void clear() {
+        if (cache != null) cache.clear();
+    }
+
+    /**
+     * Update the cache for a change to the model.  Row and cell updates clear the updated rows, inserts and deletes
+     * shift the cached rows and all other events clear the cache.
+     */
+    public void tableChanged(TableModelEvent event) {
+        if (cache != null) cache.tableChanged(event);
+    }
+
+    /**
+     * @return the number of requests for a cached column that did not require computing the value.
+     */
+    public long getHitCount() {
+        return cache == null ? 0L : cache.getHitCount();
+    }
+
+    /**
+     * @return the number of requests for a cached column that required computing the value.
+     */
+    public long getMissCount() {
+        return cache == null ? 0L : cache.getMissCount();
+    }
+
+    /**
+     * @return the fraction of requests for cached columns that did not require computing the value (0 if there
+     * have been no requests).
+     */
+    public double getHitRate() {
+        long requests = getHitCount() + getMissCount();
+        return requests == 0L ? 0d : (double) getHitCount() / requests;
+    }
+}
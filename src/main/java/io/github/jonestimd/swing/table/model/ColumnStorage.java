@@ -0,0 +1,264 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing.table.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Primitive array storage for a column of {@link ColumnarTableModel}.
+ */
+abstract class ColumnStorage {
+    /**
+     * Resize the storage.
+     * @param capacity the new number of rows
+     */
+    abstract void setCapacity(int capacity);
+
+    /**
+     * @return the boxed value of a row.
+     */
+    abstract Object get(int row);
+
+    /**
+     * Set the value of a row from a boxed value.
+     * @throws IllegalArgumentException if the value is not allowed (see {@link #checkValue(Object)})
+     */
+    abstract void set(int row, Object value);
+
+    /**
+     * Check if a boxed value can be stored.  The default implementation allows any value.
+     * @throws IllegalArgumentException if the value is not allowed
+     */
+    void checkValue(Object value) {
+    }
+
+    /**
+     * Set the value of a row using the value of a source bean.  Uses the primitive accessor of the adapter if it has
+     * one.
+     */
+    abstract <T> void set(int row, T bean, ColumnAdapter<? super T, ?> adapter);
+
+    /**
+     * @return true if {@link #getDouble(int)} is supported.
+     */
+    boolean isNumeric() {
+        return false;
+    }
+
+    /**
+     * @return the value of a row widened to a {@code double}.
+     * @throws IllegalStateException if the column is not numeric
+     */
+    double getDouble(int row) {
+        throw new IllegalStateException("not a numeric column");
+    }
+
+    /**
+     * Base class for numeric storage.  Numeric columns don't store {@code null}, so every row is included in the
+     * statistics of the column.
+     */
+    abstract static class NumericStorage extends ColumnStorage {
+        @Override
+        boolean isNumeric() {
+            return true;
+        }
+
+        @Override
+        void checkValue(Object value) {
+            if (value == null) {
+                throw new IllegalArgumentException("null value for numeric column");
+            }
+        }
+
+        protected Number toNumber(Object value) {
+            checkValue(value);
+            return (Number) value;
+        }
+    }
+
+    static class IntStorage extends NumericStorage {
+        private int[] values = new int[0];
+
+        @Override
+        void setCapacity(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        int getInt(int row) {
+            return values[row];
+        }
+
+        @Override
+        double getDouble(int row) {
+            return values[row];
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+
+        @Override
+        void set(int row, Object value) {
+            values[row] = toNumber(value).intValue();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        <T> void set(int row, T bean, ColumnAdapter<? super T, ?> adapter) {
+            if (adapter instanceof IntColumnAdapter) {
+                values[row] = ((IntColumnAdapter<? super T>) adapter).getInt(bean);
+            }
+            else set(row, adapter.getValue(bean));
+        }
+    }
+
+    static class LongStorage extends NumericStorage {
+        private long[] values = new long[0];
+
+        @Override
+        void setCapacity(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        long getLong(int row) {
+            return values[row];
+        }
+
+        @Override
+        double getDouble(int row) {
+            return values[row];
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+
+        @Override
+        void set(int row, Object value) {
+            values[row] = toNumber(value).longValue();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        <T> void set(int row, T bean, ColumnAdapter<? super T, ?> adapter) {
+            if (adapter instanceof LongColumnAdapter) {
+                values[row] = ((LongColumnAdapter<? super T>) adapter).getLong(bean);
+            }
+            else if (adapter instanceof IntColumnAdapter) {
+                values[row] = ((IntColumnAdapter<? super T>) adapter).getInt(bean);
+            }
+            else set(row, adapter.getValue(bean));
+        }
+    }
+
+    static class DoubleStorage extends NumericStorage {
+        private double[] values = new double[0];
+
+        @Override
+        void setCapacity(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        double getDouble(int row) {
+            return values[row];
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+
+        @Override
+        void set(int row, Object value) {
+            values[row] = toNumber(value).doubleValue();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        <T> void set(int row, T bean, ColumnAdapter<? super T, ?> adapter) {
+            if (adapter instanceof DoubleColumnAdapter) {
+                values[row] = ((DoubleColumnAdapter<? super T>) adapter).getDouble(bean);
+            }
+            else if (adapter instanceof LongColumnAdapter) {
+                values[row] = ((LongColumnAdapter<? super T>) adapter).getLong(bean);
+            }
+            else if (adapter instanceof IntColumnAdapter) {
+                values[row] = ((IntColumnAdapter<? super T>) adapter).getInt(bean);
+            }
+            else set(row, adapter.getValue(bean));
+        }
+    }
+
+    /**
+     * Stores strings as indexes into a dictionary of the distinct values.
+     */
+    static class StringStorage extends ColumnStorage {
+        private static final int NULL_CODE = -1;
+        private final List<String> dictionary = new ArrayList<>();
+        private final Map<String, Integer> codes = new HashMap<>();
+        private int[] values = new int[0];
+
+        @Override
+        void setCapacity(int capacity) {
+            int size = values.length;
+            values = Arrays.copyOf(values, capacity);
+            if (capacity > size) Arrays.fill(values, size, capacity, NULL_CODE);
+        }
+
+        String getString(int row) {
+            int code = values[row];
+            return code == NULL_CODE ? null : dictionary.get(code);
+        }
+
+        int getDictionarySize() {
+            return dictionary.size();
+        }
+
+        @Override
+        Object get(int row) {
+            return getString(row);
+        }
+
+        @Override
+        void set(int row, Object value) {
+            values[row] = value == null ? NULL_CODE : codes.computeIfAbsent(value.toString(), this::addToDictionary);
+        }
+
+        private int addToDictionary(String value) {
+            dictionary.add(value);
+            return dictionary.size() - 1;
+        }
+
+        @Override
+        <T> void set(int row, T bean, ColumnAdapter<? super T, ?> adapter) {
+            set(row, Objects.toString(adapter.getValue(bean), null));
+        }
+    }
+}
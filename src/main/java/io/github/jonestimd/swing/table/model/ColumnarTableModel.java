@@ -0,0 +1,431 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing.table.model;
+
+import java.awt.Cursor;
+import java.awt.event.MouseEvent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.DoubleSummaryStatistics;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.function.BiPredicate;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import javax.swing.JTable;
+
+import io.github.jonestimd.swing.table.model.ColumnStorage.DoubleStorage;
+import io.github.jonestimd.swing.table.model.ColumnStorage.IntStorage;
+import io.github.jonestimd.swing.table.model.ColumnStorage.LongStorage;
+import io.github.jonestimd.swing.table.model.ColumnStorage.StringStorage;
+
+/**
+ * A read-only {@link BeanTableModel} that stores each column in a primitive array instead of keeping a bean for
+ * each row.  String columns are stored as indexes into a dictionary of the distinct values.  The beans of the model
+ * are {@link Row} views that read the values from the column arrays.
+ * <p>The column adapters of the model are created by the {@link Builder}.  The numeric column adapters are primitive
+ * adapters (e.g. {@link DoubleColumnAdapter}), so sorting them doesn't box the values.
+ * {@link #getStatistics(int)} aggregates a numeric column without creating objects for the rows.  Numeric columns
+ * don't accept {@code null} values.</p>
+ * <pre>
+ * ColumnarTableModel model = ColumnarTableModel.builder(bundle, "transactionTable.")
+ *         .stringColumn("payee").doubleColumn("amount").build();
+ * model.setRows(transactions, Arrays.asList(payeeAdapter, amountAdapter));
+ * </pre>
+ */
+public class ColumnarTableModel extends EventSupportTableModel implements ColumnIdentifier, BeanTableModel<ColumnarTableModel.Row> {
+    private static final int MIN_CAPACITY = 16;
+    private final List<ColumnAdapter<Row, ?>> columnAdapters;
+    private final List<Supplier<ColumnStorage>> storageFactories;
+    private ColumnStorage[] columns;
+    private Row[] rows = new Row[0];
+    private int rowCount = 0;
+    /** incremented when the rows are replaced, so that the old {@link Row} views can't read the new columns */
+    private int generation = 0;
+
+    private ColumnarTableModel(List<ColumnAdapter<Row, ?>> columnAdapters, List<Supplier<ColumnStorage>> storageFactories) {
+        this.columnAdapters = Collections.unmodifiableList(columnAdapters);
+        this.storageFactories = storageFactories;
+        this.columns = newColumns(0);
+    }
+
+    public static Builder builder(ResourceBundle bundle, String tableResourcePrefix) {
+        return new Builder(bundle, tableResourcePrefix);
+    }
+
+    private ColumnStorage[] newColumns(int capacity) {
+        ColumnStorage[] columns = storageFactories.stream().map(Supplier::get).toArray(ColumnStorage[]::new);
+        for (ColumnStorage column : columns) {
+            column.setCapacity(capacity);
+        }
+        return columns;
+    }
+
+    public List<ColumnAdapter<Row, ?>> getColumnAdapters() {
+        return columnAdapters;
+    }
+
+    @Override
+    public ColumnAdapter<Row, ?> getColumnIdentifier(int modelIndex) {
+        return columnAdapters.get(modelIndex);
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columnAdapters.size();
+    }
+
+    @Override
+    public String getColumnName(int columnIndex) {
+        return columnAdapters.get(columnIndex).getName();
+    }
+
+    @Override
+    public Class<?> getColumnClass(int columnIndex) {
+        return columnAdapters.get(columnIndex).getType();
+    }
+
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public int getBeanCount() {
+        return rowCount;
+    }
+
+    /**
+     * @return the view of a row.  The view is created when it is first requested and is replaced when the rows
+     * of the model are replaced.
+     */
+    @Override
+    public Row getBean(int index) {
+        if (index >= rowCount) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + rowCount);
+        }
+        if (rows[index] == null) {
+            rows[index] = new Row(this, generation, index);
+        }
+        return rows[index];
+    }
+
+    @Override
+    public Object getValueAt(int rowIndex, int columnIndex) {
+        return columns[columnIndex].get(rowIndex);
+    }
+
+    @Override
+    public Object getValue(Row bean, int columnIndex) {
+        return bean.getValue(columnIndex);
+    }
+
+    /**
+     * Replace the rows of the model with the values of beans.
+     * @param beans the beans
+     * @param adapters the adapters for reading the bean values, in column order.  Primitive adapters (e.g.
+     *        {@link DoubleColumnAdapter}) are used to read numeric values without boxing them.
+     * @param <T> the class of the beans
+     * @throws IllegalArgumentException if a value of a numeric column is {@code null}
+     */
+    public <T> void setRows(Collection<? extends T> beans, List<? extends ColumnAdapter<? super T, ?>> adapters) {
+        if (adapters.size() != columns.length) {
+            throw new IllegalArgumentException("expected " + columns.length + " adapters");
+        }
+        ColumnStorage[] newColumns = newColumns(beans.size());
+        int row = 0;
+        for (T bean : beans) {
+            for (int column = 0; column < newColumns.length; column++) {
+                newColumns[column].set(row, bean, adapters.get(column));
+            }
+            row++;
+        }
+        replaceRows(newColumns, row);
+    }
+
+    private void replaceRows(ColumnStorage[] newColumns, int newRowCount) {
+        this.columns = newColumns;
+        this.rows = new Row[newRowCount];
+        this.rowCount = newRowCount;
+        this.generation++;
+        fireTableDataChanged();
+    }
+
+    /**
+     * Replace the rows of the model with copies of the values of the rows of another model.
+     */
+    @Override
+    public void setBeans(Collection<Row> beans) {
+        setRows(beans, columnAdapters);
+    }
+
+    /**
+     * Copy the values of rows into the model.  Rows matching an existing row are copied into the existing row and
+     * the other rows are appended.  Each row is compared with every existing row, so {@link #updateRows(Collection, int)}
+     * should be used when the rows can be matched by the value of a key column.
+     * @param beans the rows to copy (e.g. the rows of another {@code ColumnarTableModel} with the same columns)
+     * @param isEqual the predicate used to match the existing rows
+     */
+    @Override
+    public void updateBeans(Collection<Row> beans, BiPredicate<Row, Row> isEqual) {
+        update(() -> {
+            for (Row bean : beans) {
+                int index = IntStream.range(0, rowCount).filter(i -> isEqual.test(getBean(i), bean)).findFirst().orElse(-1);
+                if (index < 0) {
+                    index = appendRow();
+                    setRowValues(index, bean, columnAdapters);
+                    fireTableRowsInserted(index, index);
+                }
+                else {
+                    setRowValues(index, bean, columnAdapters);
+                    fireTableRowsUpdated(index, index);
+                }
+            }
+        });
+    }
+
+    /**
+     * Copy the values of rows into the model.  Rows with the same key as an existing row are copied into the existing
+     * row and the other rows are appended.  The keys of the existing rows are indexed once, so this is faster than
+     * {@link #updateBeans(Collection, BiPredicate)} for a large model.
+     * @param beans the rows to copy (e.g. the rows of another {@code ColumnarTableModel} with the same columns)
+     * @param keyColumn the index of the column that identifies a row
+     */
+    public void updateRows(Collection<Row> beans, int keyColumn) {
+        Map<Object, Integer> keyIndex = new HashMap<>();
+        for (int row = rowCount - 1; row >= 0; row--) {
+            keyIndex.put(columns[keyColumn].get(row), row);
+        }
+        update(() -> {
+            for (Row bean : beans) {
+                Integer index = keyIndex.get(bean.getValue(keyColumn));
+                if (index == null) {
+                    index = appendRow();
+                    setRowValues(index, bean, columnAdapters);
+                    keyIndex.put(bean.getValue(keyColumn), index);
+                    fireTableRowsInserted(index, index);
+                }
+                else {
+                    setRowValues(index, bean, columnAdapters);
+                    fireTableRowsUpdated(index, index);
+                }
+            }
+        });
+    }
+
+    private <T> void setRowValues(int rowIndex, T bean, List<? extends ColumnAdapter<? super T, ?>> adapters) {
+        for (int column = 0; column < columns.length; column++) {
+            columns[column].set(rowIndex, bean, adapters.get(column));
+        }
+    }
+
+    /**
+     * Append a row.
+     * @param values the boxed values of the row, in column order
+     * @throws IllegalArgumentException if a value of a numeric column is {@code null}
+     */
+    public void addRow(Object... values) {
+        if (values.length != columns.length) {
+            throw new IllegalArgumentException("expected " + columns.length + " values");
+        }
+        for (int column = 0; column < values.length; column++) {
+            columns[column].checkValue(values[column]);
+        }
+        int index = appendRow();
+        for (int column = 0; column < values.length; column++) {
+            columns[column].set(index, values[column]);
+        }
+        fireTableRowsInserted(index, index);
+    }
+
+    private int appendRow() {
+        if (rowCount == rows.length) {
+            int capacity = Math.max(MIN_CAPACITY, rows.length + (rows.length >> 1));
+            for (ColumnStorage column : columns) {
+                column.setCapacity(capacity);
+            }
+            rows = Arrays.copyOf(rows, capacity);
+        }
+        return rowCount++;
+    }
+
+    /**
+     * Remove all rows.
+     */
+    public void clear() {
+        replaceRows(newColumns(0), 0);
+    }
+
+    /**
+     * Aggregate the values of a numeric column.
+     * @throws IllegalArgumentException if the column is not numeric
+     */
+    public DoubleSummaryStatistics getStatistics(int columnIndex) {
+        return getStatistics(columnIndex, IntStream.range(0, rowCount));
+    }
+
+    /**
+     * Aggregate the values of a numeric column for a subset of the rows (e.g. the model indexes of the rows that
+     * are visible in a filtered table).
+     * @throws IllegalArgumentException if the column is not numeric
+     */
+    public DoubleSummaryStatistics getStatistics(int columnIndex, IntStream rowIndexes) {
+        if (!columns[columnIndex].isNumeric()) {
+            throw new IllegalArgumentException("not a numeric column: " + columnIndex);
+        }
+        return rowIndexes.mapToDouble(columns[columnIndex]::getDouble).summaryStatistics();
+    }
+
+    /**
+     * @return the number of distinct values in a string column.
+     * @throws ClassCastException if the column is not a string column
+     */
+    public int getDictionarySize(int columnIndex) {
+        return ((StringStorage) columns[columnIndex]).getDictionarySize();
+    }
+
+    @Override
+    public Cursor getCursor(MouseEvent event, JTable table, int rowIndex, int columnIndex) {
+        return columnAdapters.get(columnIndex).getCursor(event, table, getBean(rowIndex));
+    }
+
+    @Override
+    public void handleClick(MouseEvent event, JTable table, int rowIndex, int columnIndex) {
+        columnAdapters.get(columnIndex).handleClick(event, table, getBean(rowIndex));
+    }
+
+    private ColumnStorage getColumn(int generation, int columnIndex) {
+        if (generation != this.generation) {
+            throw new IllegalStateException("the rows of the model have been replaced");
+        }
+        return columns[columnIndex];
+    }
+
+    /**
+     * A view of a row of a {@link ColumnarTableModel}.  A view can't be used after the rows of the model are replaced
+     * (e.g. by {@link ColumnarTableModel#setRows(Collection, List)} or {@link ColumnarTableModel#clear()}) and its
+     * methods throw {@link IllegalStateException}.
+     */
+    public static final class Row {
+        private final ColumnarTableModel model;
+        private final int generation;
+        private final int index;
+
+        private Row(ColumnarTableModel model, int generation, int index) {
+            this.model = model;
+            this.generation = generation;
+            this.index = index;
+        }
+
+        /**
+         * @return the model index of the row.
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        public Object getValue(int columnIndex) {
+            return model.getColumn(generation, columnIndex).get(index);
+        }
+
+        /**
+         * @throws ClassCastException if the column is not an {@code int} column
+         */
+        public int getInt(int columnIndex) {
+            return ((IntStorage) model.getColumn(generation, columnIndex)).getInt(index);
+        }
+
+        /**
+         * @throws ClassCastException if the column is not a {@code long} column
+         */
+        public long getLong(int columnIndex) {
+            return ((LongStorage) model.getColumn(generation, columnIndex)).getLong(index);
+        }
+
+        /**
+         * @return the value of a numeric column widened to a {@code double}.
+         * @throws IllegalStateException if the column is not numeric
+         */
+        public double getDouble(int columnIndex) {
+            return model.getColumn(generation, columnIndex).getDouble(index);
+        }
+
+        /**
+         * @throws ClassCastException if the column is not a string column
+         */
+        public String getString(int columnIndex) {
+            return ((StringStorage) model.getColumn(generation, columnIndex)).getString(index);
+        }
+    }
+
+    /**
+     * Defines the columns of a {@link ColumnarTableModel}.  The column names are read from the resource bundle
+     * using the table resource prefix and the column IDs (see {@link AbstractColumnAdapter}).
+     */
+    public static class Builder {
+        private final ResourceBundle bundle;
+        private final String tableResourcePrefix;
+        private final List<ColumnAdapter<Row, ?>> columnAdapters = new ArrayList<>();
+        private final List<Supplier<ColumnStorage>> storageFactories = new ArrayList<>();
+
+        private Builder(ResourceBundle bundle, String tableResourcePrefix) {
+            this.bundle = bundle;
+            this.tableResourcePrefix = tableResourcePrefix;
+        }
+
+        private Builder add(IntFunction<ColumnAdapter<Row, ?>> adapterFactory, Supplier<ColumnStorage> storageFactory) {
+            columnAdapters.add(adapterFactory.apply(columnAdapters.size()));
+            storageFactories.add(storageFactory);
+            return this;
+        }
+
+        public Builder intColumn(String columnId) {
+            return add(index -> FunctionColumnAdapter.ofInt(bundle, tableResourcePrefix, columnId, row -> row.getInt(index), null),
+                    IntStorage::new);
+        }
+
+        public Builder longColumn(String columnId) {
+            return add(index -> FunctionColumnAdapter.ofLong(bundle, tableResourcePrefix, columnId, row -> row.getLong(index), null),
+                    LongStorage::new);
+        }
+
+        public Builder doubleColumn(String columnId) {
+            return add(index -> FunctionColumnAdapter.ofDouble(bundle, tableResourcePrefix, columnId, row -> row.getDouble(index), null),
+                    DoubleStorage::new);
+        }
+
+        public Builder stringColumn(String columnId) {
+            return add(index -> new FunctionColumnAdapter<>(bundle, tableResourcePrefix, columnId, String.class, row -> row.getString(index), null),
+                    StringStorage::new);
+        }
+
+        public ColumnarTableModel build() {
+            return new ColumnarTableModel(new ArrayList<>(columnAdapters), new ArrayList<>(storageFactories));
+        }
+    }
+}
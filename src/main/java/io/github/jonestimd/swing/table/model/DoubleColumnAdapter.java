@@ -0,0 +1,42 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing.table.model;
+
+/**
+ * A {@link ColumnAdapter} for a non-null {@code double} property.  Sorting uses {@link #getDouble(Object)} to compare values
+ * without boxing them.
+ * @see FunctionColumnAdapter#ofDouble
+ */
+public interface DoubleColumnAdapter<Bean> extends ColumnAdapter<Bean, Double> {
+    /**
+     * @return the unboxed property value.
+     */
+    double getDouble(Bean row);
+
+    /**
+     * @return the boxed value of {@link #getDouble(Object)}.
+     */
+    @Override
+    default Double getValue(Bean row) {
+        return getDouble(row);
+    }
+}
@@ -0,0 +1,86 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing.table.model;
+
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+import javax.swing.table.AbstractTableModel;
+
+/**
+ * Base class for table models that deliver their events using a {@link TableModelEventSupport}, so that update events
+ * can be merged and events can be deferred until the end of a batch of changes.
+ */
+public abstract class EventSupportTableModel extends AbstractTableModel {
+    private final TableModelEventSupport eventSupport = new TableModelEventSupport(this, super::fireTableChanged);
+
+    protected TableModelEventSupport getEventSupport() {
+        return eventSupport;
+    }
+
+    /**
+     * Add a listener that receives each event when it is fired, before it is merged or deferred.
+     * @see TableModelEventSupport#addCacheListener(TableModelListener)
+     */
+    public void addCacheListener(TableModelListener listener) {
+        eventSupport.addCacheListener(listener);
+    }
+
+    public void removeCacheListener(TableModelListener listener) {
+        eventSupport.removeCacheListener(listener);
+    }
+
+    /**
+     * Merge cell, row and column update events and deliver them to listeners asynchronously.
+     * @param delay the minimum number of milliseconds between deliveries of update events (0 to deliver once per
+     *        EDT cycle) or a negative value to deliver all events immediately
+     * @see TableModelEventCoalescer
+     */
+    public void setUpdateDelay(int delay) {
+        eventSupport.setUpdateDelay(delay);
+    }
+
+    /**
+     * @param updateThreshold the maximum number of merged update events to fire at the end of a batch of changes.
+     */
+    public void setUpdateThreshold(int updateThreshold) {
+        eventSupport.setUpdateThreshold(updateThreshold);
+    }
+
+    /**
+     * Start deferring events.  Calls may be nested.
+     */
+    public void beginUpdate() {
+        eventSupport.beginUpdate();
+    }
+
+    /**
+     * Stop deferring events.  Fires the deferred events when the outermost batch ends.
+     */
+    public void endUpdate() {
+        eventSupport.endUpdate();
+    }
+
+    @Override
+    public void fireTableChanged(TableModelEvent event) {
+        eventSupport.fireTableChanged(event);
+    }
+}
@@ -22,6 +22,12 @@ package io.github.jonestimd.swing.table.model;
 import java.util.ResourceBundle;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * Bean adapter for a table column that uses functions to get/set the property value.
@@ -49,4 +55,116 @@ public class FunctionColumnAdapter<Bean, Value> extends ConstantColumnAdapter<Be
         }
         setter.accept(summary, value);
     }
+
+    /**
+     * Create an adapter for a non-null {@code int} property.  The adapter's {@code setValue()} throws
+     * {@link IllegalArgumentException} for a {@code null} value.
+     * @param setter the property setter or {@code null} for a read-only column
+     */
+    public static <Bean> IntColumnAdapter<Bean> ofInt(ResourceBundle bundle, String tableResourcePrefix, String columnId,
+            ToIntFunction<Bean> getter, ObjIntConsumer<Bean> setter) {
+        return new IntFunctionColumnAdapter<>(bundle, tableResourcePrefix, columnId, getter, setter);
+    }
+
+    /**
+     * Create an adapter for a non-null {@code long} property.  The adapter's {@code setValue()} throws
+     * {@link IllegalArgumentException} for a {@code null} value.
+     * @param setter the property setter or {@code null} for a read-only column
+     */
+    public static <Bean> LongColumnAdapter<Bean> ofLong(ResourceBundle bundle, String tableResourcePrefix, String columnId,
+            ToLongFunction<Bean> getter, ObjLongConsumer<Bean> setter) {
+        return new LongFunctionColumnAdapter<>(bundle, tableResourcePrefix, columnId, getter, setter);
+    }
+
+    /**
+     * Create an adapter for a non-null {@code double} property.  The adapter's {@code setValue()} throws
+     * {@link IllegalArgumentException} for a {@code null} value.
+     * @param setter the property setter or {@code null} for a read-only column
+     */
+    public static <Bean> DoubleColumnAdapter<Bean> ofDouble(ResourceBundle bundle, String tableResourcePrefix, String columnId,
+            ToDoubleFunction<Bean> getter, ObjDoubleConsumer<Bean> setter) {
+        return new DoubleFunctionColumnAdapter<>(bundle, tableResourcePrefix, columnId, getter, setter);
+    }
+
+    private static <V> V requireValue(ColumnAdapter<?, V> adapter, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("null value for primitive column: " + adapter.getColumnId());
+        }
+        return value;
+    }
+
+    private static class IntFunctionColumnAdapter<Bean> extends ConstantColumnAdapter<Bean, Integer> implements IntColumnAdapter<Bean> {
+        private final ToIntFunction<Bean> getter;
+        private final ObjIntConsumer<Bean> setter;
+
+        private IntFunctionColumnAdapter(ResourceBundle bundle, String tableResourcePrefix, String columnId,
+                ToIntFunction<Bean> getter, ObjIntConsumer<Bean> setter) {
+            super(bundle, tableResourcePrefix, columnId, Integer.class, setter != null);
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        public int getInt(Bean row) {
+            return getter.applyAsInt(row);
+        }
+
+        @Override
+        public void setValue(Bean row, Integer value) {
+            if (setter == null) {
+                throw new UnsupportedOperationException();
+            }
+            setter.accept(row, requireValue(this, value));
+        }
+    }
+
+    private static class LongFunctionColumnAdapter<Bean> extends ConstantColumnAdapter<Bean, Long> implements LongColumnAdapter<Bean> {
+        private final ToLongFunction<Bean> getter;
+        private final ObjLongConsumer<Bean> setter;
+
+        private LongFunctionColumnAdapter(ResourceBundle bundle, String tableResourcePrefix, String columnId,
+                ToLongFunction<Bean> getter, ObjLongConsumer<Bean> setter) {
+            super(bundle, tableResourcePrefix, columnId, Long.class, setter != null);
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        public long getLong(Bean row) {
+            return getter.applyAsLong(row);
+        }
+
+        @Override
+        public void setValue(Bean row, Long value) {
+            if (setter == null) {
+                throw new UnsupportedOperationException();
+            }
+            setter.accept(row, requireValue(this, value));
+        }
+    }
+
+    private static class DoubleFunctionColumnAdapter<Bean> extends ConstantColumnAdapter<Bean, Double> implements DoubleColumnAdapter<Bean> {
+        private final ToDoubleFunction<Bean> getter;
+        private final ObjDoubleConsumer<Bean> setter;
+
+        private DoubleFunctionColumnAdapter(ResourceBundle bundle, String tableResourcePrefix, String columnId,
+                ToDoubleFunction<Bean> getter, ObjDoubleConsumer<Bean> setter) {
+            super(bundle, tableResourcePrefix, columnId, Double.class, setter != null);
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        public double getDouble(Bean row) {
+            return getter.applyAsDouble(row);
+        }
+
+        @Override
+        public void setValue(Bean row, Double value) {
+            if (setter == null) {
+                throw new UnsupportedOperationException();
+            }
+            setter.accept(row, requireValue(this, value));
+        }
+    }
 }
@@ -34,7 +34,7 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import javax.swing.JTable;
-import javax.swing.table.AbstractTableModel;
+import javax.swing.event.TableModelEvent;
 
 import io.github.jonestimd.collection.HashList;
 import io.github.jonestimd.swing.table.sort.BeanModelRowSorter;
@@ -58,7 +58,7 @@ import io.github.jonestimd.swing.table.sort.BeanModelRowSorter;
  *
  * @param <T> the type of the group bean (typically the header)
  */
-public class HeaderDetailTableModel<T> extends AbstractTableModel implements MixedRowTableModel, BeanTableModel<T> {
+public class HeaderDetailTableModel<T> extends EventSupportTableModel implements MixedRowTableModel, BeanTableModel<T> {
     private static final int GROWTH_FACTOR = 10;
     private final Logger logger = Logger.getLogger(HeaderDetailTableModel.class.getName());
 
@@ -70,6 +70,7 @@ public class HeaderDetailTableModel<T> extends AbstractTableModel implements Mix
     private int beanCount = 0;
     private int[] rowOffset = new int[GROWTH_FACTOR];
     private int rowCount = 0;
+    private final CellValueCache valueCache = new CellValueCache(this, this::getRowValueAt);
 
     /**
      * Partial constructor for sub-classes.  The {@link ColumnAdapter}s must be set to complete construction.
@@ -402,6 +403,10 @@ public class HeaderDetailTableModel<T> extends AbstractTableModel implements Mix
 
     @Override
     public Object getValueAt(int rowIndex, int columnIndex) {
+        return valueCache.get(rowIndex, columnIndex);
+    }
+
+    private Object getRowValueAt(int rowIndex, int columnIndex) {
         int i = Arrays.binarySearch(rowOffset, 0, beanCount, rowIndex);
         if (i >= 0) {
             return getValue(beans.get(i), columnIndex);
@@ -494,6 +499,10 @@ public class HeaderDetailTableModel<T> extends AbstractTableModel implements Mix
             getDetailColumnAdapter(getRowTypeIndex(rowIndex)-1, columnIndex)
                     .setValue(detailAdapter.getDetail(getBean(-i - 2), subRowIndex - 1), value);
         }
+        // header values may be derived from the details
+        int beanIndex = getGroupNumber(rowIndex);
+        int leadRow = getLeadRowForGroup(beanIndex);
+        valueCache.clearRows(leadRow, leadRow + getRowCount(beanIndex) - 1);
         fireTableCellUpdated(rowIndex, columnIndex);
         // validate other columns
         for (int column = 0; column < getColumnCount(); column++) {
@@ -502,4 +511,20 @@ public class HeaderDetailTableModel<T> extends AbstractTableModel implements Mix
             }
         }
     }
+
+    /**
+     * Get the cache for the values of this model.  No columns are cached by default.  Cached values are cleared by
+     * {@link #setCellValue(Object, int, int)} and by the events fired by this model, so the model must be notified of
+     * changes to derived values (e.g. by calling {@link #fireTableRowsUpdated(int, int)}).
+     * @see CellValueCache#setCachedColumns(int...)
+     */
+    public CellValueCache getValueCache() {
+        return valueCache;
+    }
+
+    @Override
+    public void fireTableChanged(TableModelEvent event) {
+        valueCache.tableChanged(event);
+        super.fireTableChanged(event);
+    }
 }
@@ -0,0 +1,105 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing.table.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import javax.swing.RowSorter.SortKey;
+import javax.swing.SortOrder;
+
+/**
+ * An in-memory {@link PageSource} (e.g. for testing a {@link PagedTableModel}).  Rows are sorted using the values
+ * of the column adapters and filtered using predicates created from the filter text.
+ * @param <T> the class of the beans
+ */
+public class ListPageSource<T> implements PageSource<T> {
+    private final List<T> rows;
+    private final List<? extends ColumnAdapter<? super T, ?>> columnAdapters;
+    private final Function<String, Predicate<T>> filterFactory;
+    private PageQuery lastQuery;
+    private List<T> lastResult;
+
+    /**
+     * @param rows the rows
+     * @param columnAdapters the column adapters for sorting the rows
+     * @param filterFactory creates the row filter for the filter text of a query (e.g.
+     *        {@link io.github.jonestimd.swing.table.filter.ColumnPredicateFactory})
+     */
+    public ListPageSource(List<T> rows, List<? extends ColumnAdapter<? super T, ?>> columnAdapters, Function<String, Predicate<T>> filterFactory) {
+        this.rows = new ArrayList<>(rows);
+        this.columnAdapters = columnAdapters;
+        this.filterFactory = filterFactory;
+    }
+
+    @Override
+    public int getRowCount(PageQuery query) {
+        return getRows(query).size();
+    }
+
+    @Override
+    public List<T> getPage(PageQuery query, int offset, int size, T previous) {
+        List<T> result = getRows(query);
+        int previousIndex = previous == null ? -1 : indexOf(result, previous);
+        int start = previousIndex < 0 ? offset : previousIndex + 1;
+        return start >= result.size() ? Collections.emptyList()
+                : new ArrayList<>(result.subList(start, Math.min(start + size, result.size())));
+    }
+
+    private int indexOf(List<T> result, T bean) {
+        for (int i = 0; i < result.size(); i++) {
+            if (result.get(i) == bean) return i;
+        }
+        return -1;
+    }
+
+    private synchronized List<T> getRows(PageQuery query) {
+        if (!query.equals(lastQuery)) {
+            Predicate<T> filter = query.getFilter() == null ? row -> true : filterFactory.apply(query.getFilter());
+            lastResult = rows.stream().filter(filter).sorted(comparator(query.getSortKeys())).collect(Collectors.toList());
+            lastQuery = query;
+        }
+        return lastResult;
+    }
+
+    private Comparator<T> comparator(List<SortKey> sortKeys) {
+        Comparator<T> comparator = (row1, row2) -> 0;
+        for (SortKey sortKey : sortKeys) {
+            if (sortKey.getSortOrder() != SortOrder.UNSORTED) {
+                Comparator<T> column = Comparator.comparing(getter(sortKey.getColumn()), Comparator.nullsFirst(Comparator.naturalOrder()));
+                comparator = comparator.thenComparing(sortKey.getSortOrder() == SortOrder.DESCENDING ? column.reversed() : column);
+            }
+        }
+        return comparator;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Function<T, Comparable<Object>> getter(int column) {
+        ColumnAdapter<? super T, ?> adapter = columnAdapters.get(column);
+        return row -> (Comparable<Object>) adapter.getValue(row);
+    }
+}
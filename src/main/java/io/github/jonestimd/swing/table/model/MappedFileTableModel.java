@@ -0,0 +1,370 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing.table.model;
+
+import java.awt.Cursor;
+import java.awt.event.MouseEvent;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.ToLongFunction;
+
+import javax.swing.JTable;
+import javax.swing.table.AbstractTableModel;
+
+import io.github.jonestimd.util.LruMap;
+
+/**
+ * A read-only {@link BeanTableModel} for the records of a memory-mapped file.  The records can have a fixed width or
+ * be separated by a delimiter (e.g. a line feed).  The offsets of delimited records are indexed by scanning the
+ * mapped file once.  Records are decoded when they are displayed and a limited number of the decoded beans are
+ * cached.
+ * <p>Sort keys can be extracted from the records of a column (see {@link #setSortKey(int, ToLongFunction)}) so that
+ * {@link io.github.jonestimd.swing.table.sort.MappedFileTableRowSorter} can sort the rows without decoding them.</p>
+ * @param <T> the class of the decoded records
+ */
+public class MappedFileTableModel<T> extends AbstractTableModel implements ColumnIdentifier, BeanTableModel<T> {
+    public static final int DEFAULT_CACHE_SIZE = 256;
+    private static final int MAX_SEGMENT_SIZE = 1 << 30;
+    private final MappedByteBuffer[] segments;
+    private final int segmentSize;
+    private final RecordDecoder<T> decoder;
+    private final List<? extends ColumnAdapter<? super T, ?>> columnAdapters;
+    /** the start offset of each record followed by the end of the file, or null for fixed width records */
+    private final long[] offsets;
+    private final int recordLength;
+    private final int delimiterLength;
+    private final int rowCount;
+    private final Map<Integer, IntBinaryOperator> sortKeys = new HashMap<>();
+    private LruMap<Integer, T> rowCache = new LruMap<>(DEFAULT_CACHE_SIZE);
+
+    /**
+     * Create a model for a file of fixed width records.  If the size of the file is not a multiple of the record
+     * length, then the trailing bytes (e.g. a partially written record) are not included in the model.
+     * @param file the file
+     * @param recordLength the number of bytes in each record
+     * @param decoder converts a record to a bean
+     * @param columnAdapters the column adapters for the decoded beans
+     * @throws IllegalArgumentException if {@code recordLength} is not positive
+     */
+    public static <T> MappedFileTableModel<T> fixedWidth(Path file, int recordLength, RecordDecoder<T> decoder,
+            List<? extends ColumnAdapter<? super T, ?>> columnAdapters) throws IOException {
+        if (recordLength <= 0) {
+            throw new IllegalArgumentException("invalid record length: " + recordLength);
+        }
+        return new MappedFileTableModel<>(map(file, MAX_SEGMENT_SIZE), MAX_SEGMENT_SIZE, recordLength, (byte) 0, decoder, columnAdapters);
+    }
+
+    /**
+     * Create a model for a file of variable length records.
+     * @param file the file
+     * @param delimiter the byte that terminates each record (not included in the record passed to the decoder)
+     * @param decoder converts a record to a bean
+     * @param columnAdapters the column adapters for the decoded beans
+     */
+    public static <T> MappedFileTableModel<T> delimited(Path file, byte delimiter, RecordDecoder<T> decoder,
+            List<? extends ColumnAdapter<? super T, ?>> columnAdapters) throws IOException {
+        return new MappedFileTableModel<>(map(file, MAX_SEGMENT_SIZE), MAX_SEGMENT_SIZE, 0, delimiter, decoder, columnAdapters);
+    }
+
+    static MappedByteBuffer[] map(Path file, int segmentSize) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            MappedByteBuffer[] segments = new MappedByteBuffer[(int) ((size + segmentSize - 1) / segmentSize)];
+            for (int i = 0; i < segments.length; i++) {
+                long position = (long) i * segmentSize;
+                segments[i] = channel.map(MapMode.READ_ONLY, position, Math.min(segmentSize, size - position));
+            }
+            return segments;
+        }
+    }
+
+    /**
+     * @param segments the mapped segments of the file
+     * @param segmentSize the size of each segment (except the last)
+     * @param recordLength the length of fixed width records or 0 for delimited records
+     * @param delimiter the delimiter of variable length records
+     */
+    MappedFileTableModel(MappedByteBuffer[] segments, int segmentSize, int recordLength, byte delimiter, RecordDecoder<T> decoder,
+            List<? extends ColumnAdapter<? super T, ?>> columnAdapters) {
+        if (recordLength < 0) {
+            throw new IllegalArgumentException("invalid record length: " + recordLength);
+        }
+        this.segments = segments;
+        this.segmentSize = segmentSize;
+        this.recordLength = recordLength;
+        this.decoder = decoder;
+        this.columnAdapters = columnAdapters;
+        if (recordLength > 0) {
+            this.offsets = null;
+            this.delimiterLength = 0;
+            this.rowCount = (int) (getFileSize() / recordLength);
+        }
+        else {
+            this.offsets = indexRecords(delimiter);
+            this.delimiterLength = 1;
+            this.rowCount = offsets.length - 1;
+        }
+    }
+
+    private long getFileSize() {
+        return segments.length == 0 ? 0L : (long) (segments.length - 1) * segmentSize + segments[segments.length - 1].capacity();
+    }
+
+    /**
+     * Scan the mapped segments for the record delimiters.
+     * @return the start of each record followed by the end of the file (plus one if the last record is not terminated)
+     */
+    private long[] indexRecords(byte delimiter) {
+        long[] offsets = new long[1024];
+        int count = 1;
+        long fileOffset = 0L;
+        for (MappedByteBuffer segment : segments) {
+            int size = segment.capacity();
+            for (int i = 0; i < size; i++) {
+                if (segment.get(i) == delimiter) {
+                    if (count == offsets.length) offsets = Arrays.copyOf(offsets, count + (count >> 1));
+                    offsets[count++] = fileOffset + i + 1;
+                }
+            }
+            fileOffset += size;
+        }
+        if (offsets[count - 1] < fileOffset) {
+            if (count == offsets.length) offsets = Arrays.copyOf(offsets, count + 1);
+            offsets[count++] = fileOffset + 1;
+        }
+        return Arrays.copyOf(offsets, count);
+    }
+
+    /**
+     * @param cacheSize the maximum number of decoded beans to keep
+     */
+    public void setCacheSize(int cacheSize) {
+        rowCache = new LruMap<>(cacheSize);
+    }
+
+    public int getCacheSize() {
+        return rowCache.getMaxSize();
+    }
+
+    /**
+     * Get the bytes of a record.
+     * @param index the record index
+     * @return a read-only buffer containing only the record (excluding the delimiter)
+     */
+    public ByteBuffer getRecord(int index) {
+        if (index < 0 || index >= rowCount) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + rowCount);
+        }
+        long start = offsets == null ? (long) index * recordLength : offsets[index];
+        int length = offsets == null ? recordLength : (int) (offsets[index + 1] - start) - delimiterLength;
+        int segment = (int) (start / segmentSize);
+        int position = (int) (start % segmentSize);
+        if (position + length <= segments[segment].capacity()) {
+            ByteBuffer record = segments[segment].asReadOnlyBuffer();
+            ((Buffer) record).limit(position + length);
+            ((Buffer) record).position(position);
+            return record.slice();
+        }
+        ByteBuffer record = ByteBuffer.allocate(length);
+        while (record.hasRemaining()) {
+            ByteBuffer source = segments[segment++].asReadOnlyBuffer();
+            ((Buffer) source).position(position);
+            ((Buffer) source).limit(Math.min(source.capacity(), position + record.remaining()));
+            record.put(source);
+            position = 0;
+        }
+        ((Buffer) record).flip();
+        return record.asReadOnlyBuffer();
+    }
+
+    /**
+     * Extract a numeric sort key from the records for a column.  The keys are extracted by scanning all of the
+     * records once.
+     * @param columnIndex the column index
+     * @param keyExtractor reads the key from a record (see {@link #getRecord(int)})
+     */
+    public void setSortKey(int columnIndex, ToLongFunction<ByteBuffer> keyExtractor) {
+        long[] keys = new long[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            keys[i] = keyExtractor.applyAsLong(getRecord(i));
+        }
+        sortKeys.put(columnIndex, (row1, row2) -> Long.compare(keys[row1], keys[row2]));
+    }
+
+    /**
+     * Extract a sort key from the records for a column.  The keys are extracted by scanning all of the records once.
+     * @param columnIndex the column index
+     * @param keyExtractor reads the key from a record (see {@link #getRecord(int)})
+     * @param comparator the comparator for the keys
+     */
+    public <K> void setSortKey(int columnIndex, Function<ByteBuffer, K> keyExtractor, Comparator<? super K> comparator) {
+        Object[] keys = new Object[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            keys[i] = keyExtractor.apply(getRecord(i));
+        }
+        @SuppressWarnings("unchecked")
+        Comparator<Object> keyComparator = (Comparator<Object>) comparator;
+        sortKeys.put(columnIndex, (row1, row2) -> keyComparator.compare(keys[row1], keys[row2]));
+    }
+
+    /**
+     * @return true if a sort key has been extracted for the column.
+     */
+    public boolean hasSortKey(int columnIndex) {
+        return sortKeys.containsKey(columnIndex);
+    }
+
+    /**
+     * Compare the sort keys of two rows.
+     * @param columnIndex the column index
+     * @param row1 the model index of the first row
+     * @param row2 the model index of the second row
+     * @throws IllegalArgumentException if the column does not have a sort key
+     */
+    public int compareSortKeys(int columnIndex, int row1, int row2) {
+        IntBinaryOperator comparator = sortKeys.get(columnIndex);
+        if (comparator == null) {
+            throw new IllegalArgumentException("no sort key for column " + columnIndex);
+        }
+        return comparator.applyAsInt(row1, row2);
+    }
+
+    /**
+     * Decode the values of a column for all of the records.  The records are decoded in order and the decoded beans
+     * are not added to the row cache.
+     * @param columnIndex the column index
+     * @return the column values indexed by model row
+     */
+    public Object[] getColumnValues(int columnIndex) {
+        ColumnAdapter<? super T, ?> columnAdapter = columnAdapters.get(columnIndex);
+        Object[] values = new Object[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            values[i] = columnAdapter.getValue(decoder.decode(getRecord(i)));
+        }
+        return values;
+    }
+
+    @Override
+    public ColumnAdapter<? super T, ?> getColumnIdentifier(int modelIndex) {
+        return columnAdapters.get(modelIndex);
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columnAdapters.size();
+    }
+
+    @Override
+    public String getColumnName(int columnIndex) {
+        return columnAdapters.get(columnIndex).getName();
+    }
+
+    @Override
+    public Class<?> getColumnClass(int columnIndex) {
+        return columnAdapters.get(columnIndex).getType();
+    }
+
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public int getBeanCount() {
+        return rowCount;
+    }
+
+    /**
+     * @return the decoded record.
+     */
+    @Override
+    public T getBean(int index) {
+        T bean = rowCache.get(index);
+        if (bean == null) {
+            bean = decoder.decode(getRecord(index));
+            rowCache.put(index, bean);
+        }
+        return bean;
+    }
+
+    @Override
+    public Object getValueAt(int rowIndex, int columnIndex) {
+        return getValue(getBean(rowIndex), columnIndex);
+    }
+
+    @Override
+    public Object getValue(T bean, int columnIndex) {
+        return columnAdapters.get(columnIndex).getValue(bean);
+    }
+
+    /**
+     * @throws UnsupportedOperationException the model is read-only
+     */
+    @Override
+    public void setBeans(Collection<T> beans) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * @throws UnsupportedOperationException the model is read-only
+     */
+    @Override
+    public void updateBeans(Collection<T> beans, BiPredicate<T, T> isEqual) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Cursor getCursor(MouseEvent event, JTable table, int rowIndex, int columnIndex) {
+        return columnAdapters.get(columnIndex).getCursor(event, table, getBean(rowIndex));
+    }
+
+    @Override
+    public void handleClick(MouseEvent event, JTable table, int rowIndex, int columnIndex) {
+        columnAdapters.get(columnIndex).handleClick(event, table, getBean(rowIndex));
+    }
+
+    /**
+     * Converts a record to a bean.
+     * @param <T> the class of the bean
+     */
+    public interface RecordDecoder<T> {
+        /**
+         * @param record a read-only buffer containing only the bytes of the record
+         */
+        T decode(ByteBuffer record);
+    }
+}
@@ -0,0 +1,76 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing.table.model;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import javax.swing.RowSorter.SortKey;
+
+/**
+ * The sort order and filter of a {@link PagedTableModel}.  Passed to the {@link PageSource} so that sorting and
+ * filtering can be done by the source (e.g. in a database query).
+ */
+public final class PageQuery {
+    public static final PageQuery UNSORTED = new PageQuery(Collections.emptyList(), null);
+    private final List<SortKey> sortKeys;
+    private final String filter;
+
+    /**
+     * @param sortKeys the sort keys, using model column indexes
+     * @param filter the filter text or {@code null} for all rows
+     */
+    public PageQuery(List<? extends SortKey> sortKeys, String filter) {
+        this.sortKeys = Collections.unmodifiableList(sortKeys);
+        this.filter = filter;
+    }
+
+    public List<SortKey> getSortKeys() {
+        return sortKeys;
+    }
+
+    public String getFilter() {
+        return filter;
+    }
+
+    public PageQuery withSortKeys(List<? extends SortKey> sortKeys) {
+        return new PageQuery(sortKeys, filter);
+    }
+
+    public PageQuery withFilter(String filter) {
+        return new PageQuery(sortKeys, filter);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        PageQuery that = (PageQuery) obj;
+        return sortKeys.equals(that.sortKeys) && Objects.equals(filter, that.filter);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sortKeys, filter);
+    }
+}
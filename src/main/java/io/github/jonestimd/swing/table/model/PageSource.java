@@ -0,0 +1,48 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing.table.model;
+
+import java.util.List;
+
+/**
+ * Provides the rows of a {@link PagedTableModel}.  The methods are called on a background thread.
+ * @param <T> the class of the beans
+ * @see ListPageSource
+ */
+public interface PageSource<T> {
+    /**
+     * @return the number of rows that match the query.
+     */
+    int getRowCount(PageQuery query);
+
+    /**
+     * Get a page of rows.  When the previous page is loaded, its last row is provided so that the source can use
+     * keyset pagination (i.e. get the rows that follow {@code previous} in the sort order instead of skipping
+     * {@code offset} rows).
+     * @param query the sort order and filter
+     * @param offset the index of the first row of the page
+     * @param size the number of rows in the page
+     * @param previous the row preceding the page or {@code null} if it isn't loaded
+     * @return the rows of the page (may be shorter than {@code size} at the end of the results)
+     */
+    List<T> getPage(PageQuery query, int offset, int size, T previous);
+}
@@ -0,0 +1,317 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing.table.model;
+
+import java.awt.Cursor;
+import java.awt.event.MouseEvent;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.function.BiPredicate;
+import java.util.function.IntFunction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.swing.JTable;
+import javax.swing.RowSorter.SortKey;
+import javax.swing.SwingWorker;
+
+import io.github.jonestimd.util.LruMap;
+
+/**
+ * A read-only {@link BeanTableModel} that loads fixed size pages of rows from a {@link PageSource} when they are
+ * displayed.  Rows that haven't been loaded display placeholder values (see {@link #setPlaceholder(IntFunction)})
+ * and {@link #getBean(int)} returns {@code null} for them.  The least recently used pages are discarded when the
+ * number of loaded pages exceeds the limit.
+ * <p>Sorting and filtering are done by the page source (see {@link #setQuery(PageQuery)} and
+ * {@link io.github.jonestimd.swing.table.sort.PagedTableRowSorter}).  The row count and pages are loaded on
+ * {@link SwingWorker}'s thread pool unless an {@link Executor} is provided.  Call {@link #refresh()} to load the
+ * row count.</p>
+ * @param <T> the class of the beans
+ */
+public class PagedTableModel<T> extends EventSupportTableModel implements ColumnIdentifier, BeanTableModel<T> {
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int DEFAULT_MAX_PAGES = 20;
+    private final Logger logger = Logger.getLogger(PagedTableModel.class.getName());
+    private final PageSource<T> source;
+    private final List<? extends ColumnAdapter<? super T, ?>> columnAdapters;
+    private final int pageSize;
+    private final Executor executor;
+    private final LruMap<Integer, List<T>> pages;
+    /** pages that are loading or failed to load */
+    private final Set<Integer> pendingPages = new HashSet<>();
+    private PageQuery query = PageQuery.UNSORTED;
+    private int rowCount = 0;
+    /** incremented by {@link #refresh()} to discard the results of previous requests */
+    private int generation = 0;
+    private IntFunction<Object> placeholder = column -> null;
+
+    public PagedTableModel(PageSource<T> source, List<? extends ColumnAdapter<? super T, ?>> columnAdapters) {
+        this(source, columnAdapters, DEFAULT_PAGE_SIZE, DEFAULT_MAX_PAGES, null);
+    }
+
+    /**
+     * @param source provides the rows
+     * @param columnAdapters the column adapters
+     * @param pageSize the number of rows in each page
+     * @param maxPages the maximum number of pages to keep in memory
+     * @param executor the executor for loading the rows or {@code null} to use {@link SwingWorker}'s thread pool
+     */
+    public PagedTableModel(PageSource<T> source, List<? extends ColumnAdapter<? super T, ?>> columnAdapters,
+            int pageSize, int maxPages, Executor executor) {
+        if (pageSize < 1 || maxPages < 1) {
+            throw new IllegalArgumentException("page size and max pages must be positive");
+        }
+        this.source = source;
+        this.columnAdapters = columnAdapters;
+        this.pageSize = pageSize;
+        this.executor = executor;
+        this.pages = new LruMap<>(maxPages);
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public PageQuery getQuery() {
+        return query;
+    }
+
+    /**
+     * Replace the sort order and filter and reload the rows.
+     */
+    public void setQuery(PageQuery query) {
+        this.query = query;
+        refresh();
+    }
+
+    public void setSortKeys(List<? extends SortKey> sortKeys) {
+        setQuery(query.withSortKeys(sortKeys));
+    }
+
+    /**
+     * @param filter the filter text to be interpreted by the page source or {@code null} to show all rows
+     */
+    public void setFilter(String filter) {
+        setQuery(query.withFilter(filter));
+    }
+
+    /**
+     * @param placeholder provides the value to display in each column for rows that haven't been loaded
+     */
+    public void setPlaceholder(IntFunction<Object> placeholder) {
+        this.placeholder = placeholder;
+    }
+
+    /**
+     * Discard the loaded pages and reload the row count.
+     */
+    public void refresh() {
+        generation++;
+        pages.clear();
+        pendingPages.clear();
+        execute(new CountWorker(generation, query));
+    }
+
+    private void execute(SwingWorker<?, ?> worker) {
+        if (executor == null) worker.execute();
+        else executor.execute(worker);
+    }
+
+    /**
+     * @return true if the page containing the row has been loaded.
+     */
+    public boolean isLoaded(int rowIndex) {
+        return pages.containsKey(rowIndex / pageSize);
+    }
+
+    /**
+     * @return the number of pages in memory.
+     */
+    public int getLoadedPageCount() {
+        return pages.size();
+    }
+
+    /**
+     * Get a loaded bean and request the page containing the row if it isn't loaded.
+     * @return the bean or {@code null} if the row hasn't been loaded
+     */
+    @Override
+    public T getBean(int index) {
+        int pageIndex = index / pageSize;
+        List<T> page = pages.get(pageIndex);
+        if (page == null) {
+            loadPage(pageIndex);
+            return null;
+        }
+        int pageRow = index % pageSize;
+        return pageRow < page.size() ? page.get(pageRow) : null;
+    }
+
+    private void loadPage(int pageIndex) {
+        if (pendingPages.add(pageIndex)) {
+            List<T> previousPage = pageIndex == 0 ? null : pages.get(pageIndex - 1);
+            T previous = previousPage == null || previousPage.size() < pageSize ? null : previousPage.get(pageSize - 1);
+            execute(new PageWorker(generation, query, pageIndex, previous));
+        }
+    }
+
+    @Override
+    public Object getValueAt(int rowIndex, int columnIndex) {
+        T bean = getBean(rowIndex);
+        return bean == null ? placeholder.apply(columnIndex) : columnAdapters.get(columnIndex).getValue(bean);
+    }
+
+    @Override
+    public Object getValue(T bean, int columnIndex) {
+        return columnAdapters.get(columnIndex).getValue(bean);
+    }
+
+    @Override
+    public ColumnAdapter<? super T, ?> getColumnIdentifier(int modelIndex) {
+        return columnAdapters.get(modelIndex);
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columnAdapters.size();
+    }
+
+    @Override
+    public String getColumnName(int columnIndex) {
+        return columnAdapters.get(columnIndex).getName();
+    }
+
+    @Override
+    public Class<?> getColumnClass(int columnIndex) {
+        return columnAdapters.get(columnIndex).getType();
+    }
+
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public int getBeanCount() {
+        return rowCount;
+    }
+
+    /**
+     * @throws UnsupportedOperationException the rows are provided by the page source
+     */
+    @Override
+    public void setBeans(Collection<T> beans) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * @throws UnsupportedOperationException the rows are provided by the page source
+     */
+    @Override
+    public void updateBeans(Collection<T> beans, BiPredicate<T, T> isEqual) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Cursor getCursor(MouseEvent event, JTable table, int rowIndex, int columnIndex) {
+        T bean = getBean(rowIndex);
+        return bean == null ? null : columnAdapters.get(columnIndex).getCursor(event, table, bean);
+    }
+
+    @Override
+    public void handleClick(MouseEvent event, JTable table, int rowIndex, int columnIndex) {
+        T bean = getBean(rowIndex);
+        if (bean != null) columnAdapters.get(columnIndex).handleClick(event, table, bean);
+    }
+
+    private class CountWorker extends SwingWorker<Integer, Object> {
+        private final int generation;
+        private final PageQuery query;
+
+        private CountWorker(int generation, PageQuery query) {
+            this.generation = generation;
+            this.query = query;
+        }
+
+        @Override
+        protected Integer doInBackground() throws Exception {
+            return source.getRowCount(query);
+        }
+
+        @Override
+        protected void done() {
+            if (generation == PagedTableModel.this.generation) {
+                try {
+                    rowCount = get();
+                    fireTableDataChanged();
+                } catch (ExecutionException ex) {
+                    logger.log(Level.SEVERE, "failed to get row count", ex.getCause());
+                } catch (Exception ex) {
+                    logger.log(Level.SEVERE, "failed to get row count", ex);
+                }
+            }
+        }
+    }
+
+    private class PageWorker extends SwingWorker<List<T>, Object> {
+        private final int generation;
+        private final PageQuery query;
+        private final int pageIndex;
+        private final T previous;
+
+        private PageWorker(int generation, PageQuery query, int pageIndex, T previous) {
+            this.generation = generation;
+            this.query = query;
+            this.pageIndex = pageIndex;
+            this.previous = previous;
+        }
+
+        @Override
+        protected List<T> doInBackground() throws Exception {
+            return source.getPage(query, pageIndex * pageSize, pageSize, previous);
+        }
+
+        /**
+         * Failed pages remain pending until the next refresh so that painting doesn't repeat the request.
+         */
+        @Override
+        protected void done() {
+            if (generation == PagedTableModel.this.generation) {
+                try {
+                    pages.put(pageIndex, get());
+                    pendingPages.remove(pageIndex);
+                    int firstRow = pageIndex * pageSize;
+                    int lastRow = Math.min(firstRow + pageSize, rowCount) - 1;
+                    if (firstRow <= lastRow) fireTableRowsUpdated(firstRow, lastRow);
+                } catch (ExecutionException ex) {
+                    logger.log(Level.SEVERE, "failed to get page", ex.getCause());
+                } catch (Exception ex) {
+                    logger.log(Level.SEVERE, "failed to get page", ex);
+                }
+            }
+        }
+    }
+}
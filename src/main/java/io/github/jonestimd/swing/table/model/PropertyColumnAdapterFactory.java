@@ -0,0 +1,172 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing.table.model;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Creates column adapters for bean properties.  The getter and setter of each property are looked up once and
+ * converted to functional interfaces using {@link LambdaMetafactory}, so the adapters don't use reflection to access
+ * the property values.  {@code int}, {@code long} and {@code double} properties use primitive column adapters (e.g.
+ * {@link DoubleColumnAdapter}), which don't accept {@code null} values (see {@link FunctionColumnAdapter#ofInt}).
+ * <p>The column ID of an adapter is the property name and the column name is read from the resource bundle using
+ * the table resource prefix and the column ID (see {@link AbstractColumnAdapter}).</p>
+ * @param <Bean> the class of the beans
+ */
+public class PropertyColumnAdapterFactory<Bean> {
+    private final Lookup lookup;
+    private final ResourceBundle bundle;
+    private final String tableResourcePrefix;
+    private final Class<Bean> beanClass;
+    private final Map<String, PropertyDescriptor> properties;
+
+    /**
+     * Create a factory that accesses the bean properties using the privileges of this class.  The bean accessors
+     * must be public and the bean class must be visible to the class loader of this class.
+     */
+    public PropertyColumnAdapterFactory(ResourceBundle bundle, String tableResourcePrefix, Class<Bean> beanClass) {
+        this(MethodHandles.lookup(), bundle, tableResourcePrefix, beanClass);
+    }
+
+    /**
+     * @param lookup the lookup used to access the bean accessors and define the functions (e.g.
+     *        {@code MethodHandles.lookup()} in the class that owns the table)
+     * @param bundle the resource bundle for the column names
+     * @param tableResourcePrefix the prefix for the column resource keys
+     * @param beanClass the class of the beans
+     */
+    public PropertyColumnAdapterFactory(Lookup lookup, ResourceBundle bundle, String tableResourcePrefix, Class<Bean> beanClass) {
+        this.lookup = lookup;
+        this.bundle = bundle;
+        this.tableResourcePrefix = tableResourcePrefix;
+        this.beanClass = beanClass;
+        try {
+            this.properties = Arrays.stream(Introspector.getBeanInfo(beanClass).getPropertyDescriptors())
+                    .collect(Collectors.toMap(PropertyDescriptor::getName, Function.identity()));
+        } catch (IntrospectionException ex) {
+            throw new IllegalArgumentException("Failed to introspect " + beanClass.getName(), ex);
+        }
+    }
+
+    /**
+     * Create adapters for multiple properties.  Properties that have a setter are editable.
+     */
+    public List<ColumnAdapter<Bean, ?>> create(String... propertyNames) {
+        return Arrays.stream(propertyNames).map(this::create).collect(Collectors.toList());
+    }
+
+    /**
+     * Create an adapter for a property.  The column is editable if the property has a setter.
+     * @throws IllegalArgumentException if the property does not exist or does not have a getter
+     */
+    public ColumnAdapter<Bean, ?> create(String propertyName) {
+        return create(propertyName, getProperty(propertyName).getWriteMethod());
+    }
+
+    /**
+     * Create a read-only adapter for a property.
+     * @throws IllegalArgumentException if the property does not exist or does not have a getter
+     */
+    public ColumnAdapter<Bean, ?> createReadOnly(String propertyName) {
+        return create(propertyName, null);
+    }
+
+    private PropertyDescriptor getProperty(String propertyName) {
+        PropertyDescriptor property = properties.get(propertyName);
+        if (property == null || property.getReadMethod() == null) {
+            throw new IllegalArgumentException("No getter for " + beanClass.getName() + "." + propertyName);
+        }
+        return property;
+    }
+
+    private ColumnAdapter<Bean, ?> create(String propertyName, Method setter) {
+        Method getter = getProperty(propertyName).getReadMethod();
+        Class<?> type = getter.getReturnType();
+        if (type == int.class) {
+            return FunctionColumnAdapter.ofInt(bundle, tableResourcePrefix, propertyName,
+                    getter(ToIntFunction.class, "applyAsInt", getter), setter(ObjIntConsumer.class, setter));
+        }
+        if (type == long.class) {
+            return FunctionColumnAdapter.ofLong(bundle, tableResourcePrefix, propertyName,
+                    getter(ToLongFunction.class, "applyAsLong", getter), setter(ObjLongConsumer.class, setter));
+        }
+        if (type == double.class) {
+            return FunctionColumnAdapter.ofDouble(bundle, tableResourcePrefix, propertyName,
+                    getter(ToDoubleFunction.class, "applyAsDouble", getter), setter(ObjDoubleConsumer.class, setter));
+        }
+        return newFunctionColumnAdapter(propertyName, wrap(type), getter(Function.class, "apply", getter), setter(BiConsumer.class, setter));
+    }
+
+    private <V> FunctionColumnAdapter<Bean, V> newFunctionColumnAdapter(String propertyName, Class<V> type,
+            Function<Bean, V> getter, BiConsumer<Bean, V> setter) {
+        return new FunctionColumnAdapter<>(bundle, tableResourcePrefix, propertyName, type, getter, setter);
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    private <F> F getter(Class<? super F> functionType, String methodName, Method getter) {
+        Class<?> returnType = getter.getReturnType();
+        MethodType type = MethodType.methodType(functionType == Function.class ? wrap(returnType) : returnType, beanClass);
+        return metafactory(functionType, methodName, type, getter);
+    }
+
+    private <F> F setter(Class<? super F> functionType, Method setter) {
+        if (setter == null) return null;
+        Class<?> valueType = setter.getParameterTypes()[0];
+        MethodType type = MethodType.methodType(void.class, beanClass, functionType == BiConsumer.class ? wrap(valueType) : valueType);
+        return metafactory(functionType, "accept", type, setter);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <F> F metafactory(Class<? super F> functionType, String methodName, MethodType instantiatedType, Method method) {
+        try {
+            MethodHandle target = lookup.unreflect(method);
+            return (F) LambdaMetafactory.metafactory(lookup, methodName, MethodType.methodType(functionType),
+                    instantiatedType.erase(), target, instantiatedType).getTarget().invoke();
+        } catch (Throwable ex) {
+            throw new IllegalArgumentException("Failed to create function for " + method, ex);
+        }
+    }
+}
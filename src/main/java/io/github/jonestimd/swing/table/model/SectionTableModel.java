@@ -19,6 +19,7 @@
 // SOFTWARE.
 package io.github.jonestimd.swing.table.model;
 
+import java.util.BitSet;
 import java.util.List;
 
 import io.github.jonestimd.swing.table.SectionTable;
@@ -32,6 +33,22 @@ public interface SectionTableModel<T> extends BeanTableModel<T>, ColumnIdentifie
      */
     boolean isSectionRow(int rowIndex);
 
+    /**
+     * Find the group header rows in a range of rows.
+     * @param firstRow the first row (inclusive)
+     * @param lastRow the last row (inclusive)
+     * @return the group header rows relative to {@code firstRow}
+     */
+    default BitSet getSectionRows(int firstRow, int lastRow) {
+        BitSet sectionRows = new BitSet(lastRow - firstRow + 1);
+        for (int row = firstRow; row <= lastRow; row++) {
+            if (isSectionRow(row)) {
+                sectionRows.set(row - firstRow);
+            }
+        }
+        return sectionRows;
+    }
+
     /**
      * @return the group number of the specified row.
      */
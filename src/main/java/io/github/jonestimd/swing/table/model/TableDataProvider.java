@@ -29,7 +29,8 @@ import java.util.List;
  */
 public interface TableDataProvider<Bean> {
     /**
-     * The property name to be used for state change events.
+     * The property name to be used for state change events.  If the new value of the event is a collection of beans,
+     * then only the rows for those beans are updated.  Otherwise, all rows are updated.
      */
     String STATE_PROPERTY = "state";
 
@@ -47,6 +48,15 @@ public interface TableDataProvider<Bean> {
      */
     void addBean(Bean bean);
 
+    /**
+     * Notification that table rows have been added.  The default implementation calls {@link #addBean(Object)} for
+     * each bean.
+     * This method will only be called from the <i>Event Dispatch Thread</i>.
+     */
+    default void addBeans(Collection<Bean> beans) {
+        beans.forEach(this::addBean);
+    }
+
     /**
      * Notification that a table row has been modified.
      * This method will only be called from the <i>Event Dispatch Thread</i>.
@@ -54,14 +64,47 @@ public interface TableDataProvider<Bean> {
      */
     boolean updateBean(Bean bean, String columnId, Object oldValue);
 
+    /**
+     * Notification that table rows have been modified.  The default implementation calls
+     * {@link #updateBean(Object, String, Object)} for each change.
+     * This method will only be called from the <i>Event Dispatch Thread</i>.
+     * @return true if column values for this provider are effected
+     */
+    default boolean updateBeans(Collection<BeanChange<Bean>> changes) {
+        boolean effected = false;
+        for (BeanChange<Bean> change : changes) {
+            effected |= updateBean(change.getBean(), change.getColumnId(), change.getOldValue());
+        }
+        return effected;
+    }
+
     /**
      * Notification that a table row has been removed.
      * This method will only be called from the <i>Event Dispatch Thread</i>.
      */
     void removeBean(Bean bean);
 
+    /**
+     * Notification that table rows have been removed.  The default implementation calls {@link #removeBean(Object)}
+     * for each bean.
+     * This method will only be called from the <i>Event Dispatch Thread</i>.
+     */
+    default void removeBeans(Collection<Bean> beans) {
+        beans.forEach(this::removeBean);
+    }
+
+    /**
+     * Notification that table rows are visible or about to become visible.  Can be used to load column values for
+     * only the visible rows.  The default implementation does nothing.
+     * This method will only be called from the <i>Event Dispatch Thread</i>.
+     * @param beans the beans for the rows
+     */
+    default void prefetch(Collection<Bean> beans) {
+    }
+
     /**
      * Add {@code PropertyChangeListener} to be notified when the data has been loaded.
+     * @see #STATE_PROPERTY
      */
     void addStateChangeListener(PropertyChangeListener listener);
 
@@ -0,0 +1,116 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing.table.model;
+
+import java.util.function.Consumer;
+
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+import javax.swing.event.TableModelEvent;
+import javax.swing.table.TableModel;
+
+/**
+ * Merges cell, row and column update events fired by a table model into rectangular update events that are
+ * delivered at most once per EDT cycle (or once per delay period).  Overlapping or adjacent row ranges are merged.
+ * The merged event uses a single column if all of the merged events were for the same column and
+ * {@link TableModelEvent#ALL_COLUMNS} otherwise.
+ * <p>Inserts, deletes, data changes and structure changes are not deferred.  Pending updates are delivered before
+ * those events so that listeners always receive events with row indexes that match the state of the model.</p>
+ */
+public class TableModelEventCoalescer {
+    private final TableModel source;
+    private final Consumer<TableModelEvent> dispatcher;
+    private final Timer timer;
+    private final UpdateRanges pendingUpdates = new UpdateRanges();
+    private boolean flushScheduled = false;
+
+    /**
+     * Create a coalescer that delivers updates on the next EDT cycle.
+     * @param source the source of the merged events
+     * @param dispatcher delivers events to the model's listeners
+     */
+    public TableModelEventCoalescer(TableModel source, Consumer<TableModelEvent> dispatcher) {
+        this(source, dispatcher, 0);
+    }
+
+    /**
+     * @param source the source of the merged events
+     * @param dispatcher delivers events to the model's listeners
+     * @param delay the minimum number of milliseconds between deliveries of merged updates, 0 to deliver on the
+     *        next EDT cycle
+     */
+    public TableModelEventCoalescer(TableModel source, Consumer<TableModelEvent> dispatcher, int delay) {
+        if (delay < 0) throw new IllegalArgumentException("negative delay: " + delay);
+        this.source = source;
+        this.dispatcher = dispatcher;
+        if (delay > 0) {
+            this.timer = new Timer(delay, event -> flush());
+            this.timer.setRepeats(false);
+        }
+        else this.timer = null;
+    }
+
+    /**
+     * @return the minimum number of milliseconds between deliveries of merged updates.
+     */
+    public int getDelay() {
+        return timer == null ? 0 : timer.getInitialDelay();
+    }
+
+    /**
+     * Queue an update event or deliver any other type of event after delivering pending updates.
+     */
+    public void fireTableChanged(TableModelEvent event) {
+        if (UpdateRanges.isCellUpdate(event)) {
+            pendingUpdates.add(event);
+            scheduleFlush();
+        }
+        else {
+            flush();
+            dispatcher.accept(event);
+        }
+    }
+
+    private void scheduleFlush() {
+        if (!flushScheduled) {
+            flushScheduled = true;
+            if (timer == null) SwingUtilities.invokeLater(this::flush);
+            else timer.restart();
+        }
+    }
+
+    /**
+     * @return true if there are updates waiting to be delivered.
+     */
+    public boolean isPending() {
+        return !pendingUpdates.isEmpty();
+    }
+
+    /**
+     * Deliver pending updates immediately.
+     */
+    public void flush() {
+        flushScheduled = false;
+        if (timer != null) timer.stop();
+        pendingUpdates.fire(source, dispatcher);
+    }
+}
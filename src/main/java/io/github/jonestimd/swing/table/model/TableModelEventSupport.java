@@ -0,0 +1,205 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing.table.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+import javax.swing.table.TableModel;
+
+/**
+ * Controls the delivery of events from a table model to its listeners.  Supports merging of update events (see
+ * {@link TableModelEventCoalescer}) and deferring all events until the end of a batch of changes.
+ * <p>When a batch of changes ends, a single structure change or data change event is fired if the batch included
+ * a change to the columns or to all of the rows.  Otherwise, the row insertions, row deletions and merged updates are
+ * fired in the order they occurred.  Adjacent insertions and adjacent deletions are merged.  If the number of events
+ * exceeds the update threshold, then a single event for all rows is fired instead.</p>
+ */
+public class TableModelEventSupport {
+    public static final int DEFAULT_UPDATE_THRESHOLD = 50;
+    private final TableModel source;
+    private final Consumer<TableModelEvent> dispatcher;
+    private final List<TableModelListener> cacheListeners = new ArrayList<>();
+    private TableModelEventCoalescer eventCoalescer;
+    private int updateThreshold = DEFAULT_UPDATE_THRESHOLD;
+    private int updateDepth = 0;
+    private final List<RowChange> deferredRowChanges = new ArrayList<>();
+    private UpdateRanges deferredUpdates = new UpdateRanges();
+    private boolean dataChanged = false;
+    private boolean structureChanged = false;
+
+    /**
+     * @param source the table model
+     * @param dispatcher delivers events to the model's listeners (e.g. {@code super::fireTableChanged})
+     */
+    public TableModelEventSupport(TableModel source, Consumer<TableModelEvent> dispatcher) {
+        this.source = source;
+        this.dispatcher = dispatcher;
+    }
+
+    /**
+     * Merge cell, row and column update events and deliver them to listeners asynchronously.
+     * @param delay the minimum number of milliseconds between deliveries of update events (0 to deliver once per
+     *        EDT cycle) or a negative value to deliver all events immediately
+     */
+    public void setUpdateDelay(int delay) {
+        if (eventCoalescer != null) eventCoalescer.flush();
+        eventCoalescer = delay < 0 ? null : new TableModelEventCoalescer(source, dispatcher, delay);
+    }
+
+    /**
+     * Add a listener that receives each event when it is fired, before it is merged or deferred.  Caches of model
+     * values must be cleared when the model changes, not when the event is delivered to the table.
+     */
+    public void addCacheListener(TableModelListener listener) {
+        cacheListeners.add(listener);
+    }
+
+    public void removeCacheListener(TableModelListener listener) {
+        cacheListeners.remove(listener);
+    }
+
+    /**
+     * @param updateThreshold the maximum number of merged update events to fire at the end of a batch of changes.
+     */
+    public void setUpdateThreshold(int updateThreshold) {
+        this.updateThreshold = updateThreshold;
+    }
+
+    public int getUpdateThreshold() {
+        return updateThreshold;
+    }
+
+    /**
+     * @return true if a batch of changes is in progress.
+     */
+    public boolean isUpdating() {
+        return updateDepth > 0;
+    }
+
+    /**
+     * Start deferring events.  Calls may be nested.
+     */
+    public void beginUpdate() {
+        updateDepth++;
+    }
+
+    /**
+     * Stop deferring events.  Fires the deferred events when the outermost batch ends.
+     * @throws IllegalStateException if there is no batch in progress
+     */
+    public void endUpdate() {
+        if (updateDepth == 0) throw new IllegalStateException("endUpdate() without beginUpdate()");
+        if (--updateDepth == 0) {
+            if (structureChanged) dispatch(new TableModelEvent(source, TableModelEvent.HEADER_ROW));
+            else if (dataChanged) dispatch(new TableModelEvent(source));
+            else if (getDeferredEventCount() > updateThreshold) {
+                if (deferredRowChanges.isEmpty()) dispatch(new TableModelEvent(source, 0, source.getRowCount() - 1));
+                else dispatch(new TableModelEvent(source));
+            }
+            else {
+                for (RowChange change : deferredRowChanges) {
+                    change.updatesBefore.fire(source, this::dispatch);
+                    dispatch(new TableModelEvent(source, change.firstRow, change.lastRow, TableModelEvent.ALL_COLUMNS, change.type));
+                }
+                deferredUpdates.fire(source, this::dispatch);
+            }
+            deferredRowChanges.clear();
+            deferredUpdates.clear();
+            dataChanged = false;
+            structureChanged = false;
+        }
+    }
+
+    /**
+     * Deliver an event to the model's listeners or defer it until the end of the current batch of changes.
+     */
+    public void fireTableChanged(TableModelEvent event) {
+        for (TableModelListener listener : cacheListeners) {
+            listener.tableChanged(event);
+        }
+        if (updateDepth == 0) dispatch(event);
+        else if (event.getFirstRow() == TableModelEvent.HEADER_ROW) structureChanged = true;
+        else if (UpdateRanges.isCellUpdate(event)) deferredUpdates.add(event);
+        else if (isRowChange(event)) addRowChange(event.getType(), event.getFirstRow(), event.getLastRow());
+        else dataChanged = true;
+    }
+
+    private static boolean isRowChange(TableModelEvent event) {
+        return event.getType() != TableModelEvent.UPDATE && event.getFirstRow() >= 0 && event.getLastRow() != Integer.MAX_VALUE;
+    }
+
+    /**
+     * Defer a row insertion or deletion.  The change is merged with the previous change if there were no updates in
+     * between and the rows are adjacent.
+     */
+    private void addRowChange(int type, int firstRow, int lastRow) {
+        RowChange last = deferredUpdates.isEmpty() && !deferredRowChanges.isEmpty()
+                ? deferredRowChanges.get(deferredRowChanges.size() - 1) : null;
+        if (last != null && last.type == type && type == TableModelEvent.INSERT
+                && firstRow >= last.firstRow && firstRow <= last.lastRow + 1) {
+            last.lastRow += lastRow - firstRow + 1;
+        }
+        else if (last != null && last.type == type && type == TableModelEvent.DELETE
+                && last.firstRow >= firstRow && last.firstRow <= lastRow + 1) {
+            last.lastRow = lastRow + last.lastRow - last.firstRow + 1;
+            last.firstRow = firstRow;
+        }
+        else {
+            deferredRowChanges.add(new RowChange(deferredUpdates, type, firstRow, lastRow));
+            deferredUpdates = new UpdateRanges();
+        }
+    }
+
+    private int getDeferredEventCount() {
+        int count = deferredUpdates.size();
+        for (RowChange change : deferredRowChanges) {
+            count += change.updatesBefore.size() + 1;
+        }
+        return count;
+    }
+
+    private void dispatch(TableModelEvent event) {
+        if (eventCoalescer == null) dispatcher.accept(event);
+        else eventCoalescer.fireTableChanged(event);
+    }
+
+    /**
+     * A deferred insertion or deletion of rows and the updates that were fired before it.
+     */
+    private static class RowChange {
+        private final UpdateRanges updatesBefore;
+        private final int type;
+        private int firstRow;
+        private int lastRow;
+
+        public RowChange(UpdateRanges updatesBefore, int type, int firstRow, int lastRow) {
+            this.updatesBefore = updatesBefore;
+            this.type = type;
+            this.firstRow = firstRow;
+            this.lastRow = lastRow;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing.table.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import javax.swing.event.TableModelEvent;
+import javax.swing.table.TableModel;
+
+/**
+ * Accumulates updated cells as a list of disjoint row ranges.  Overlapping or adjacent row ranges are merged.
+ * A merged range uses a single column if all of the merged updates were for the same column and
+ * {@link TableModelEvent#ALL_COLUMNS} otherwise.
+ */
+class UpdateRanges {
+    /** disjoint row ranges ordered by first row */
+    private final List<Range> ranges = new ArrayList<>();
+
+    /**
+     * @return true if {@code event} is an update of a specific range of rows.
+     */
+    public static boolean isCellUpdate(TableModelEvent event) {
+        return event.getType() == TableModelEvent.UPDATE && event.getFirstRow() >= 0 && event.getLastRow() != Integer.MAX_VALUE;
+    }
+
+    public void add(TableModelEvent event) {
+        add(event.getFirstRow(), event.getLastRow(), event.getColumn());
+    }
+
+    public void add(int firstRow, int lastRow, int column) {
+        int index = 0;
+        while (index < ranges.size() && ranges.get(index).lastRow < firstRow - 1) index++;
+        while (index < ranges.size() && ranges.get(index).firstRow <= lastRow + 1) {
+            Range range = ranges.remove(index);
+            firstRow = Math.min(firstRow, range.firstRow);
+            lastRow = Math.max(lastRow, range.lastRow);
+            if (column != range.column) column = TableModelEvent.ALL_COLUMNS;
+        }
+        ranges.add(index, new Range(firstRow, lastRow, column));
+    }
+
+    public boolean isEmpty() {
+        return ranges.isEmpty();
+    }
+
+    public int size() {
+        return ranges.size();
+    }
+
+    public void clear() {
+        ranges.clear();
+    }
+
+    /**
+     * Fire an update event for each range and clear the ranges.
+     */
+    public void fire(TableModel source, Consumer<TableModelEvent> dispatcher) {
+        List<Range> updates = new ArrayList<>(ranges);
+        ranges.clear();
+        for (Range range : updates) {
+            dispatcher.accept(new TableModelEvent(source, range.firstRow, range.lastRow, range.column, TableModelEvent.UPDATE));
+        }
+    }
+
+    private static class Range {
+        private final int firstRow;
+        private final int lastRow;
+        private final int column;
+
+        public Range(int firstRow, int lastRow, int column) {
+            this.firstRow = firstRow;
+            this.lastRow = lastRow;
+            this.column = column;
+        }
+    }
+}
@@ -58,6 +58,15 @@ public class ValidatedBeanListTableModel<T> extends BufferedBeanListTableModel<T
         fireTableRowsUpdated(rowIndex, rowIndex);
     }
 
+    @Override
+    public void addRows(Collection<T> beans) {
+        int firstRow = getRowCount();
+        super.addRows(beans);
+        if (getRowCount() > firstRow) {
+            fireTableRowsUpdated(firstRow, getRowCount() - 1);
+        }
+    }
+
     private void shiftErrors(int firstRow, int delta) {
         Table<Integer, Integer, String> updatedErrors = HashBasedTable.create();
         Iterator<Entry<Integer, Map<Integer, String>>> iterator = errors.rowMap().entrySet().iterator();
@@ -108,12 +117,20 @@ public class ValidatedBeanListTableModel<T> extends BufferedBeanListTableModel<T
         return errors.isEmpty();
     }
 
+    /**
+     * Overridden to update validation.  Clears the cached values of the row before validating the cell.
+     */
     public void fireTableCellUpdated(int rowIndex, int columnIndex) {
+        getValueCache().clearRows(rowIndex, rowIndex);
         validateCell(rowIndex, columnIndex);
         super.fireTableCellUpdated(rowIndex, columnIndex);
     }
 
+    /**
+     * Overridden to update validation.  Clears the cached values of the rows before validating them.
+     */
     public void fireTableRowsUpdated(int firstRow, int lastRow) {
+        getValueCache().clearRows(firstRow, lastRow);
         for (int i = firstRow; i <= lastRow; i++) {
             validateRow(i);
         }
@@ -23,8 +23,9 @@ package io.github.jonestimd.swing.table.sort;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.List;
-import java.util.function.Function;
 import java.util.function.Predicate;
 
 import javax.swing.RowSorter;
@@ -36,22 +37,22 @@ import io.github.jonestimd.util.JavaPredicates;
 import io.github.jonestimd.util.Streams;
 
 /**
- * An abstract {@link RowSorter} for tables that use a {@link BeanTableModel}.
+ * An abstract {@link RowSorter} for tables that use a {@link BeanTableModel}.  The row filter result for each model
+ * row is saved, so updating rows only tests the updated rows and inserting or deleting rows doesn't test the other
+ * rows.  The saved results are discarded when the filter is replaced or all of the rows change.
  * @param <BEAN> the class of the beans in the table
  * @param <MODEL> the class of the table model
  * @param <V> the class of the view/model mappings
  */
 public abstract class BeanModelRowSorter<BEAN, MODEL extends BeanTableModel<BEAN>, V extends ViewToModel<BEAN>> extends RowSorter<MODEL> {
-    private final Function<V, BEAN> getBean = new Function<V, BEAN>() {
-        @Override
-        public BEAN apply(V input) {
-            return input.getBean(table.getModel());
-        }
-    };
     private DecoratedTable<BEAN, MODEL> table;
     private final TableRowComparator<BEAN, V> comparator;
     private Predicate<BEAN> modelFiter = null;
     private Predicate<V> viewFiter = JavaPredicates.alwaysTrue();
+    /** the model rows that have been tested by the row filter */
+    private BitSet filterTested = new BitSet();
+    /** the model rows that match the row filter */
+    private BitSet filterMatches = new BitSet();
     protected List<V> viewToModel;
     protected int[] modelToView;
 
@@ -65,13 +66,127 @@ public abstract class BeanModelRowSorter<BEAN, MODEL extends BeanTableModel<BEAN
     }
 
     public void setRowFilter(Predicate<BEAN> rowFilter) {
+        setRowFilter(rowFilter, FilterRelation.UNRELATED);
+    }
+
+    /**
+     * Replace the row filter.  When the new filter is narrower than the previous filter only the rows in the current
+     * view are tested.  When the new filter is wider than the previous filter only the rows that are not in the current
+     * view are tested.  In both cases the current view order is retained without sorting all of the rows.
+     * @param rowFilter the new row filter ({@code null} to show all rows)
+     * @param relation the relation of the new filter to the previous filter
+     */
+    public void setRowFilter(Predicate<BEAN> rowFilter, FilterRelation relation) {
         modelFiter = rowFilter;
+        clearFilterResults();
         viewFiter = rowFilter == null ? JavaPredicates.alwaysTrue() : createViewFilter(rowFilter);
-        sort(buildViewToModel());
+        if (viewToModel == null || modelToView == null || getModelRowCount() == 0 || modelToView.length != getModelRowCount()) {
+            sort(buildViewToModel());
+        }
+        else if (relation == FilterRelation.NARROWER) {
+            int[] oldViewToModel = viewToModelAsInts();
+            viewToModel.removeIf(viewFiter.negate());
+            buildModelToView();
+            fireRowSorterChanged(oldViewToModel);
+        }
+        else if (relation == FilterRelation.WIDER) {
+            int[] oldViewToModel = viewToModelAsInts();
+            viewToModel = widenViewToModel();
+            if (! comparator.isEmpty()) {
+                postSort();
+            }
+            buildModelToView();
+            fireRowSorterChanged(oldViewToModel);
+        }
+        else {
+            sort(buildViewToModel());
+        }
+    }
+
+    /**
+     * Create a new view containing the rows in the current view and the previously excluded rows that match the view
+     * filter.  Only the excluded rows are tested and the order of the current view is retained.
+     */
+    private List<V> widenViewToModel() {
+        List<V> modelRows = newModelRows(0, getModelRowCount() - 1);
+        List<V> currentRows = new ArrayList<>(Collections.nCopies(viewToModel.size(), null));
+        List<V> addedRows = new ArrayList<>();
+        for (V row : modelRows) {
+            int viewIndex = modelToView[row.getModelIndex()];
+            if (viewIndex >= 0) currentRows.set(viewIndex, row);
+            else if (viewFiter.test(row)) addedRows.add(row);
+        }
+        addedRows.sort(comparator);
+        return merge(currentRows, addedRows);
+    }
+
+    private List<V> merge(List<V> rows1, List<V> rows2) {
+        List<V> merged = new ArrayList<>(rows1.size() + rows2.size());
+        int i1 = 0, i2 = 0;
+        while (i1 < rows1.size() && i2 < rows2.size()) {
+            merged.add(comparator.compare(rows2.get(i2), rows1.get(i1)) < 0 ? rows2.get(i2++) : rows1.get(i1++));
+        }
+        merged.addAll(rows1.subList(i1, rows1.size()));
+        merged.addAll(rows2.subList(i2, rows2.size()));
+        return merged;
     }
 
     protected Predicate<V> createViewFilter(Predicate<BEAN> rowFilter) {
-        return JavaPredicates.onResult(getBean, rowFilter);
+        return row -> isMatch(row.getModelIndex());
+    }
+
+    /**
+     * Test a model row with the row filter.  The result is saved until the row is updated.
+     * @param modelRow the model row index
+     * @return true if the row matches the row filter
+     */
+    protected boolean isMatch(int modelRow) {
+        if (!filterTested.get(modelRow)) {
+            filterTested.set(modelRow);
+            filterMatches.set(modelRow, modelFiter.test(getBean(modelRow)));
+        }
+        return filterMatches.get(modelRow);
+    }
+
+    /**
+     * @param modelRow the model row index
+     * @return the saved filter result for the row or null if the row hasn't been tested
+     */
+    protected Boolean getFilterResult(int modelRow) {
+        return filterTested.get(modelRow) ? filterMatches.get(modelRow) : null;
+    }
+
+    /**
+     * Discard the saved filter results for a range of model rows.
+     * @param firstRow the first model row (inclusive)
+     * @param endRow the last model row (inclusive)
+     */
+    protected void clearFilterResults(int firstRow, int endRow) {
+        filterTested.clear(firstRow, endRow + 1);
+        filterMatches.clear(firstRow, endRow + 1);
+    }
+
+    private void clearFilterResults() {
+        filterTested.clear();
+        filterMatches.clear();
+    }
+
+    /**
+     * Move the saved filter results for inserted or deleted rows.
+     * @param fromRow the current index of the first row to move
+     * @param toRow the new index of the first row to move
+     */
+    private void moveFilterResults(int fromRow, int toRow) {
+        filterTested = moveRows(filterTested, fromRow, toRow);
+        filterMatches = moveRows(filterMatches, fromRow, toRow);
+    }
+
+    private static BitSet moveRows(BitSet rows, int fromRow, int toRow) {
+        BitSet moved = rows.get(0, Math.min(fromRow, toRow));
+        for (int i = rows.nextSetBit(fromRow); i >= 0; i = rows.nextSetBit(i + 1)) {
+            moved.set(i - fromRow + toRow);
+        }
+        return moved;
     }
 
     public void toggleSortOrder(int column) {
@@ -115,40 +230,33 @@ public abstract class BeanModelRowSorter<BEAN, MODEL extends BeanTableModel<BEAN
     }
 
     protected void reset() {
+        clearFilterResults();
         comparator.reset();
         viewToModel = null;
         modelToView = null;
     }
 
     public void allRowsChanged() {
+        clearFilterResults();
         if (! comparator.isEmpty() || modelFiter != null) {
             sort(buildViewToModel());
         }
     }
 
     public void rowsInserted(int firstRow, int endRow) {
+        moveFilterResults(firstRow, endRow + 1);
         if (! comparator.isEmpty() || viewToModel != null) {
             int[] oldViewToModel = viewToModelAsInts();
             int deltaRows = endRow - firstRow + 1;
             updateModelIndex(firstRow, deltaRows);
-            List<V> addedRows = newModelRows(firstRow, endRow);
+            List<V> addedRows = Streams.filter(newModelRows(firstRow, endRow), viewFiter);
             addedRows.sort(comparator);
-            insertInOrder(addedRows.stream().filter(viewFiter)::iterator);
+            viewToModel = merge(viewToModel, addedRows);
             buildModelToView();
             fireRowSorterChanged(oldViewToModel);
         }
     }
 
-    private void insertInOrder(Iterable<V> addedRows) {
-        int viewIndex = 0;
-        for (V added : addedRows) {
-            while (viewIndex < viewToModel.size() && comparator.compare(added, viewToModel.get(viewIndex)) > 0) {
-                viewIndex++;
-            }
-            viewToModel.add(viewIndex++, added);
-        }
-    }
-
     private int[] viewToModelAsInts() {
         if (viewToModel == null || viewToModel.isEmpty()) {
             return null;
@@ -181,6 +289,7 @@ public abstract class BeanModelRowSorter<BEAN, MODEL extends BeanTableModel<BEAN
     }
 
     public void rowsDeleted(int firstRow, int endRow) {
+        moveFilterResults(endRow + 1, firstRow);
         if (! comparator.isEmpty() || viewToModel != null) {
             int[] oldViewToModel = viewToModelAsInts();
             int deltaRows = endRow - firstRow + 1;
@@ -204,10 +313,17 @@ public abstract class BeanModelRowSorter<BEAN, MODEL extends BeanTableModel<BEAN
         }
     }
 
-    private boolean isFilterChange(int firstRow, int endRow) {
+    /**
+     * Test the updated rows and check if they need to be shown or hidden.
+     * @param firstRow the first updated model row (inclusive)
+     * @param endRow the last updated model row (inclusive)
+     * @return true if the visibility of any of the rows has changed
+     */
+    protected boolean isFilterChange(int firstRow, int endRow) {
+        clearFilterResults(firstRow, endRow);
         boolean filterChange = false;
-        for (int i = firstRow; i <= endRow && ! filterChange; i++) {
-            filterChange = (modelToView[i] == -1) == modelFiter.test(getBean(i));
+        for (int i = firstRow; i <= endRow; i++) {
+            filterChange |= isVisible(i) != isMatch(i);
         }
         return filterChange;
     }
@@ -101,6 +101,16 @@ public class HeaderDetailTableRowSorter<H, M extends BufferedHeaderDetailTableMo
         }
     }
 
+    /**
+     * Test all of the rows of the updated beans, since the filter result of each row depends on its bean.
+     */
+    @Override
+    protected boolean isFilterChange(int firstRow, int endRow) {
+        int endGroup = getModel().getGroupNumber(endRow);
+        return super.isFilterChange(getModel().getLeadRowForGroup(getModel().getGroupNumber(firstRow)),
+                getModel().getLeadRowForGroup(endGroup) + getModel().getRowCount(endGroup) - 1);
+    }
+
     @Override
     protected H getBean(int rowIndex) {
         return super.getBean(getModel().getGroupNumber(rowIndex));
@@ -0,0 +1,130 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing.table.sort;
+
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+import javax.swing.RowSorter.SortKey;
+import javax.swing.SortOrder;
+
+import io.github.jonestimd.swing.table.DecoratedTable;
+import io.github.jonestimd.swing.table.model.BeanTableModel;
+import io.github.jonestimd.swing.table.model.MappedFileTableModel;
+import io.github.jonestimd.swing.table.sort.MappedFileTableRowSorter.ViewRow;
+
+/**
+ * A row sorter for a {@link MappedFileTableModel}.  Columns that have a sort key (see
+ * {@link MappedFileTableModel#setSortKey}) are sorted using the extracted keys instead of the decoded beans.  The
+ * values of other columns are decoded once when the sort order changes (see
+ * {@link MappedFileTableModel#getColumnValues(int)}).
+ * @param <BEAN> the class of the decoded records
+ */
+public class MappedFileTableRowSorter<BEAN> extends BeanModelRowSorter<BEAN, MappedFileTableModel<BEAN>, ViewRow<BEAN>> {
+    public MappedFileTableRowSorter(DecoratedTable<BEAN, MappedFileTableModel<BEAN>> table) {
+        super(table, new MappedFileTableRowComparator<>(table));
+    }
+
+    @Override
+    protected List<ViewRow<BEAN>> newModelRows(int firstRow, int lastRow) {
+        List<ViewRow<BEAN>> modelRows = new ArrayList<>(lastRow - firstRow + 1);
+        for (int i = firstRow; i <= lastRow; i++) {
+            modelRows.add(new ViewRow<>(i));
+        }
+        return modelRows;
+    }
+
+    @Override
+    protected void postSort() {
+    }
+
+    /**
+     * A mapping between the view and the model.
+     * @param <BEAN> the class of the decoded records
+     */
+    protected static class ViewRow<BEAN> implements ViewToModel<BEAN> {
+        private int modelIndex;
+
+        public ViewRow(int modelIndex) {
+            this.modelIndex = modelIndex;
+        }
+
+        @Override
+        public BEAN getBean(BeanTableModel<BEAN> tableModel) {
+            return tableModel.getBean(modelIndex);
+        }
+
+        @Override
+        public int getModelIndex() {
+            return modelIndex;
+        }
+
+        @Override
+        public void updateModelIndex(int delta) {
+            modelIndex += delta;
+        }
+    }
+
+    /**
+     * Compares the extracted sort keys of the rows when they are available.  Otherwise, compares the column values
+     * that were decoded when the comparator was created.
+     * @param <BEAN> the class of the decoded records
+     */
+    protected static class MappedFileTableRowComparator<BEAN> extends TableRowComparator<BEAN, ViewRow<BEAN>> {
+        private final DecoratedTable<BEAN, MappedFileTableModel<BEAN>> table;
+
+        public MappedFileTableRowComparator(DecoratedTable<BEAN, MappedFileTableModel<BEAN>> table) {
+            super(table);
+            this.table = table;
+        }
+
+        @Override
+        protected Comparator<ViewRow<BEAN>> columnComparator(SortKey sortKey) {
+            int column = sortKey.getColumn();
+            if (sortKey.getSortOrder() == SortOrder.UNSORTED) {
+                return super.columnComparator(sortKey);
+            }
+            Comparator<ViewRow<BEAN>> comparator = table.getModel().hasSortKey(column) ? (row1, row2) ->
+                    table.getModel().compareSortKeys(column, row1.getModelIndex(), row2.getModelIndex())
+                    : valueComparator(column);
+            return sortKey.getSortOrder() == SortOrder.DESCENDING ? comparator.reversed() : comparator;
+        }
+
+        private Comparator<ViewRow<BEAN>> valueComparator(int column) {
+            MappedFileTableModel<BEAN> model = table.getModel();
+            Object[] values = model.getColumnValues(column);
+            Comparator<Object> comparator = valueComparator(model.getColumnClass(column));
+            return (row1, row2) -> comparator.compare(values[row1.getModelIndex()], values[row2.getModelIndex()]);
+        }
+
+        @SuppressWarnings("unchecked")
+        private Comparator<Object> valueComparator(Class<?> columnClass) {
+            if (Comparable.class.isAssignableFrom(columnClass) || columnClass.isPrimitive()) {
+                return Comparator.nullsFirst((value1, value2) -> ((Comparable<Object>) value1).compareTo(value2));
+            }
+            return Comparator.nullsFirst(Comparator.comparing(Objects::toString, Collator.getInstance()));
+        }
+    }
+}
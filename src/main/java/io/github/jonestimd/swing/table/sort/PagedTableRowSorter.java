@@ -0,0 +1,124 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing.table.sort;
+
+import java.util.Collections;
+import java.util.List;
+
+import javax.swing.RowSorter;
+import javax.swing.SortOrder;
+
+import io.github.jonestimd.swing.table.model.PagedTableModel;
+
+/**
+ * A row sorter for a {@link PagedTableModel} that passes the sort keys to the model's page source instead of sorting
+ * the rows in memory.  The view and model indexes are always the same.
+ * @param <T> the class of the beans
+ */
+public class PagedTableRowSorter<T> extends RowSorter<PagedTableModel<T>> {
+    private final PagedTableModel<T> model;
+
+    public PagedTableRowSorter(PagedTableModel<T> model) {
+        this.model = model;
+    }
+
+    @Override
+    public PagedTableModel<T> getModel() {
+        return model;
+    }
+
+    @Override
+    public void toggleSortOrder(int column) {
+        List<? extends SortKey> sortKeys = getSortKeys();
+        if (!sortKeys.isEmpty() && sortKeys.get(0).getColumn() == column) {
+            SortOrder order = sortKeys.get(0).getSortOrder() == SortOrder.ASCENDING ? SortOrder.DESCENDING : SortOrder.ASCENDING;
+            setSortKeys(Collections.singletonList(new SortKey(column, order)));
+        }
+        else {
+            setSortKeys(Collections.singletonList(new SortKey(column, SortOrder.ASCENDING)));
+        }
+    }
+
+    @Override
+    public int convertRowIndexToModel(int index) {
+        return index;
+    }
+
+    @Override
+    public int convertRowIndexToView(int index) {
+        return index;
+    }
+
+    @Override
+    public void setSortKeys(List<? extends SortKey> keys) {
+        List<? extends SortKey> sortKeys = keys == null ? Collections.emptyList() : keys;
+        if (!sortKeys.equals(getSortKeys())) {
+            model.setSortKeys(sortKeys);
+            fireSortOrderChanged();
+        }
+    }
+
+    @Override
+    public List<? extends SortKey> getSortKeys() {
+        return model.getQuery().getSortKeys();
+    }
+
+    @Override
+    public int getViewRowCount() {
+        return model.getRowCount();
+    }
+
+    @Override
+    public int getModelRowCount() {
+        return model.getRowCount();
+    }
+
+    /** The rows are sorted by the page source. */
+    @Override
+    public void modelStructureChanged() {
+    }
+
+    /** The rows are sorted by the page source. */
+    @Override
+    public void allRowsChanged() {
+    }
+
+    /** The rows are sorted by the page source. */
+    @Override
+    public void rowsInserted(int firstRow, int endRow) {
+    }
+
+    /** The rows are sorted by the page source. */
+    @Override
+    public void rowsDeleted(int firstRow, int endRow) {
+    }
+
+    /** The rows are sorted by the page source. */
+    @Override
+    public void rowsUpdated(int firstRow, int endRow) {
+    }
+
+    /** The rows are sorted by the page source. */
+    @Override
+    public void rowsUpdated(int firstRow, int endRow, int column) {
+    }
+}
@@ -22,6 +22,7 @@
 package io.github.jonestimd.swing.table.sort;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -32,7 +33,9 @@ import io.github.jonestimd.swing.table.model.SectionTableModel;
 import io.github.jonestimd.swing.table.sort.SectionTableRowSorter.ViewRow;
 
 /**
- * A row sorter for a {@link SectionTable}.
+ * A row sorter for a {@link SectionTable}.  The number of matching beans in each group is saved along with the filter
+ * result for each row (see {@link BeanModelRowSorter}), so updating a row only tests the updated bean and the
+ * visibility of the section header doesn't require testing the other beans in the group.
  * @param <BEAN> the class of beans in the table
  * @param <MODEL> the class of the table model
  */
@@ -41,23 +44,88 @@ public class SectionTableRowSorter<BEAN, MODEL extends SectionTableModel<BEAN> &
         return new SectionTableRowSorter<>(table);
     }
 
+    /** the number of matching beans in each group or -1 if the group hasn't been counted */
+    private int[] groupMatches = new int[0];
+
     public SectionTableRowSorter(DecoratedTable<BEAN, MODEL> table) {
         super(table, new SectionTableRowComparator<>(table));
     }
 
     @Override
     protected Predicate<ViewRow<BEAN>> createViewFilter(final Predicate<BEAN> rowFilter) {
-        final Predicate<ViewRow<BEAN>> viewFilter = super.createViewFilter(rowFilter);
+        resetGroupMatches();
         return input -> {
             if (input.sectionHeader) {
-                return getModel().getGroup(input.groupNumber).stream().anyMatch(rowFilter);
+                return getGroupMatches(input.groupNumber, input.getModelIndex()) > 0;
             }
-            return viewFilter.test(input);
+            return isMatch(input.getModelIndex());
         };
     }
 
+    /**
+     * @param groupNumber the group number
+     * @param sectionRow the model index of the group's header row
+     * @return the number of rows in the group that match the filter
+     */
+    private int getGroupMatches(int groupNumber, int sectionRow) {
+        if (groupNumber >= groupMatches.length) {
+            resetGroupMatches();
+        }
+        if (groupMatches[groupNumber] < 0) {
+            int matches = 0;
+            for (int row = sectionRow + 1; row < getModelRowCount() && ! getModel().isSectionRow(row); row++) {
+                if (isMatch(row)) matches++;
+            }
+            groupMatches[groupNumber] = matches;
+        }
+        return groupMatches[groupNumber];
+    }
+
+    private void resetGroupMatches() {
+        int rowCount = getModelRowCount();
+        groupMatches = new int[rowCount == 0 ? 0 : getModel().getGroupNumber(rowCount - 1) + 1];
+        Arrays.fill(groupMatches, -1);
+    }
+
+    /**
+     * Test the updated beans and update the match count of their groups.
+     * @return true if the visibility of any of the updated rows or their section headers has changed
+     */
+    @Override
+    protected boolean isFilterChange(int firstRow, int endRow) {
+        boolean filterChange = false;
+        for (int i = firstRow; i <= endRow; i++) {
+            if (! getModel().isSectionRow(i)) {
+                int groupNumber = getModel().getGroupNumber(i);
+                int sectionRow = getModel().getSectionRow(i);
+                Boolean previous = getFilterResult(i);
+                clearFilterResults(i, i);
+                boolean match = isMatch(i);
+                if (groupNumber < groupMatches.length && groupMatches[groupNumber] >= 0) {
+                    if (previous == null) groupMatches[groupNumber] = -1;
+                    else if (previous != match) groupMatches[groupNumber] += match ? 1 : -1;
+                }
+                filterChange |= isVisible(i) != match || isVisible(sectionRow) != getGroupMatches(groupNumber, sectionRow) > 0;
+            }
+        }
+        return filterChange;
+    }
+
+    @Override
+    public void allRowsChanged() {
+        resetGroupMatches();
+        super.allRowsChanged();
+    }
+
+    @Override
+    public void rowsInserted(int firstRow, int endRow) {
+        resetGroupMatches();
+        super.rowsInserted(firstRow, endRow);
+    }
+
     @Override
     public void rowsDeleted(int firstRow, int endRow) {
+        resetGroupMatches();
         if (isVisible(firstRow) && isVisible(endRow)) {
             super.rowsDeleted(firstRow, endRow);
         }
@@ -36,9 +36,14 @@ import javax.swing.event.TableModelEvent;
 
 import io.github.jonestimd.swing.table.DecoratedTable;
 import io.github.jonestimd.swing.table.model.BeanTableModel;
+import io.github.jonestimd.swing.table.model.ColumnIdentifier;
+import io.github.jonestimd.swing.table.model.DoubleColumnAdapter;
+import io.github.jonestimd.swing.table.model.IntColumnAdapter;
+import io.github.jonestimd.swing.table.model.LongColumnAdapter;
 
 /**
  * This class provides a comparator for sorting rows in a {@link DecoratedTable} that uses a {@link BeanTableModel}.
+ * Columns with a primitive column adapter (e.g. {@link DoubleColumnAdapter}) are compared without boxing the values.
  * @param <Bean> The class of the beans in the table model
  * @param <VTM> The class that maps the table row index to the model row index
  */
@@ -121,7 +126,11 @@ public class TableRowComparator<Bean, VTM extends ViewToModel<Bean>> implements
         private ColumnComparator(SortKey sortKey) {
             this.sortOrder = sortKey.getSortOrder();
             BeanTableModel<Bean> model = table.getModel();
-            if (!Comparable.class.isAssignableFrom(model.getColumnClass(sortKey.getColumn()))) {
+            Comparator<? super Bean> primitiveComparator = primitiveComparator(model, sortKey.getColumn());
+            if (primitiveComparator != null) {
+                comparator = primitiveComparator;
+            }
+            else if (!Comparable.class.isAssignableFrom(model.getColumnClass(sortKey.getColumn()))) {
                 logger.log(Level.WARNING, "using toString() for {0}", model.getColumnClass(sortKey.getColumn()).getSimpleName());
                 comparator = Comparator.comparing(asString(sortKey.getColumn()), Comparator.nullsFirst(Collator.getInstance()));
             }
@@ -142,6 +151,21 @@ public class TableRowComparator<Bean, VTM extends ViewToModel<Bean>> implements
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private Comparator<? super Bean> primitiveComparator(BeanTableModel<Bean> model, int column) {
+        Object adapter = model instanceof ColumnIdentifier ? ((ColumnIdentifier) model).getColumnIdentifier(column) : null;
+        if (adapter instanceof DoubleColumnAdapter) {
+            return Comparator.comparingDouble(((DoubleColumnAdapter<Bean>) adapter)::getDouble);
+        }
+        if (adapter instanceof LongColumnAdapter) {
+            return Comparator.comparingLong(((LongColumnAdapter<Bean>) adapter)::getLong);
+        }
+        if (adapter instanceof IntColumnAdapter) {
+            return Comparator.comparingInt(((IntColumnAdapter<Bean>) adapter)::getInt);
+        }
+        return null;
+    }
+
     @SuppressWarnings("unchecked")
     private Function<Bean, Comparable<? super Comparable<?>>> asComparable(int column) {
         return row -> (Comparable<? super Comparable<?>>) table.getModel().getValue(row, column);
@@ -0,0 +1,105 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.util;
+
+import java.util.function.LongSupplier;
+
+/**
+ * A cache that is limited by size and by the age of its entries.  The least recently used entry is removed when the
+ * cache exceeds its maximum size.  Expired entries are retained (until they are replaced or removed by size) so that
+ * they can be used while the value is refreshed.
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public class TimedLruCache<K, V> {
+    private final LruMap<K, Entry> entries;
+    private final long timeToLive;
+    private final LongSupplier clock;
+
+    /**
+     * @param maxSize the maximum number of entries
+     * @param timeToLive the number of milliseconds before an entry expires
+     */
+    public TimedLruCache(int maxSize, long timeToLive) {
+        this(maxSize, timeToLive, System::currentTimeMillis);
+    }
+
+    /**
+     * @param maxSize the maximum number of entries
+     * @param timeToLive the time before an entry expires
+     * @param clock provides the current time in the same units as {@code timeToLive}
+     */
+    public TimedLruCache(int maxSize, long timeToLive, LongSupplier clock) {
+        this.entries = new LruMap<>(maxSize);
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+    }
+
+    /**
+     * @return the entry for the key (possibly expired) or {@code null} if the key is not in the cache.
+     */
+    public Entry getEntry(K key) {
+        return entries.get(key);
+    }
+
+    /**
+     * @return the value for the key or {@code null} if the key is not in the cache or its entry has expired.
+     */
+    public V get(K key) {
+        Entry entry = entries.get(key);
+        return entry == null || entry.isExpired() ? null : entry.value;
+    }
+
+    public void put(K key, V value) {
+        entries.put(key, new Entry(value, clock.getAsLong()));
+    }
+
+    public void remove(K key) {
+        entries.remove(key);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public class Entry {
+        private final V value;
+        private final long timestamp;
+
+        private Entry(V value, long timestamp) {
+            this.value = value;
+            this.timestamp = timestamp;
+        }
+
+        public V getValue() {
+            return value;
+        }
+
+        public boolean isExpired() {
+            return clock.getAsLong() - timestamp >= timeToLive;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class CachedHtmlHighlighterTest {
+    private final CachedHtmlHighlighter highlighter = new CachedHtmlHighlighter("<span>", "</span>", 2);
+
+    @Test
+    public void returnsValueIfNoMatches() throws Exception {
+        assertThat(highlighter.highlight("", Collections.emptyList())).isEqualTo("");
+        assertThat(highlighter.highlight("abc", Collections.singleton("x"))).isEqualTo("abc");
+    }
+
+    @Test
+    public void highlightsMatchIgnoringCase() throws Exception {
+        assertThat(highlighter.highlight("abcXYZ", Collections.singleton("Cx"))).isEqualTo("<html>ab<span>cX</span>YZ</html>");
+    }
+
+    @Test
+    public void highlightsMultipleMatches() throws Exception {
+        assertThat(highlighter.highlight("abc XYZ abc 123", Arrays.asList("abc", "123"))).isEqualTo("<html><span>abc</span> XYZ <span>abc</span> <span>123</span></html>");
+    }
+
+    @Test
+    public void highlightsLongestMatch() throws Exception {
+        assertThat(highlighter.highlight("abc XYZ abc 123", Arrays.asList("xy", "xyz"))).isEqualTo("<html>abc <span>XYZ</span> abc 123</html>");
+    }
+
+    @Test
+    public void highlightsOverlappingMatchesOnce() throws Exception {
+        assertThat(highlighter.highlight("abcd", Arrays.asList("abc", "bcd"))).isEqualTo("<html><span>abcd</span></html>");
+    }
+
+    @Test
+    public void cachesHighlightedValue() throws Exception {
+        List<String> highlightText = Collections.singletonList("b");
+        String result = highlighter.highlight("abc", highlightText);
+
+        assertThat(highlighter.highlight("abc", highlightText)).isSameAs(result);
+        assertThat(highlighter.highlight("abc", Collections.singletonList("b"))).isSameAs(result);
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedValue() throws Exception {
+        List<String> highlightText = Collections.singletonList("b");
+        String result1 = highlighter.highlight("abc", highlightText);
+        String result2 = highlighter.highlight("bcd", highlightText);
+        highlighter.highlight("abc", highlightText);
+        highlighter.highlight("cbd", highlightText);
+
+        assertThat(highlighter.highlight("abc", highlightText)).isSameAs(result1);
+        assertThat(highlighter.highlight("bcd", highlightText)).isNotSameAs(result2).isEqualTo(result2);
+    }
+
+    @Test
+    public void clearsCacheWhenHighlightTextChanges() throws Exception {
+        String result = highlighter.highlight("abc", Collections.singletonList("b"));
+
+        assertThat(highlighter.highlight("abc", Collections.singletonList("c"))).isEqualTo("<html>ab<span>c</span></html>");
+        assertThat(highlighter.highlight("abc", Collections.singletonList("b"))).isNotSameAs(result).isEqualTo(result);
+    }
+}
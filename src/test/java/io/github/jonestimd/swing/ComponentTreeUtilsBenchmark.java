@@ -0,0 +1,75 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing;
+
+import java.awt.Component;
+import java.util.function.BiFunction;
+
+import javax.swing.JComponent;
+import javax.swing.JLayeredPane;
+import javax.swing.JPanel;
+
+/**
+ * Compares {@link ComponentTreeUtils#findAncestor(Component, Class)} with
+ * {@link ComponentTreeUtils#findCachedAncestor(Component, Class)} for deep component trees.
+ * Usage: {@code ComponentTreeUtilsBenchmark [iterations]}
+ */
+public class ComponentTreeUtilsBenchmark {
+    private static final int[] DEPTHS = {5, 20, 100};
+    private static final int WARMUP_ROUNDS = 5;
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        for (int depth : DEPTHS) {
+            JComponent leaf = createTree(depth);
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                run(leaf, iterations, ComponentTreeUtils::findAncestor);
+                run(leaf, iterations, ComponentTreeUtils::findCachedAncestor);
+            }
+            long uncached = run(leaf, iterations, ComponentTreeUtils::findAncestor);
+            long cached = run(leaf, iterations, ComponentTreeUtils::findCachedAncestor);
+            System.out.printf("depth %3d: findAncestor %8.1f ns/op, findCachedAncestor %8.1f ns/op%n",
+                    depth, (double) uncached / iterations, (double) cached / iterations);
+        }
+    }
+
+    private static JComponent createTree(int depth) {
+        JComponent parent = new JLayeredPane();
+        for (int i = 0; i < depth; i++) {
+            JPanel child = new JPanel();
+            parent.add(child);
+            parent = child;
+        }
+        return parent;
+    }
+
+    private static long run(Component leaf, int iterations, BiFunction<Component, Class<JLayeredPane>, JLayeredPane> lookup) {
+        int found = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            if (lookup.apply(leaf, JLayeredPane.class) != null) found++;
+        }
+        long elapsed = System.nanoTime() - start;
+        if (found != iterations) throw new IllegalStateException("ancestor not found");
+        return elapsed;
+    }
+}
@@ -31,6 +31,7 @@ import java.util.function.Predicate;
 import javax.swing.JComponent;
 import javax.swing.JDialog;
 import javax.swing.JFrame;
+import javax.swing.JLayeredPane;
 import javax.swing.JMenu;
 import javax.swing.JMenuItem;
 import javax.swing.JPanel;
@@ -139,6 +140,35 @@ public class ComponentTreeUtilsTest {
         assertThat(ComponentTreeUtils.findAncestor(frame, JDialog.class)).isNull();
     }
 
+    @Test
+    public void findCachedAncestorUpdatesWhenAncestorIsAdded() throws Exception {
+        assertThat(ComponentTreeUtils.findCachedAncestor(grandChild1, JLayeredPane.class)).isNull();
+        assertThat(ComponentTreeUtils.findCachedAncestor(grandChild1, JPanel.class)).isSameAs(grandChild1);
+        JLayeredPane layeredPane = new JLayeredPane();
+
+        layeredPane.add(root);
+
+        assertThat(ComponentTreeUtils.findCachedAncestor(grandChild1, JLayeredPane.class)).isSameAs(layeredPane);
+        assertThat(ComponentTreeUtils.findCachedAncestor(grandChild1, JPanel.class)).isSameAs(grandChild1);
+    }
+
+    @Test
+    public void findCachedAncestorUpdatesWhenAncestorIsMoved() throws Exception {
+        JLayeredPane layeredPane1 = new JLayeredPane();
+        JLayeredPane layeredPane2 = new JLayeredPane();
+        layeredPane1.add(root);
+        assertThat(ComponentTreeUtils.findCachedAncestor(grandChild1, JLayeredPane.class)).isSameAs(layeredPane1);
+
+        layeredPane2.add(root);
+
+        assertThat(ComponentTreeUtils.findCachedAncestor(grandChild1, JLayeredPane.class)).isSameAs(layeredPane2);
+    }
+
+    @Test
+    public void findCachedAncestorForNonSwingComponent() throws Exception {
+        assertThat(ComponentTreeUtils.findCachedAncestor(child3, JPanel.class)).isSameAs(root);
+    }
+
     @Test
     public void isAncestor() throws Exception {
         assertThat(ComponentTreeUtils.isAncestor(grandChild1, null)).isFalse();
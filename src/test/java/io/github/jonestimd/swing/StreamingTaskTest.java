@@ -0,0 +1,210 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.swing.SwingUtilities;
+
+import io.github.jonestimd.AsyncTest;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static io.github.jonestimd.swing.StreamingTask.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class StreamingTaskTest {
+    private static final String STATUS_MESSAGE = "loading";
+    private static final List<Integer> ITEMS = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+    @Mock
+    private StatusIndicator statusIndicator;
+    @Mock
+    private Function<Throwable, Boolean> onException;
+    private final List<List<Integer>> chunks = Collections.synchronizedList(new ArrayList<>());
+    private final List<Boolean> updateThreads = Collections.synchronizedList(new ArrayList<>());
+
+    private void updateUI(List<Integer> chunk) {
+        updateThreads.add(SwingUtilities.isEventDispatchThread());
+        chunks.add(chunk);
+    }
+
+    private CompletableFuture<Integer> runOnEdt(StreamingTask<Integer> task) throws Exception {
+        AtomicReference<CompletableFuture<Integer>> future = new AtomicReference<>();
+        SwingUtilities.invokeAndWait(() -> future.set(task.run(statusIndicator, null)));
+        return future.get();
+    }
+
+    @Test
+    public void handleExceptionDefaultsToFalse() throws Exception {
+        assertThat(task(null, null, null, null, null).handleException(null)).isFalse();
+    }
+
+    @Test
+    public void handleExceptionCallsHandler() throws Exception {
+        RuntimeException exception = new RuntimeException();
+        when(onException.apply(any())).thenReturn(true);
+
+        assertThat(task(null, null, null, null, onException).handleException(exception)).isTrue();
+
+        verify(onException).apply(same(exception));
+    }
+
+    @Test
+    public void runPublishesItemsInChunks() throws Exception {
+        List<Boolean> startThread = new ArrayList<>();
+        StreamingTask<Integer> task = task(STATUS_MESSAGE, () -> startThread.add(SwingUtilities.isEventDispatchThread()),
+                sink -> ITEMS.forEach(sink), this::updateUI, null);
+
+        CompletableFuture<Integer> future = runOnEdt(task);
+
+        assertThat(future.get(10, TimeUnit.SECONDS)).isEqualTo(ITEMS.size());
+        assertThat(startThread).containsExactly(true);
+        assertThat(chunks.stream().flatMap(List::stream).collect(Collectors.toList())).isEqualTo(ITEMS);
+        assertThat(chunks).allMatch(chunk -> !chunk.isEmpty());
+        assertThat(updateThreads).containsOnly(true);
+        ArgumentCaptor<String> messages = ArgumentCaptor.forClass(String.class);
+        verify(statusIndicator).disableUI(STATUS_MESSAGE);
+        verify(statusIndicator, times(chunks.size())).setStatusMessage(messages.capture());
+        assertThat(messages.getValue()).isEqualTo(MessageFormat.format(ComponentResources.lookupString("streamingTask.status.progress"), 1000));
+        verify(statusIndicator).enableUI();
+    }
+
+    @Test
+    public void chunkSizeIsLimitedByFrameBudget() throws Exception {
+        StreamingTask<Integer> task = new TestTask(sink -> ITEMS.forEach(sink)) {
+            @Override
+            protected long getFrameBudget() {
+                return 1L;
+            }
+
+            @Override
+            public void updateUI(List<Integer> items) {
+                try {
+                    Thread.sleep(2L);
+                } catch (InterruptedException ex) {
+                    throw new RuntimeException(ex);
+                }
+                super.updateUI(items);
+            }
+        };
+
+        assertThat(runOnEdt(task).get(10, TimeUnit.SECONDS)).isEqualTo(ITEMS.size());
+
+        assertThat(chunks).allMatch(chunk -> chunk.size() <= MIN_CHUNK_SIZE);
+    }
+
+    @Test
+    public void runReportsTaskException() throws Exception {
+        RuntimeException exception = new RuntimeException("test");
+        when(onException.apply(any())).thenReturn(true);
+        StreamingTask<Integer> task = task(STATUS_MESSAGE, null, sink -> {
+            sink.accept(1);
+            throw exception;
+        }, this::updateUI, onException);
+
+        CompletableFuture<Integer> future = runOnEdt(task);
+
+        try {
+            future.get(10, TimeUnit.SECONDS);
+            fail("expected an exception");
+        } catch (ExecutionException ex) {
+            assertThat(ex.getCause()).isSameAs(exception);
+        }
+        verify(onException).apply(same(exception));
+        verify(statusIndicator).enableUI();
+    }
+
+    @Test
+    public void cancelStopsTask() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Throwable> taskErrors = Collections.synchronizedList(new ArrayList<>());
+        StreamingTask<Integer> task = task(STATUS_MESSAGE, null, sink -> {
+            try {
+                sink.accept(1);
+                latch.await();
+                sink.accept(2);
+            } catch (Throwable ex) {
+                taskErrors.add(ex);
+            }
+        }, this::updateUI, null);
+        CompletableFuture<Integer> future = runOnEdt(task);
+
+        SwingUtilities.invokeAndWait(() -> future.cancel(true));
+        latch.countDown();
+
+        AsyncTest.timeout(10000L, () -> !taskErrors.isEmpty());
+        assertThat(taskErrors.get(0)).isInstanceOf(CancellationException.class);
+        SwingUtilities.invokeAndWait(() -> {});
+        verify(statusIndicator, timeout(10000L)).enableUI();
+        assertThat(chunks.stream().flatMap(List::stream)).doesNotContain(2);
+    }
+
+    private class TestTask extends StreamingTask<Integer> {
+        private final Consumer<Consumer<? super Integer>> doInBackground;
+
+        private TestTask(Consumer<Consumer<? super Integer>> doInBackground) {
+            this.doInBackground = doInBackground;
+        }
+
+        @Override
+        public String getStatusMessage() {
+            return STATUS_MESSAGE;
+        }
+
+        @Override
+        public void startUI() {
+        }
+
+        @Override
+        public void performTask(Consumer<? super Integer> sink) {
+            doInBackground.accept(sink);
+        }
+
+        @Override
+        public void updateUI(List<Integer> items) {
+            StreamingTaskTest.this.updateUI(items);
+        }
+
+        @Override
+        public boolean handleException(Throwable th) {
+            return false;
+        }
+    }
+}
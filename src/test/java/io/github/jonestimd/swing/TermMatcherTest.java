@@ -0,0 +1,96 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class TermMatcherTest {
+    @Test
+    public void returnsEmptyArrayForNoTerms() throws Exception {
+        assertThat(new TermMatcher(Collections.emptyList()).findMatches("abc")).isEmpty();
+    }
+
+    @Test
+    public void ignoresEmptyTerm() throws Exception {
+        assertThat(new TermMatcher(Collections.singleton("")).findMatches("abc")).isEmpty();
+    }
+
+    @Test
+    public void findsAllTermsInOnePass() throws Exception {
+        TermMatcher matcher = new TermMatcher(Arrays.asList("he", "she", "his", "hers"));
+
+        assertThat(matcher.findMatches("ushers his")).containsExactly(1, 6, 7, 10);
+    }
+
+    @Test
+    public void findsMatchThroughFailureLink() throws Exception {
+        TermMatcher matcher = new TermMatcher(Arrays.asList("abcd", "bc"));
+
+        assertThat(matcher.findMatches("abcx")).containsExactly(1, 3);
+    }
+
+    @Test
+    public void ignoresCase() throws Exception {
+        TermMatcher matcher = new TermMatcher(Collections.singleton("aBc"));
+
+        assertThat(matcher.findMatches("xAbCx abc")).containsExactly(1, 4, 6, 9);
+    }
+
+    @Test
+    public void combinesOverlappingMatches() throws Exception {
+        TermMatcher matcher = new TermMatcher(Arrays.asList("b", "abc", "cd"));
+
+        assertThat(matcher.findMatches("abcde")).containsExactly(0, 4);
+    }
+
+    @Test
+    public void doesNotCombineAdjacentMatches() throws Exception {
+        TermMatcher matcher = new TermMatcher(Arrays.asList("ab", "cd"));
+
+        assertThat(matcher.findMatches("abcd")).containsExactly(0, 2, 2, 4);
+    }
+
+    @Test
+    public void hasTerms() throws Exception {
+        TermMatcher matcher = new TermMatcher(Arrays.asList("ab", "cd"));
+
+        assertThat(matcher.hasTerms(Arrays.asList("ab", "cd"))).isTrue();
+        assertThat(matcher.hasTerms(Arrays.asList("ab", "c"))).isFalse();
+        assertThat(matcher.hasTerms(Collections.singleton("ab"))).isFalse();
+        assertThat(matcher.getTerms()).containsExactly("ab", "cd");
+    }
+
+    @Test
+    public void reusesBufferBetweenValues() throws Exception {
+        TermMatcher matcher = new TermMatcher(Collections.singleton("a"));
+
+        assertThat(matcher.findMatches("xaxaxa")).containsExactly(1, 2, 3, 4, 5, 6);
+        assertThat(matcher.findMatches("ax")).containsExactly(0, 1);
+        assertThat(matcher.findMatches("xxxx")).isEmpty();
+        assertThat(matcher.findMatches("aaaa xa")).containsExactly(0, 1, 1, 2, 2, 3, 3, 4, 6, 7);
+    }
+}
@@ -152,6 +152,37 @@ public class FilterFieldTest {
         assertThat(field.getHighlighter().getHighlights().length).isEqualTo(0);
     }
 
+    @Test
+    public void tracksOperatorPositions() throws Exception {
+        FilterField<String> field = FilterField.builder(predicateFactory).build();
+        inputText(field, "ab & (cd)");
+
+        assertThat(field.getOperators().stream().toArray()).containsExactly(3, 5, 8);
+        assertThat(field.isOperator(3)).isTrue();
+        assertThat(field.isOperator(4)).isFalse();
+
+        field.getDocument().insertString(1, "xyz", null);
+        assertThat(field.getOperators().stream().toArray()).containsExactly(6, 8, 11);
+
+        field.getDocument().remove(5, 3);
+        assertThat(field.getText()).isEqualTo("axyzb(cd)");
+        assertThat(field.getOperators().stream().toArray()).containsExactly(5, 8);
+
+        field.setText("");
+        assertThat(field.getOperators().isEmpty()).isTrue();
+    }
+
+    @Test
+    public void updatesOperatorPositionsForAttributeChange() throws Exception {
+        FilterField<String> field = FilterField.builder(predicateFactory).build();
+        inputText(field, "ab & cd");
+
+        field.getStyledDocument().setCharacterAttributes(0, field.getText().length(), field.getStyle("default"), true);
+
+        assertThat(field.getOperators().isEmpty()).isTrue();
+        assertThat(field.getTerms()).containsExactly("ab & cd");
+    }
+
     private void checkHighlight(FilterField<String> field, int start, int end) {
         Highlighter highlighter = field.getHighlighter();
         assertThat(highlighter.getHighlights().length).isEqualTo(1);
@@ -21,6 +21,7 @@
 // SOFTWARE.
 package io.github.jonestimd.swing.filter;
 
+import java.util.BitSet;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -37,10 +38,39 @@ public class BasicFilterParserTest {
 
     private void trainSource(String text) {
         when(source.getText()).thenReturn(text);
-        when(source.isOperator(anyInt())).thenAnswer(invocation -> {
-            char c = text.charAt((Integer) invocation.getArguments()[0]);
-            return OPERATORS.indexOf(c) >= 0;
-        });
+        BitSet operators = new BitSet();
+        for (int i = 0; i < text.length(); i++) {
+            if (OPERATORS.indexOf(text.charAt(i)) >= 0) operators.set(i);
+        }
+        when(source.getOperators()).thenReturn(operators);
+    }
+
+    @Test
+    public void usesOperatorPositions() throws Exception {
+        when(source.getText()).thenReturn("a&b(c)");
+        BitSet operators = new BitSet();
+        operators.set(1);
+        when(source.getOperators()).thenReturn(operators);
+
+        Predicate<String> predicate = parser.parse(source);
+
+        assertThat(predicate.test("a b(c)")).isTrue();
+        assertThat(predicate.test("a b")).isFalse();
+        assertThat(parser.getTerms()).containsExactly("a", "b(c)");
+        verify(source, never()).isOperator(anyInt());
+    }
+
+    @Test
+    public void parseFilterDoesNotUpdateTerms() throws Exception {
+        trainSource("search1 & search2");
+        parser.parse(source);
+        trainSource("search3");
+
+        ParsedFilter<String> filter = parser.parseFilter(source);
+
+        assertThat(filter.getPredicate().test("search3")).isTrue();
+        assertThat(filter.getTerms()).containsExactly("search3");
+        assertThat(parser.getTerms()).containsExactly("search1", "search2");
     }
 
     @Test
@@ -0,0 +1,130 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing.filter;
+
+import java.util.BitSet;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class FilterCacheTest {
+    @SuppressWarnings("unchecked")
+    private final Function<String, Predicate<String>> predicateFactory = mock(Function.class);
+
+    public FilterCacheTest() {
+        when(predicateFactory.apply(anyString())).thenAnswer(invocation -> {
+            String search = (String) invocation.getArguments()[0];
+            return (Predicate<String>) value -> value.contains(search);
+        });
+    }
+
+    private FilterSource newSource(String text, int... operatorIndexes) {
+        BitSet operators = new BitSet();
+        for (int index : operatorIndexes) {
+            operators.set(index);
+        }
+        FilterSource source = mock(FilterSource.class);
+        when(source.getText()).thenReturn(text);
+        when(source.getOperators()).thenReturn(operators);
+        return source;
+    }
+
+    @Test
+    public void cacheHitSkipsParsing() throws Exception {
+        FilterCache<String> cache = new FilterCache<>(2, predicateFactory);
+
+        ParsedFilter<String> filter1 = cache.parse(newSource("a&b", 1));
+        ParsedFilter<String> filter2 = cache.parse(newSource("a&b", 1));
+
+        assertThat(filter2).isSameAs(filter1);
+        assertThat(filter1.getTerms()).containsExactly("a", "b");
+        verify(predicateFactory).apply("a");
+        verify(predicateFactory).apply("b");
+    }
+
+    @Test
+    public void keyIncludesOperatorPositions() throws Exception {
+        FilterCache<String> cache = new FilterCache<>(2, predicateFactory);
+
+        ParsedFilter<String> filter1 = cache.parse(newSource("a&b", 1));
+        ParsedFilter<String> filter2 = cache.parse(newSource("a&b"));
+
+        assertThat(filter2).isNotSameAs(filter1);
+        assertThat(filter2.getTerms()).containsExactly("a&b");
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsed() throws Exception {
+        FilterCache<String> cache = new FilterCache<>(2, predicateFactory);
+        ParsedFilter<String> filterA = cache.parse(newSource("a"));
+        cache.parse(newSource("b"));
+        cache.parse(newSource("a"));
+
+        cache.parse(newSource("c"));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.parse(newSource("a"))).isSameAs(filterA);
+        cache.parse(newSource("b"));
+        verify(predicateFactory, times(2)).apply("b");
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void doesNotCacheInvalidFilter() throws Exception {
+        FilterCache<String> cache = new FilterCache<>(2, predicateFactory);
+
+        try {
+            cache.parse(newSource("a&", 1));
+        } finally {
+            assertThat(cache.size()).isEqualTo(0);
+        }
+    }
+
+    @Test
+    public void parsersShareCacheAndKeepSeparateTerms() throws Exception {
+        FilterCache<String> cache = new FilterCache<>(2, predicateFactory);
+        FilterParser<String> parser1 = cache.newParser();
+        FilterParser<String> parser2 = cache.newParser();
+
+        Predicate<String> predicate1 = parser1.parse(newSource("a&b", 1));
+        Predicate<String> predicate2 = parser2.parse(newSource("a&b", 1));
+        parser2.parse(newSource("c"));
+
+        assertThat(predicate2).isSameAs(predicate1);
+        assertThat(parser1.getTerms()).containsExactly("a", "b");
+        assertThat(parser2.getTerms()).containsExactly("c");
+    }
+
+    @Test
+    public void clear() throws Exception {
+        FilterCache<String> cache = new FilterCache<>(2, predicateFactory);
+        cache.parse(newSource("a"));
+
+        cache.clear();
+
+        assertThat(cache.size()).isEqualTo(0);
+    }
+}
@@ -56,4 +56,13 @@ public class CurrencyTableCellRendererTest {
 
         assertThat(renderer.getForeground()).isEqualTo(Color.BLACK);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void setsColorToRedForNegativeDouble() throws Exception {
+        CurrencyTableCellRenderer renderer = new CurrencyTableCellRenderer(NumberFormat.getCurrencyInstance());
+
+        renderer.setValue(-1d);
+
+        assertThat(renderer.getForeground()).isEqualTo(Color.RED);
+    }
+}
@@ -31,6 +31,7 @@ import java.awt.event.MouseMotionListener;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import javax.swing.ComboBoxModel;
@@ -40,10 +41,12 @@ import javax.swing.JComponent;
 import javax.swing.JFormattedTextField;
 import javax.swing.JLabel;
 import javax.swing.JTextField;
+import javax.swing.JViewport;
 import javax.swing.KeyStroke;
 import javax.swing.RowSorter.SortKey;
 import javax.swing.SortOrder;
 import javax.swing.SwingUtilities;
+import javax.swing.event.TableModelEvent;
 import javax.swing.table.DefaultTableCellRenderer;
 import javax.swing.table.JTableHeader;
 import javax.swing.table.TableCellEditor;
@@ -281,6 +284,54 @@ public class DecoratedTableTest {
         assertThat(table.getTableHeader().getPreferredSize().height).isEqualTo(34);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void prefetchVisibleRowsNotifiesModelOfRowsInViewport() throws Exception {
+        BeanTableModel<DecoratedTableTest> model = mock(BeanTableModel.class);
+        when(model.getColumnCount()).thenReturn(1);
+        when(model.getColumnName(0)).thenReturn("Column 1");
+        when(model.getRowCount()).thenReturn(100);
+        DecoratedTable<DecoratedTableTest, BeanTableModel<DecoratedTableTest>> table = new DecoratedTable<>(model);
+        // run on the EDT so that scheduled prefetches don't race with the test
+        SwingUtilities.invokeAndWait(() -> {
+            table.setRowHeight(10);
+            JViewport viewport = new JViewport();
+            viewport.setView(table);
+            viewport.setSize(100, 100);
+            table.setSize(100, 1000);
+            table.setPrefetchMargin(5);
+
+            table.prefetchVisibleRows();
+            verify(model).prefetchRows(IntStream.rangeClosed(0, 14).toArray());
+
+            viewport.setViewPosition(new Point(0, 500));
+            table.prefetchVisibleRows();
+            verify(model).prefetchRows(IntStream.rangeClosed(45, 64).toArray());
+
+            viewport.setViewPosition(new Point(0, 520));
+            table.prefetchVisibleRows();
+            verify(model, never()).prefetchRows(IntStream.rangeClosed(47, 66).toArray());
+
+            table.tableChanged(new TableModelEvent(model));
+            table.prefetchVisibleRows();
+            verify(model).prefetchRows(IntStream.rangeClosed(47, 66).toArray());
+        });
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void prefetchIsDisabledByDefault() throws Exception {
+        BeanTableModel<DecoratedTableTest> model = mock(BeanTableModel.class);
+        when(model.getRowCount()).thenReturn(100);
+        DecoratedTable<DecoratedTableTest, BeanTableModel<DecoratedTableTest>> table = new DecoratedTable<>(model);
+        table.setSize(100, 100);
+
+        table.prefetchVisibleRows();
+
+        assertThat(table.getPrefetchMargin()).isEqualTo(-1);
+        verify(model, never()).prefetchRows(any());
+    }
+
     @Test
     public void getSelectedItems() throws Exception {
         DecoratedTable<TestBean, BeanListTableModel<TestBean>> table = createTable();
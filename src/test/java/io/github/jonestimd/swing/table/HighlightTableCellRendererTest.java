@@ -21,6 +21,10 @@
 // SOFTWARE.
 package io.github.jonestimd.swing.table;
 
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -30,12 +34,15 @@ import javax.swing.JPanel;
 import javax.swing.JScrollPane;
 import javax.swing.JTable;
 
+import io.github.jonestimd.swing.ClientProperty;
 import io.github.jonestimd.swing.HighlightText;
+import io.github.jonestimd.swing.HtmlHighlighter;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -74,6 +81,20 @@ public class HighlightTableCellRendererTest {
         verify(highlighter).highlight(value.toString(), highlightText);
     }
 
+    @Test
+    public void cachesHtmlHighlighterResults() throws Exception {
+        JTable table = createPanel();
+        highlightText = Collections.singletonList("bc");
+        HighlightTableCellRenderer renderer = new HighlightTableCellRenderer(new HtmlHighlighter("<b>", "</b>"));
+
+        renderer.getTableCellRendererComponent(table, "abcd", false, false, 0, 0);
+        String text = renderer.getText();
+        renderer.getTableCellRendererComponent(table, "abcd", false, false, 0, 0);
+
+        assertThat(text).isEqualTo("<html>a<b>bc</b>d</html>");
+        assertThat(renderer.getText()).isSameAs(text);
+    }
+
     @Test
     public void passesEmptyListToHighlighterWhenNoHighlightSource() throws Exception {
         HighlightTableCellRenderer renderer = new HighlightTableCellRenderer(highlighter);
@@ -83,6 +104,81 @@ public class HighlightTableCellRendererTest {
         verify(highlighter).highlight("", Collections.emptyList());
     }
 
+    @Test
+    public void displaysPlainTextWhenHighlightColorIsSet() throws Exception {
+        JTable table = createPanel();
+        highlightText = Collections.singletonList("bc");
+        HighlightTableCellRenderer renderer = new HighlightTableCellRenderer(highlighter);
+        renderer.setHighlightColor(Color.YELLOW);
+
+        renderer.getTableCellRendererComponent(table, "abcd", false, false, 0, 0);
+
+        assertThat(renderer.getText()).isEqualTo("abcd");
+        verifyNoInteractions(highlighter);
+    }
+
+    @Test
+    public void usesHighlightColorFromTable() throws Exception {
+        JTable table = createPanel();
+        table.putClientProperty(ClientProperty.HIGHLIGHT_COLOR, Color.YELLOW);
+        highlightText = Collections.singletonList("bc");
+        HighlightTableCellRenderer renderer = new HighlightTableCellRenderer(highlighter);
+
+        renderer.getTableCellRendererComponent(table, "abcd", false, false, 0, 0);
+        assertThat(renderer.getText()).isEqualTo("abcd");
+        verifyNoInteractions(highlighter);
+
+        renderer.getTableCellRendererComponent(createPanel(), "abcd", false, false, 0, 0);
+        verify(highlighter).highlight("abcd", highlightText);
+    }
+
+    @Test
+    public void paintsHighlightBehindMatches() throws Exception {
+        JTable table = createPanel();
+        highlightText = Arrays.asList("bb", "dd");
+        HighlightTableCellRenderer renderer = new HighlightTableCellRenderer(highlighter);
+        renderer.setHighlightColor(Color.YELLOW);
+        renderer.getTableCellRendererComponent(table, "aabbccdd", false, false, 0, 0);
+        renderer.setBackground(Color.WHITE);
+        renderer.setForeground(Color.WHITE);
+        renderer.setSize(renderer.getPreferredSize());
+
+        BufferedImage image = paint(renderer);
+
+        int textX = renderer.getInsets().left;
+        int aWidth = renderer.getFontMetrics(renderer.getFont()).stringWidth("aa");
+        int y = renderer.getHeight() / 2;
+        assertThat(image.getRGB(textX + aWidth / 2, y)).isEqualTo(Color.WHITE.getRGB());
+        assertThat(image.getRGB(textX + aWidth * 3 / 2, y)).isEqualTo(Color.YELLOW.getRGB());
+        assertThat(image.getRGB(textX + aWidth * 5 / 2, y)).isEqualTo(Color.WHITE.getRGB());
+    }
+
+    @Test
+    public void doesNotHighlightElidedText() throws Exception {
+        JTable table = createPanel();
+        highlightText = Collections.singletonList("d");
+        HighlightTableCellRenderer renderer = new HighlightTableCellRenderer(highlighter);
+        renderer.setHighlightColor(Color.YELLOW);
+        renderer.getTableCellRendererComponent(table, "aaaaaaaaaaaad", false, false, 0, 0);
+        renderer.setBackground(Color.WHITE);
+        renderer.setForeground(Color.WHITE);
+        renderer.setSize(renderer.getPreferredSize().width / 2, renderer.getPreferredSize().height);
+
+        BufferedImage image = paint(renderer);
+
+        for (int x = 0; x < image.getWidth(); x++) {
+            assertThat(image.getRGB(x, renderer.getHeight() / 2)).isEqualTo(Color.WHITE.getRGB());
+        }
+    }
+
+    private BufferedImage paint(HighlightTableCellRenderer renderer) {
+        BufferedImage image = new BufferedImage(renderer.getWidth(), renderer.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        renderer.paint(graphics);
+        graphics.dispose();
+        return image;
+    }
+
     private class HighlightPanel extends JPanel implements HighlightText {
         @Override
         public Collection<String> getHighlightText() {
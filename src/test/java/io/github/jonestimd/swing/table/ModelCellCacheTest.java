@@ -0,0 +1,182 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing.table;
+
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+import javax.swing.table.DefaultTableModel;
+
+import io.github.jonestimd.swing.table.model.EventSupportTableModel;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ModelCellCacheTest {
+    @Mock
+    private ModelCellCache.CellLoader<String> loader;
+    private final DefaultTableModel model = new DefaultTableModel(3, 2);
+    private ModelCellCache<String> cache;
+
+    @Before
+    public void createCache() throws Exception {
+        cache = new ModelCellCache<>(model, loader);
+    }
+
+    private void loadRows(int rowCount) {
+        for (int row = 0; row < rowCount; row++) {
+            when(loader.load(row, 1)).thenReturn("row " + row);
+            assertThat(cache.get(row, 1)).isEqualTo("row " + row);
+        }
+        clearInvocations(loader);
+    }
+
+    @Test
+    public void cachesValue() throws Exception {
+        when(loader.load(1, 1)).thenReturn("value");
+
+        assertThat(cache.get(1, 1)).isEqualTo("value");
+        assertThat(cache.get(1, 1)).isEqualTo("value");
+
+        verify(loader, times(1)).load(1, 1);
+    }
+
+    @Test
+    public void cachesNullValue() throws Exception {
+        assertThat(cache.get(1, 0)).isNull();
+        assertThat(cache.get(1, 0)).isNull();
+
+        verify(loader, times(1)).load(1, 0);
+    }
+
+    @Test
+    public void updateEventClearsRows() throws Exception {
+        loadRows(3);
+        when(loader.load(1, 1)).thenReturn("updated");
+
+        model.fireTableRowsUpdated(1, 1);
+
+        assertThat(cache.get(0, 1)).isEqualTo("row 0");
+        assertThat(cache.get(1, 1)).isEqualTo("updated");
+        assertThat(cache.get(2, 1)).isEqualTo("row 2");
+        verify(loader).load(1, 1);
+        verifyNoMoreInteractions(loader);
+    }
+
+    @Test
+    public void insertEventShiftsRows() throws Exception {
+        loadRows(3);
+        when(loader.load(1, 1)).thenReturn("inserted");
+
+        model.insertRow(1, new Object[2]);
+
+        assertThat(cache.get(0, 1)).isEqualTo("row 0");
+        assertThat(cache.get(1, 1)).isEqualTo("inserted");
+        assertThat(cache.get(2, 1)).isEqualTo("row 1");
+        assertThat(cache.get(3, 1)).isEqualTo("row 2");
+        verify(loader).load(1, 1);
+        verifyNoMoreInteractions(loader);
+    }
+
+    @Test
+    public void deleteEventShiftsRows() throws Exception {
+        loadRows(3);
+
+        model.removeRow(1);
+
+        assertThat(cache.get(0, 1)).isEqualTo("row 0");
+        assertThat(cache.get(1, 1)).isEqualTo("row 2");
+        verifyNoInteractions(loader);
+    }
+
+    @Test
+    public void dataChangedEventClearsAllRows() throws Exception {
+        loadRows(3);
+
+        model.fireTableChanged(new TableModelEvent(model));
+
+        cache.get(0, 1);
+        cache.get(2, 1);
+        verify(loader).load(0, 1);
+        verify(loader).load(2, 1);
+    }
+
+    @Test
+    public void clearsRowsBeforeEventSupportModelDefersEvent() throws Exception {
+        EventSupportTableModel batchModel = new EventSupportTableModel() {
+            public int getRowCount() {
+                return 3;
+            }
+
+            public int getColumnCount() {
+                return 2;
+            }
+
+            public Object getValueAt(int rowIndex, int columnIndex) {
+                return null;
+            }
+        };
+        TableModelListener listener = mock(TableModelListener.class);
+        batchModel.addTableModelListener(listener);
+        cache = new ModelCellCache<>(batchModel, loader);
+        loadRows(3);
+        when(loader.load(1, 1)).thenReturn("updated");
+
+        batchModel.beginUpdate();
+        batchModel.fireTableRowsUpdated(1, 1);
+
+        assertThat(cache.get(1, 1)).isEqualTo("updated");
+        verifyNoInteractions(listener);
+        batchModel.endUpdate();
+        verify(listener).tableChanged(any(TableModelEvent.class));
+    }
+
+    @Test
+    public void countsHitsAndMisses() throws Exception {
+        cache.get(0, 1);
+        cache.get(0, 1);
+        cache.get(0, 1);
+
+        assertThat(cache.getMissCount()).isEqualTo(1L);
+        assertThat(cache.getHitCount()).isEqualTo(2L);
+    }
+
+    @Test
+    public void clearRows() throws Exception {
+        loadRows(3);
+
+        cache.clearRows(1, 5);
+
+        cache.get(0, 1);
+        cache.get(1, 1);
+        cache.get(2, 1);
+        verify(loader).load(1, 1);
+        verify(loader).load(2, 1);
+        verifyNoMoreInteractions(loader);
+    }
+}
@@ -24,14 +24,18 @@ package io.github.jonestimd.swing.table;
 import java.awt.Color;
 import java.awt.Component;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 
+import javax.swing.RowSorter.SortKey;
+import javax.swing.SortOrder;
 import javax.swing.table.TableCellRenderer;
 
 import io.github.jonestimd.swing.ComponentDefaults;
 import io.github.jonestimd.swing.table.model.BeanListMultimapTableModel;
 import io.github.jonestimd.swing.table.model.ColumnAdapter;
 import io.github.jonestimd.swing.table.model.TestColumnAdapter;
+import io.github.jonestimd.swing.table.sort.SectionTableRowSorter;
 import org.junit.Test;
 
 import static org.assertj.core.api.Assertions.*;
@@ -68,6 +72,23 @@ public class SectionTableTest {
         assertThat(table.isSectionRow(2)).isFalse();
     }
 
+    @Test
+    public void getSectionRowsUsesViewIndexes() throws Exception {
+        TestGroup group2 = new TestGroup("group2");
+        model.setBeans(Arrays.asList(
+                new TestBean(group1, "bean1a", "x"),
+                new TestBean(group1, "bean1b", "x"),
+                new TestBean(group2, "bean2a", "x")));
+        SectionTableRowSorter<TestBean, BeanListMultimapTableModel<TestGroup, TestBean>> sorter = new SectionTableRowSorter<>(table);
+        table.setRowSorter(sorter);
+        sorter.setSortKeys(Collections.singletonList(new SortKey(0, SortOrder.DESCENDING)));
+
+        assertThat(table.convertRowIndexToModel(1)).isEqualTo(2);
+
+        assertThat(table.getSectionRows(0, 4)).isEqualTo(BitSet.valueOf(new long[] {0b01001}));
+        assertThat(table.getSectionRows(1, 3)).isEqualTo(BitSet.valueOf(new long[] {0b100}));
+    }
+
     @Test
     public void isCellEditable() throws Exception {
         model.setBeans(Arrays.asList(
@@ -27,6 +27,8 @@ import java.awt.ComponentOrientation;
 import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.BitSet;
 
 import javax.swing.CellRendererPane;
 import javax.swing.JPanel;
@@ -65,6 +67,8 @@ public class SectionTableUITest {
     @Mock
     private Graphics2D childGraphics;
     @Mock
+    private Graphics2D rowGraphics;
+    @Mock
     private TableCellRenderer cellRenderer;
     @Mock
     private Component rendererComponent;
@@ -76,11 +80,30 @@ public class SectionTableUITest {
         int column = (int) invocation.getArguments()[1];
         return new Rectangle(column * COLUMN_WIDTH, row * ROW_HEIGHT, COLUMN_WIDTH, ROW_HEIGHT);
     };
+    private Answer<Integer> columnAtPointAnswer = invocation -> {
+        Point point = (Point) invocation.getArguments()[0];
+        return point.x >= COLUMN_COUNT * COLUMN_WIDTH ? -1 : point.x / COLUMN_WIDTH;
+    };
     private Answer<Integer> rowAtPointAnswer = invocation -> {
         Point point = (Point) invocation.getArguments()[0];
         return point.y >= ROW_COUNT * ROW_HEIGHT ? -1 : point.y / ROW_HEIGHT;
     };
-    private Answer<Boolean> isSectionRowAnswer = invocation -> (int) invocation.getArguments()[0] % 3 == 0;
+    private final BitSet sectionRows = new BitSet();
+
+    /**
+     * @param leftSpacing the number of pixels of intercell spacing on the left side of the cell
+     */
+    private Answer<Rectangle> spacedCellRectAnswer(int leftSpacing) {
+        return invocation -> {
+            Rectangle cellRect = cellRectAnswer.answer(invocation);
+            if (!(boolean) invocation.getArguments()[2]) {
+                cellRect.x += leftSpacing;
+                cellRect.width -= 1;
+                cellRect.height -= 1;
+            }
+            return cellRect;
+        };
+    }
     private Answer<Object> getParentAnswer = invocation -> getParentCount++ < 2 * ROW_COUNT + 1 ? null : rendererPane;
 
     @Before
@@ -96,6 +119,13 @@ public class SectionTableUITest {
         when(rendererComponent.getBackground()).thenReturn(SECTION_ROW_BACKGROUND);
         doAnswer(invocation -> rendererPane = (CellRendererPane) invocation.getArguments()[0])
                 .when(table).add(any(CellRendererPane.class));
+        sectionRows.set(0);
+        sectionRows.set(3);
+    }
+
+    private void setupRowGraphics() {
+        when(g2d.create()).thenReturn(rowGraphics);
+        when(rowGraphics.getClipBounds()).thenReturn(new Rectangle());
     }
 
     @Test
@@ -111,9 +141,10 @@ public class SectionTableUITest {
         when(table.getBounds()).thenReturn(new Rectangle(0, 0, clipWidth, clipHeight));
         when(g2d.getClipBounds()).thenReturn(new Rectangle(0, 0, clipWidth, clipHeight));
         when(table.rowAtPoint(any(Point.class))).thenAnswer(rowAtPointAnswer);
-        when(table.isSectionRow(anyInt())).thenAnswer(isSectionRowAnswer);
+        when(table.getSectionRows(0, ROW_COUNT - 1)).thenReturn(sectionRows);
         when(table.getCellRect(anyInt(), anyInt(), anyBoolean())).thenAnswer(cellRectAnswer);
         when(rendererComponent.getParent()).thenAnswer(getParentAnswer);
+        setupRowGraphics();
         SectionTableUI tableUI = new SectionTableUI();
         tableUI.installUI(table);
 
@@ -132,9 +163,10 @@ public class SectionTableUITest {
         when(table.getBounds()).thenReturn(new Rectangle(0, 0, clipWidth, clipHeight));
         when(g2d.getClipBounds()).thenReturn(new Rectangle(0, 0, clipWidth, clipHeight));
         when(table.rowAtPoint(any(Point.class))).thenAnswer(rowAtPointAnswer);
-        when(table.isSectionRow(anyInt())).thenAnswer(isSectionRowAnswer);
+        when(table.getSectionRows(0, ROW_COUNT - 1)).thenReturn(sectionRows);
         when(table.getCellRect(anyInt(), anyInt(), anyBoolean())).thenAnswer(cellRectAnswer);
         when(rendererComponent.getParent()).thenAnswer(getParentAnswer);
+        setupRowGraphics();
         SectionTableUI tableUI = new SectionTableUI();
         tableUI.installUI(table);
 
@@ -154,9 +186,10 @@ public class SectionTableUITest {
         when(table.getBounds()).thenReturn(new Rectangle(0, 0, clipWidth, clipHeight));
         when(g2d.getClipBounds()).thenReturn(new Rectangle(0, 0, clipWidth, clipHeight+10));
         when(table.rowAtPoint(any(Point.class))).thenAnswer(rowAtPointAnswer);
-        when(table.isSectionRow(anyInt())).thenAnswer(isSectionRowAnswer);
+        when(table.getSectionRows(0, ROW_COUNT - 1)).thenReturn(sectionRows);
         when(table.getCellRect(anyInt(), anyInt(), anyBoolean())).thenAnswer(cellRectAnswer);
         when(rendererComponent.getParent()).thenAnswer(getParentAnswer);
+        setupRowGraphics();
         SectionTableUI tableUI = new SectionTableUI();
         tableUI.installUI(table);
 
@@ -180,7 +213,7 @@ public class SectionTableUITest {
 
         assertThat(getParentCount).isEqualTo(0);
         verify(table, never()).rowAtPoint(any(Point.class));
-        verify(table, never()).isSectionRow(anyInt());
+        verify(table, never()).getSectionRows(anyInt(), anyInt());
         verify(table, never()).getCellRect(anyInt(), anyInt(), anyBoolean());
         verify(g2d, never()).setColor(SECTION_ROW_BACKGROUND);
         verify(g2d, never()).fillRect(0, 0, COLUMN_COUNT * COLUMN_WIDTH, ROW_HEIGHT);
@@ -205,9 +238,96 @@ public class SectionTableUITest {
         tableUI.paint(g2d, table);
 
         assertThat(getParentCount).isEqualTo(0);
-        verify(table, never()).isSectionRow(anyInt());
+        verify(table, never()).getSectionRows(anyInt(), anyInt());
         verify(g2d, never()).setColor(SECTION_ROW_BACKGROUND);
         verify(g2d, never()).fillRect(0, 0, COLUMN_COUNT * COLUMN_WIDTH, ROW_HEIGHT);
         verify(g2d, never()).fillRect(0, 3 * ROW_HEIGHT, COLUMN_COUNT * COLUMN_WIDTH, ROW_HEIGHT);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void paintRendersEachSectionRowOnce() throws Exception {
+        final int tableWidth = COLUMN_WIDTH * COLUMN_COUNT;
+        final int tableHeight = ROW_HEIGHT * ROW_COUNT;
+        BufferedImage image = new BufferedImage(tableWidth, tableHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setClip(0, 0, tableWidth, tableHeight);
+        when(rendererComponent.isOpaque()).thenReturn(true);
+        when(table.getBounds()).thenReturn(new Rectangle(0, 0, tableWidth, tableHeight));
+        when(table.rowAtPoint(any(Point.class))).thenAnswer(rowAtPointAnswer);
+        when(table.columnAtPoint(any(Point.class))).thenAnswer(columnAtPointAnswer);
+        when(column.getWidth()).thenReturn(COLUMN_WIDTH);
+        when(table.getSectionRows(0, ROW_COUNT - 1)).thenReturn(sectionRows);
+        when(table.getCellRect(anyInt(), anyInt(), anyBoolean())).thenAnswer(cellRectAnswer);
+        when(rendererComponent.getParent()).thenAnswer(getParentAnswer);
+        SectionTableUI tableUI = new SectionTableUI();
+        tableUI.installUI(table);
+
+        try {
+            tableUI.paint(graphics, table);
+        } finally {
+            graphics.dispose();
+        }
+
+        for (int row = 0; row < ROW_COUNT; row++) {
+            if (sectionRows.get(row)) {
+                verify(table).prepareRenderer(cellRenderer, row, 0);
+                verify(table, times(1)).prepareRenderer(same(cellRenderer), eq(row), anyInt());
+            }
+            else {
+                verify(table, times(COLUMN_COUNT)).prepareRenderer(same(cellRenderer), eq(row), anyInt());
+            }
+        }
+    }
+
+    @Test
+    public void paintDrawsGridLinesForSectionRows() throws Exception {
+        final int clipWidth = COLUMN_WIDTH * COLUMN_COUNT - 1;
+        final int clipHeight = ROW_HEIGHT * ROW_COUNT - 1;
+        when(rendererComponent.isOpaque()).thenReturn(true);
+        when(table.getBounds()).thenReturn(new Rectangle(0, 0, clipWidth, clipHeight));
+        when(g2d.getClipBounds()).thenReturn(new Rectangle(0, 0, clipWidth, clipHeight));
+        when(table.rowAtPoint(any(Point.class))).thenAnswer(rowAtPointAnswer);
+        when(table.getSectionRows(0, ROW_COUNT - 1)).thenReturn(sectionRows);
+        when(table.getCellRect(anyInt(), anyInt(), anyBoolean())).thenAnswer(spacedCellRectAnswer(0));
+        when(rendererComponent.getParent()).thenAnswer(getParentAnswer);
+        when(table.getShowHorizontalLines()).thenReturn(true);
+        when(table.getShowVerticalLines()).thenReturn(true);
+        when(table.getGridColor()).thenReturn(Color.gray);
+        setupRowGraphics();
+        SectionTableUI tableUI = new SectionTableUI();
+        tableUI.installUI(table);
+
+        tableUI.paint(g2d, table);
+
+        verify(g2d, times(2)).setColor(Color.gray);
+        verify(g2d).drawLine(0, ROW_HEIGHT - 1, COLUMN_COUNT * COLUMN_WIDTH - 1, ROW_HEIGHT - 1);
+        verify(g2d).drawLine(COLUMN_COUNT * COLUMN_WIDTH - 1, 0, COLUMN_COUNT * COLUMN_WIDTH - 1, ROW_HEIGHT - 1);
+        verify(g2d, never()).drawLine(0, 0, 0, ROW_HEIGHT - 1);
+        verify(g2d).drawLine(0, 4 * ROW_HEIGHT - 1, COLUMN_COUNT * COLUMN_WIDTH - 1, 4 * ROW_HEIGHT - 1);
+    }
+
+    @Test
+    public void paintDrawsGridLinesForSectionRowsRightToLeft() throws Exception {
+        final int clipWidth = COLUMN_WIDTH * COLUMN_COUNT - 1;
+        final int clipHeight = ROW_HEIGHT * ROW_COUNT - 1;
+        when(table.getComponentOrientation()).thenReturn(ComponentOrientation.RIGHT_TO_LEFT);
+        when(rendererComponent.isOpaque()).thenReturn(true);
+        when(table.getBounds()).thenReturn(new Rectangle(0, 0, clipWidth, clipHeight));
+        when(g2d.getClipBounds()).thenReturn(new Rectangle(0, 0, clipWidth, clipHeight));
+        when(table.rowAtPoint(any(Point.class))).thenAnswer(rowAtPointAnswer);
+        when(table.getSectionRows(0, ROW_COUNT - 1)).thenReturn(sectionRows);
+        when(table.getCellRect(anyInt(), anyInt(), anyBoolean())).thenAnswer(spacedCellRectAnswer(1));
+        when(rendererComponent.getParent()).thenAnswer(getParentAnswer);
+        when(table.getShowVerticalLines()).thenReturn(true);
+        when(table.getGridColor()).thenReturn(Color.gray);
+        setupRowGraphics();
+        SectionTableUI tableUI = new SectionTableUI();
+        tableUI.installUI(table);
+
+        tableUI.paint(g2d, table);
+
+        verify(g2d).drawLine(0, 0, 0, ROW_HEIGHT - 1);
+        verify(g2d, never()).drawLine(COLUMN_COUNT * COLUMN_WIDTH - 1, 0, COLUMN_COUNT * COLUMN_WIDTH - 1, ROW_HEIGHT - 1);
+        verify(g2d).drawLine(0, 3 * ROW_HEIGHT, 0, 4 * ROW_HEIGHT - 1);
+    }
+}
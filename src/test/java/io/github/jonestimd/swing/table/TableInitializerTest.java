@@ -21,6 +21,7 @@
 // SOFTWARE.
 package io.github.jonestimd.swing.table;
 
+import java.awt.Color;
 import java.math.BigDecimal;
 import java.util.Date;
 import java.util.function.Supplier;
@@ -30,6 +31,7 @@ import javax.swing.table.TableCellRenderer;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import io.github.jonestimd.swing.ClientProperty;
 import io.github.jonestimd.swing.table.model.BeanListTableModel;
 import io.github.jonestimd.swing.table.model.BufferedBeanListTableModel;
 import io.github.jonestimd.swing.table.model.ColumnAdapter;
@@ -76,6 +78,23 @@ public class TableInitializerTest {
         assertThat(table.getDefaultRenderer(Date.class)).isSameAs(dateRenderer);
     }
 
+    @Test
+    public void setHighlightColorSetsTableProperty() throws Exception {
+        BeanListTableModel<Object> tableModel = new BeanListTableModel<>(ImmutableList.of(dateColumnAdapter, numberColumnAdapter));
+        HighlightTableCellRenderer dateRenderer = new HighlightTableCellRenderer(Highlighter.NOOP_HIGHLIGHTER);
+        HighlightTableCellRenderer numberRenderer = new HighlightTableCellRenderer(Highlighter.NOOP_HIGHLIGHTER);
+        TableInitializer initializer = new TableInitializer(ImmutableMap.of(Date.class, dateRenderer, String.class, mock(TableCellRenderer.class)),
+                emptyMap(), ImmutableMap.of("number renderer", numberRenderer), emptyMap());
+        initializer.setHighlightColor(Color.YELLOW);
+        DecoratedTable<Object, BeanListTableModel<Object>> table = new DecoratedTable<>(tableModel);
+
+        initializer.initialize(table);
+
+        assertThat(table.getClientProperty(ClientProperty.HIGHLIGHT_COLOR)).isEqualTo(Color.YELLOW);
+        assertThat(dateRenderer.getHighlightColor()).isNull();
+        assertThat(numberRenderer.getHighlightColor()).isNull();
+    }
+
     @Test
     public void setsTableColumnCellRenderers() throws Exception {
         BeanListTableModel<Object> tableModel = new BeanListTableModel<>(ImmutableList.of(dateColumnAdapter, numberColumnAdapter));
@@ -74,4 +74,22 @@ public class UnsavedChangeDecoratorTest {
         assertThat(renderer.getBackground()).isEqualTo(new Color(0, 192, 192));
         assertThat(renderer.getFont()).isSameAs(font);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void reusesMixedColorAndCachesChangeState() throws Exception {
+        when(table.getModel()).thenReturn(model);
+        when(model.isPendingDelete(anyInt())).thenReturn(false);
+        when(model.isChangedAt(anyInt(), eq(0))).thenReturn(true);
+        renderer.setBackground(Color.lightGray);
+        decorator.prepareRenderer(table, renderer, 0, 0);
+        Color background = renderer.getBackground();
+        renderer.setBackground(Color.lightGray);
+
+        decorator.prepareRenderer(table, renderer, 1, 0);
+        renderer.setBackground(Color.lightGray);
+        decorator.prepareRenderer(table, renderer, 1, 0);
+
+        assertThat(renderer.getBackground()).isSameAs(background);
+        verify(model, times(1)).isChangedAt(1, 0);
+    }
+}
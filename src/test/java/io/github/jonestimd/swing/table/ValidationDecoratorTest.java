@@ -25,6 +25,8 @@ import javax.swing.BorderFactory;
 import javax.swing.JComponent;
 import javax.swing.border.Border;
 import javax.swing.border.CompoundBorder;
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
 
 import io.github.jonestimd.swing.table.model.BeanTableModel;
 import io.github.jonestimd.swing.table.model.ValidatedTableModel;
@@ -50,6 +52,8 @@ public class ValidationDecoratorTest {
     private ValidationDecorator decorator = new ValidationDecorator();
     @Captor
     private ArgumentCaptor<Border> borderCaptor;
+    @Captor
+    private ArgumentCaptor<TableModelListener> listenerCaptor;
 
     @Test
     public void prepareRendererSetsBorder() throws Exception {
@@ -105,5 +109,34 @@ public class ValidationDecoratorTest {
         verify(renderer).setToolTipText("error message");
     }
 
+    @Test
+    public void prepareRendererCachesValidationUntilRowIsUpdated() throws Exception {
+        doReturn(model).when(table).getModel();
+        when(model.validateAt(0, 0)).thenReturn("error message");
+        when(renderer.getBorder()).thenReturn(null);
+
+        decorator.prepareRenderer(table, renderer, 0, 0);
+        decorator.prepareRenderer(table, renderer, 0, 0);
+        verify(model).addTableModelListener(listenerCaptor.capture());
+        listenerCaptor.getValue().tableChanged(new TableModelEvent(model, 0));
+        decorator.prepareRenderer(table, renderer, 0, 0);
+
+        verify(model, times(2)).validateAt(0, 0);
+        verify(renderer, times(3)).setToolTipText("error message");
+    }
+
+    @Test
+    public void prepareRendererReusesCompoundBorder() throws Exception {
+        final Border currentBorder = BorderFactory.createEmptyBorder();
+        when(table.getModel()).thenReturn(model);
+        when(renderer.getBorder()).thenReturn(currentBorder);
+
+        decorator.prepareRenderer(table, renderer, 0, 0);
+        decorator.prepareRenderer(table, renderer, 1, 0);
+
+        verify(renderer, times(2)).setBorder(borderCaptor.capture());
+        assertThat(borderCaptor.getAllValues().get(1)).isSameAs(borderCaptor.getAllValues().get(0));
+    }
+
     private interface TestModel<T> extends ValidatedTableModel, BeanTableModel<T> {}
 }
\ No newline at end of file
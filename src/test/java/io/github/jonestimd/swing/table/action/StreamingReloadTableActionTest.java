@@ -0,0 +1,168 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing.table.action;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import javax.swing.JPanel;
+import javax.swing.ListSelectionModel;
+import javax.swing.SwingUtilities;
+import javax.swing.table.TableColumnModel;
+
+import io.github.jonestimd.AsyncTest;
+import io.github.jonestimd.swing.table.DecoratedTable;
+import io.github.jonestimd.swing.table.model.BeanListTableModel;
+import io.github.jonestimd.swing.table.model.BufferedBeanListTableModel;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class StreamingReloadTableActionTest {
+    private static final ResourceBundle BUNDLE = new ListResourceBundle() {
+        @Override
+        protected Object[][] getContents() {
+            return new String[][] {{ "reload.mnemonicAndName", "RReload" }};
+        }
+    };
+    @Mock
+    private DecoratedTable<String, BeanListTableModel<String>> table;
+    @Mock
+    private ListSelectionModel selectionModel;
+    @Mock
+    private ListSelectionModel columnSelectionModel;
+    @Mock
+    private TableColumnModel columnModel;
+    @Mock
+    private BufferedBeanListTableModel<String> tableModel;
+    private final JPanel owner = new JPanel();
+
+    private CompletableFuture<Integer> reload(TestAction action) throws Exception {
+        AtomicReference<CompletableFuture<Integer>> future = new AtomicReference<>();
+        SwingUtilities.invokeAndWait(() -> future.set(action.reload()));
+        return future.get();
+    }
+
+    @Test
+    public void confirmActionReturnsTrueForNoChanges() throws Exception {
+        when(tableModel.isChanged()).thenReturn(false);
+
+        assertThat(new TestAction(Collections.emptyList()).confirmAction(null)).isTrue();
+    }
+
+    @Test
+    public void reloadClearsTableAndAppendsRows() throws Exception {
+        when(table.getSelectedRow()).thenReturn(3);
+        when(table.getSelectedColumn()).thenReturn(1);
+        when(table.getRowCount()).thenReturn(2);
+        when(table.getSelectionModel()).thenReturn(selectionModel);
+        when(table.getColumnModel()).thenReturn(columnModel);
+        when(columnModel.getSelectionModel()).thenReturn(columnSelectionModel);
+
+        CompletableFuture<Integer> future = reload(new TestAction(Arrays.asList("abc", "def")));
+
+        assertThat(future.get(10, TimeUnit.SECONDS)).isEqualTo(2);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> rows = ArgumentCaptor.forClass(Collection.class);
+        InOrder inOrder = inOrder(tableModel, selectionModel);
+        inOrder.verify(tableModel).setBeans(Collections.emptyList());
+        inOrder.verify(tableModel, atLeastOnce()).addRows(rows.capture());
+        inOrder.verify(selectionModel).setSelectionInterval(1, 1);
+        verify(columnSelectionModel).setSelectionInterval(1, 1);
+        assertThat(rows.getAllValues().stream().flatMap(Collection::stream).collect(Collectors.toList()))
+                .containsExactly("abc", "def");
+    }
+
+    @Test
+    public void cancelStopsLoadingRows() throws Exception {
+        when(table.getSelectedRow()).thenReturn(-1);
+        when(table.getSelectedColumn()).thenReturn(-1);
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<Throwable> taskError = new AtomicReference<>();
+        TestAction action = new TestAction(Collections.emptyList()) {
+            @Override
+            protected void performTask(Consumer<? super String> sink) {
+                try {
+                    sink.accept("abc");
+                    latch.await();
+                    sink.accept("def");
+                } catch (Throwable ex) {
+                    taskError.set(ex);
+                }
+            }
+        };
+        CompletableFuture<Integer> future = reload(action);
+
+        SwingUtilities.invokeAndWait(() -> future.cancel(true));
+        latch.countDown();
+
+        AsyncTest.timeout(10000L, () -> taskError.get() != null);
+        assertThat(taskError.get()).isInstanceOf(CancellationException.class);
+        verify(tableModel, never()).addRows(Collections.singletonList("def"));
+    }
+
+    @Test
+    public void reloadAllowsEmptyTable() throws Exception {
+        when(table.getSelectedRow()).thenReturn(-1);
+        when(table.getSelectedColumn()).thenReturn(-1);
+        when(table.getRowCount()).thenReturn(0);
+
+        CompletableFuture<Integer> future = reload(new TestAction(Collections.emptyList()));
+
+        assertThat(future.get(10, TimeUnit.SECONDS)).isEqualTo(0);
+        verify(tableModel).setBeans(Collections.emptyList());
+        verify(tableModel, never()).addRows(any());
+        verifyNoInteractions(selectionModel);
+    }
+
+    private class TestAction extends StreamingReloadTableAction<String> {
+        private final List<String> rows;
+
+        public TestAction(List<String> rows) {
+            super(owner, BUNDLE, "reload", table, tableModel);
+            this.rows = rows;
+        }
+
+        @Override
+        protected void performTask(Consumer<? super String> sink) {
+            rows.forEach(sink);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing.table.filter;
+
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+import javax.swing.JTextField;
+import javax.swing.RowFilter.Entry;
+import javax.swing.event.TableModelEvent;
+import javax.swing.table.TableRowSorter;
+
+import io.github.jonestimd.swing.table.model.BeanTableModel;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CachedPredicateRowFilterTest {
+    @Mock
+    private Function<String, String> rowText;
+    @Mock
+    private BiPredicate<String, String> matcher;
+    @Mock
+    private Entry<BeanTableModel<String>, Integer> entry;
+    @Mock
+    private BeanTableModel<String> model;
+    private JTextField filterField = new JTextField();
+
+    private CachedPredicateRowFilter<String> newRowFilter(boolean narrowing) {
+        when(rowText.apply(anyString())).thenAnswer(invocation -> invocation.getArguments()[0]);
+        when(matcher.test(anyString(), anyString())).thenAnswer(invocation ->
+                ((String) invocation.getArguments()[0]).contains((String) invocation.getArguments()[1]));
+        when(entry.getModel()).thenReturn(model);
+        when(entry.getIdentifier()).thenReturn(0);
+        when(model.getBean(0)).thenReturn("Row Text");
+        return new CachedPredicateRowFilter<>(filterField, rowText, matcher, narrowing);
+    }
+
+    @Test
+    public void installUpdatesRowSorterWhenFilterFieldChanges() throws Exception {
+        when(model.getRowCount()).thenReturn(1);
+        when(model.getBean(0)).thenReturn("Row Text");
+        when(rowText.apply(anyString())).thenAnswer(invocation -> invocation.getArguments()[0]);
+        TableRowSorter<BeanTableModel<String>> rowSorter = new TableRowSorter<>(model);
+
+        CachedPredicateRowFilter<String> rowFilter = CachedPredicateRowFilter.install(rowSorter, filterField, rowText);
+        filterField.setText("xxx");
+
+        assertThat(rowSorter.getRowFilter()).isSameAs(rowFilter);
+        assertThat(rowSorter.getViewRowCount()).isEqualTo(0);
+        verify(model).addTableModelListener(rowFilter);
+    }
+
+    @Test
+    public void includeIgnoresCase() throws Exception {
+        CachedPredicateRowFilter<String> rowFilter = newRowFilter(false);
+
+        filterField.setText("ROW");
+        assertThat(rowFilter.include(entry)).isTrue();
+        filterField.setText("other");
+        assertThat(rowFilter.include(entry)).isFalse();
+
+        verify(matcher).test("row text", "row");
+        verify(matcher).test("row text", "other");
+    }
+
+    @Test
+    public void includeCachesRowText() throws Exception {
+        CachedPredicateRowFilter<String> rowFilter = newRowFilter(false);
+
+        rowFilter.include(entry);
+        rowFilter.include(entry);
+
+        verify(rowText, times(1)).apply("Row Text");
+        verify(matcher, times(2)).test("row text", "");
+    }
+
+    @Test
+    public void narrowingSkipsExcludedRows() throws Exception {
+        CachedPredicateRowFilter<String> rowFilter = newRowFilter(true);
+        filterField.setText("z");
+        assertThat(rowFilter.include(entry)).isFalse();
+
+        filterField.setText("zy");
+        assertThat(rowFilter.include(entry)).isFalse();
+
+        verify(matcher, never()).test(anyString(), eq("zy"));
+    }
+
+    @Test
+    public void wideningSkipsIncludedRows() throws Exception {
+        CachedPredicateRowFilter<String> rowFilter = newRowFilter(true);
+        filterField.setText("text");
+        assertThat(rowFilter.include(entry)).isTrue();
+
+        filterField.setText("tex");
+        assertThat(rowFilter.include(entry)).isTrue();
+
+        verify(matcher, never()).test(anyString(), eq("tex"));
+    }
+
+    @Test
+    public void retestsRowsWhenFilterTextIsReplaced() throws Exception {
+        CachedPredicateRowFilter<String> rowFilter = newRowFilter(true);
+        filterField.setText("z");
+        assertThat(rowFilter.include(entry)).isFalse();
+
+        filterField.setText("row");
+        assertThat(rowFilter.include(entry)).isTrue();
+    }
+
+    @Test
+    public void rowUpdateInvalidatesCachedText() throws Exception {
+        CachedPredicateRowFilter<String> rowFilter = newRowFilter(true);
+        rowFilter.include(entry);
+
+        rowFilter.tableChanged(new TableModelEvent(model, 0, 0));
+        rowFilter.include(entry);
+
+        verify(rowText, times(2)).apply("Row Text");
+    }
+
+    @Test
+    public void dataChangedClearsCache() throws Exception {
+        CachedPredicateRowFilter<String> rowFilter = newRowFilter(true);
+        rowFilter.include(entry);
+
+        rowFilter.tableChanged(new TableModelEvent(model));
+        rowFilter.include(entry);
+
+        verify(rowText, times(2)).apply("Row Text");
+    }
+}
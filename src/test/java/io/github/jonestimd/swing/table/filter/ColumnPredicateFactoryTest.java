@@ -0,0 +1,238 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing.table.filter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import io.github.jonestimd.swing.table.model.BeanListTableModel;
+import io.github.jonestimd.swing.table.model.TestColumnAdapter;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class ColumnPredicateFactoryTest {
+    private final Function<String, Predicate<TestBean>> defaultFactory = term -> bean -> bean.name.contains(term);
+    private final ColumnPredicateFactory<TestBean> factory = new ColumnPredicateFactory<>(Arrays.asList(
+            new TestColumnAdapter<>("Name", "name", String.class, TestBean::getName, null),
+            new TestColumnAdapter<>("Amount", "amount", BigDecimal.class, TestBean::getAmount, null),
+            new TestColumnAdapter<>("Count", "count", Integer.class, TestBean::getCount, null),
+            new TestColumnAdapter<>("Due Date", "date", LocalDate.class, TestBean::getDate, null),
+            new TestColumnAdapter<>("Active", "active", Boolean.class, TestBean::getActive, null)), defaultFactory);
+
+    private final TestBean bean1 = new TestBean("first row", new BigDecimal("100.00"), 5, LocalDate.of(2024, 1, 15), true);
+    private final TestBean bean2 = new TestBean("second row", new BigDecimal("250.5"), 10, LocalDate.of(2024, 2, 1), false);
+    private final TestBean nullBean = new TestBean("null values", null, null, null, null);
+
+    @Test
+    public void unqualifiedTermUsesDefaultFactory() throws Exception {
+        Predicate<TestBean> predicate = factory.apply("first");
+
+        assertThat(predicate.test(bean1)).isTrue();
+        assertThat(predicate.test(bean2)).isFalse();
+    }
+
+    @Test
+    public void unknownColumnUsesDefaultFactory() throws Exception {
+        TestBean bean = new TestBean("other:value", null, null, null, null);
+
+        assertThat(factory.apply("other:value").test(bean)).isTrue();
+        assertThat(factory.apply("other:value").test(bean1)).isFalse();
+    }
+
+    @Test
+    public void textColumnContainsIgnoringCase() throws Exception {
+        Predicate<TestBean> predicate = factory.apply("name:SECOND");
+
+        assertThat(predicate.test(bean1)).isFalse();
+        assertThat(predicate.test(bean2)).isTrue();
+        assertThat(predicate.test(nullBean)).isFalse();
+    }
+
+    @Test
+    public void columnNameQualifiesTerm() throws Exception {
+        Predicate<TestBean> predicate = factory.apply("due date < 2024-02");
+
+        assertThat(predicate.test(bean1)).isTrue();
+        assertThat(predicate.test(bean2)).isFalse();
+    }
+
+    @Test
+    public void numericComparisons() throws Exception {
+        assertThat(factory.apply("amount>100").test(bean1)).isFalse();
+        assertThat(factory.apply("amount>100").test(bean2)).isTrue();
+        assertThat(factory.apply("amount>=100").test(bean1)).isTrue();
+        assertThat(factory.apply("amount=100").test(bean1)).isTrue();
+        assertThat(factory.apply("amount:250.50").test(bean2)).isTrue();
+        assertThat(factory.apply("amount!=100").test(bean1)).isFalse();
+        assertThat(factory.apply("count<10").test(bean1)).isTrue();
+        assertThat(factory.apply("count<=10").test(bean2)).isTrue();
+        assertThat(factory.apply("count<10").test(bean2)).isFalse();
+    }
+
+    @Test
+    public void nullValueOnlyMatchesNotEqual() throws Exception {
+        assertThat(factory.apply("amount>0").test(nullBean)).isFalse();
+        assertThat(factory.apply("amount<0").test(nullBean)).isFalse();
+        assertThat(factory.apply("amount!=0").test(nullBean)).isTrue();
+        assertThat(factory.apply("date:2024").test(nullBean)).isFalse();
+    }
+
+    @Test
+    public void dateColumnMatchesIsoPrefix() throws Exception {
+        Predicate<TestBean> predicate = factory.apply("date:2024-01");
+
+        assertThat(predicate.test(bean1)).isTrue();
+        assertThat(predicate.test(bean2)).isFalse();
+        assertThat(factory.apply("date>=2024-02").test(bean2)).isTrue();
+    }
+
+    @Test
+    public void dateComparisonsUseYearMonthPrecision() throws Exception {
+        assertThat(factory.apply("date<=2024-01").test(bean1)).isTrue();
+        assertThat(factory.apply("date<=2024-01").test(bean2)).isFalse();
+        assertThat(factory.apply("date>2024-01").test(bean1)).isFalse();
+        assertThat(factory.apply("date>2024-01").test(bean2)).isTrue();
+        assertThat(factory.apply("date=2024-01").test(bean1)).isTrue();
+    }
+
+    @Test
+    public void dateComparisonsUseYearPrecision() throws Exception {
+        assertThat(factory.apply("date<=2024").test(bean1)).isTrue();
+        assertThat(factory.apply("date<=2023").test(bean1)).isFalse();
+        assertThat(factory.apply("date>2024").test(bean2)).isFalse();
+        assertThat(factory.apply("date>2023").test(bean2)).isTrue();
+    }
+
+    @Test
+    public void dateTimeComparisonsUsePrecisionOfFilterValue() throws Exception {
+        LocalDateTime dateTime = LocalDateTime.of(2020, 1, 5, 12, 30);
+        ColumnPredicateFactory<LocalDateTime> dateFactory = new ColumnPredicateFactory<>(Collections.singletonList(
+                new TestColumnAdapter<>("date", LocalDateTime.class, Function.identity())), term -> bean -> false);
+
+        assertThat(dateFactory.apply("date<=2020-01-05T12").test(dateTime)).isTrue();
+        assertThat(dateFactory.apply("date>2020-01-05T12").test(dateTime)).isFalse();
+        assertThat(dateFactory.apply("date>2020-01-05T12:15").test(dateTime)).isTrue();
+    }
+
+    @Test
+    public void utilDateColumnIgnoresTimeForDateOnlyValue() throws Exception {
+        Date date = Date.from(LocalDateTime.of(2020, 1, 5, 0, 0).atZone(ZoneId.systemDefault()).toInstant());
+        ColumnPredicateFactory<Date> dateFactory = new ColumnPredicateFactory<>(Collections.singletonList(
+                new TestColumnAdapter<>("date", Date.class, Function.identity())), term -> bean -> false);
+
+        assertThat(dateFactory.apply("date=2020-01-05").test(date)).isTrue();
+        assertThat(dateFactory.apply("date<=2020-01-05").test(date)).isTrue();
+        assertThat(dateFactory.apply("date<2020-01-05").test(date)).isFalse();
+        assertThat(dateFactory.apply("date:2020-01-05").test(date)).isTrue();
+        assertThat(dateFactory.apply("date>2020-01-05T00:00").test(date)).isFalse();
+    }
+
+    @Test
+    public void sqlDateColumn() throws Exception {
+        java.sql.Date date = java.sql.Date.valueOf(LocalDate.of(2020, 1, 5));
+        ColumnPredicateFactory<java.sql.Date> dateFactory = new ColumnPredicateFactory<>(Collections.singletonList(
+                new TestColumnAdapter<>("date", java.sql.Date.class, Function.identity())), term -> bean -> false);
+
+        assertThat(dateFactory.apply("date=2020-01-05").test(date)).isTrue();
+        assertThat(dateFactory.apply("date>=2020-01-05T12:00").test(date)).isTrue();
+        assertThat(dateFactory.apply("date:2020-01").test(date)).isTrue();
+    }
+
+    @Test
+    public void emptyValueMatchesAllRows() throws Exception {
+        assertThat(factory.apply("amount>").test(bean1)).isTrue();
+        assertThat(factory.apply("amount> ").test(nullBean)).isTrue();
+        assertThat(factory.apply("date<=").test(bean2)).isTrue();
+    }
+
+    @Test
+    public void ofUsesColumnAdaptersOfModel() throws Exception {
+        BeanListTableModel<TestBean> model = new BeanListTableModel<>(Collections.singletonList(
+                new TestColumnAdapter<>("Count", "count", Integer.class, TestBean::getCount, null)));
+
+        Predicate<TestBean> predicate = ColumnPredicateFactory.of(model, defaultFactory).apply("count>5");
+
+        assertThat(predicate.test(bean1)).isFalse();
+        assertThat(predicate.test(bean2)).isTrue();
+    }
+
+    @Test
+    public void booleanColumn() throws Exception {
+        assertThat(factory.apply("active:true").test(bean1)).isTrue();
+        assertThat(factory.apply("active=true").test(bean2)).isFalse();
+        assertThat(factory.apply("active!=true").test(bean2)).isTrue();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidNumberThrowsException() throws Exception {
+        factory.apply("amount>abc");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidBooleanComparisonThrowsException() throws Exception {
+        factory.apply("active>true");
+    }
+
+    public static class TestBean {
+        private final String name;
+        private final BigDecimal amount;
+        private final Integer count;
+        private final LocalDate date;
+        private final Boolean active;
+
+        public TestBean(String name, BigDecimal amount, Integer count, LocalDate date, Boolean active) {
+            this.name = name;
+            this.amount = amount;
+            this.count = count;
+            this.date = date;
+            this.active = active;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public BigDecimal getAmount() {
+            return amount;
+        }
+
+        public Integer getCount() {
+            return count;
+        }
+
+        public LocalDate getDate() {
+            return date;
+        }
+
+        public Boolean getActive() {
+            return active;
+        }
+    }
+}
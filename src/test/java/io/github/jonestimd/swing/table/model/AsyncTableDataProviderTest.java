@@ -7,9 +7,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 
 import javax.swing.SwingUtilities;
 
+import com.google.common.collect.ImmutableList;
+
 import io.github.jonestimd.AsyncTest;
 import org.junit.Before;
 import org.junit.Test;
@@ -30,11 +34,16 @@ public class AsyncTableDataProviderTest {
     };
     @Mock
     private PropertyChangeListener stateChangeListener;
+    @Mock
+    private PropertyChangeListener cacheStatisticsListener;
     private TestTableDataProvider dataProvider;
     private Collection<String> expectedQuery;
     private List<String> expectedResult = new ArrayList<>();
     private List<String> queryResult;
     private volatile boolean queryDelay = false;
+    private final List<Collection<String>> queries = new CopyOnWriteArrayList<>();
+    private final List<Runnable> tasks = new CopyOnWriteArrayList<>();
+    private final Executor executor = tasks::add;
 
     @Before
     public void createProvider() {
@@ -67,14 +76,218 @@ public class AsyncTableDataProviderTest {
         verify(stateChangeListener, times(1)).propertyChange(any(PropertyChangeEvent.class));
     }
 
+    @Test(expected = IllegalArgumentException.class)
+    public void maxConcurrentQueriesMustBePositive() throws Exception {
+        new TestTableDataProvider(executor, 0, 0);
+    }
+
+    @Test
+    public void failedQueryIsRemovedFromQueue() throws Exception {
+        dataProvider = new TestTableDataProvider(executor, 1, 0);
+        expectedQuery = Collections.singletonList("fail");
+
+        SwingUtilities.invokeAndWait(submit);
+        tasks.get(0).run();
+        waitForQuery();
+
+        assertThat(queryResult).isNull();
+    }
+
+    @Test
+    public void limitsConcurrentQueries() throws Exception {
+        dataProvider = new TestTableDataProvider(executor, 2, 0);
+        dataProvider.addStateChangeListener(stateChangeListener);
+
+        SwingUtilities.invokeAndWait(() -> {
+            dataProvider.submitIfNotPending(singleton("a"));
+            dataProvider.submitIfNotPending(singleton("b"));
+            dataProvider.submitIfNotPending(singleton("c"));
+        });
+
+        assertThat(tasks).hasSize(2);
+        assertThat(dataProvider.activeQueries()).isEqualTo(3);
+        tasks.get(0).run();
+        AsyncTest.timeout(10000L, () -> tasks.size() == 3);
+        tasks.get(1).run();
+        tasks.get(2).run();
+        waitForQuery();
+        assertThat(queries).containsExactly(singleton("a"), singleton("b"), singleton("c"));
+        verify(stateChangeListener, times(3)).propertyChange(any(PropertyChangeEvent.class));
+    }
+
+    @Test
+    public void cancelsSupersededQuery() throws Exception {
+        dataProvider = new TestTableDataProvider(executor, 1, 0);
+
+        SwingUtilities.invokeAndWait(() -> {
+            dataProvider.submitIfNotPending(singleton("a"));
+            dataProvider.submitIfNotPending(ImmutableList.of("a", "b"));
+        });
+        assertThat(tasks).hasSize(2);
+        tasks.forEach(Runnable::run);
+        waitForQuery();
+
+        assertThat(queries).containsExactly(ImmutableList.of("a", "b"));
+    }
+
+    @Test
+    public void cancelledQueryHoldsSlotUntilQueryFinishes() throws Exception {
+        dataProvider = new TestTableDataProvider(executor, 1, 0);
+        queryDelay = true;
+        SwingUtilities.invokeAndWait(() -> dataProvider.submitIfNotPending(singleton("a")));
+        new Thread(tasks.get(0)).start();
+        AsyncTest.timeout(10000L, () -> !queries.isEmpty());
+
+        SwingUtilities.invokeAndWait(() -> dataProvider.submitIfNotPending(ImmutableList.of("a", "b")));
+
+        assertThat(tasks).hasSize(1);
+        queryDelay = false;
+        AsyncTest.timeout(10000L, () -> tasks.size() == 2);
+        tasks.get(1).run();
+        waitForQuery();
+        assertThat(queries).containsExactly(singleton("a"), ImmutableList.of("a", "b"));
+    }
+
+    @Test
+    public void combinesQueriesSubmittedWithinBatchDelay() throws Exception {
+        dataProvider = new TestTableDataProvider(executor, 1, 10);
+
+        SwingUtilities.invokeAndWait(() -> {
+            dataProvider.submitIfNotPending(singleton("a"));
+            dataProvider.submitIfNotPending(singleton("b"));
+            dataProvider.submitIfNotPending(singleton("a"));
+        });
+        assertThat(dataProvider.activeQueries()).isEqualTo(1);
+        AsyncTest.timeout(10000L, () -> !tasks.isEmpty());
+        tasks.get(0).run();
+        waitForQuery();
+
+        assertThat(tasks).hasSize(1);
+        assertThat(queries).containsExactly(ImmutableList.of("a", "b"));
+    }
+
+    @Test
+    public void usesCachedResult() throws Exception {
+        dataProvider = new TestTableDataProvider(executor, 1, 0);
+        dataProvider.setResultCache(10, 60000L, false);
+        dataProvider.addCacheStatisticsListener(cacheStatisticsListener);
+        SwingUtilities.invokeAndWait(() -> dataProvider.submitIfNotPending(singleton("a")));
+        tasks.get(0).run();
+        waitForQuery();
+        queryResult = null;
+
+        SwingUtilities.invokeAndWait(() -> {
+            dataProvider.submitIfNotPending(singleton("a"));
+            assertThat(queryResult).isNull();
+        });
+        SwingUtilities.invokeAndWait(() -> {});
+
+        assertThat(tasks).hasSize(1);
+        assertThat(queryResult).isSameAs(expectedResult);
+        assertThat(dataProvider.getCacheStatistics().getHitCount()).isEqualTo(1);
+        assertThat(dataProvider.getCacheStatistics().getMissCount()).isEqualTo(1);
+        verify(cacheStatisticsListener, times(2)).propertyChange(any(PropertyChangeEvent.class));
+    }
+
+    @Test
+    public void doesNotCheckCacheForPendingQuery() throws Exception {
+        dataProvider = new TestTableDataProvider(executor, 1, 0);
+        dataProvider.setResultCache(10, 60000L, false);
+
+        SwingUtilities.invokeAndWait(() -> {
+            dataProvider.submitIfNotPending(singleton("a"));
+            dataProvider.submitIfNotPending(singleton("a"));
+        });
+
+        assertThat(tasks).hasSize(1);
+        assertThat(dataProvider.getCacheStatistics().getMissCount()).isEqualTo(1);
+        tasks.get(0).run();
+        waitForQuery();
+    }
+
+    @Test
+    public void doesNotRepeatCachedResultWaitingForDelivery() throws Exception {
+        dataProvider = new TestTableDataProvider(executor, 1, 0);
+        dataProvider.setResultCache(10, 60000L, false);
+        SwingUtilities.invokeAndWait(() -> dataProvider.submitIfNotPending(singleton("a")));
+        tasks.get(0).run();
+        waitForQuery();
+
+        SwingUtilities.invokeAndWait(() -> {
+            dataProvider.submitIfNotPending(singleton("a"));
+            dataProvider.submitIfNotPending(singleton("a"));
+        });
+
+        assertThat(dataProvider.getCacheStatistics().getHitCount()).isEqualTo(1);
+        SwingUtilities.invokeAndWait(() -> dataProvider.submitIfNotPending(singleton("a")));
+        assertThat(dataProvider.getCacheStatistics().getHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void executesQueryForExpiredResult() throws Exception {
+        dataProvider = new TestTableDataProvider(executor, 1, 0);
+        dataProvider.setResultCache(10, 0L, false);
+        SwingUtilities.invokeAndWait(() -> dataProvider.submitIfNotPending(singleton("a")));
+        tasks.get(0).run();
+        waitForQuery();
+        queryResult = null;
+
+        SwingUtilities.invokeAndWait(() -> dataProvider.submitIfNotPending(singleton("a")));
+
+        assertThat(tasks).hasSize(2);
+        assertThat(queryResult).isNull();
+        assertThat(dataProvider.getCacheStatistics().getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void usesExpiredResultWhileExecutingQuery() throws Exception {
+        dataProvider = new TestTableDataProvider(executor, 1, 0);
+        dataProvider.setResultCache(10, 0L, true);
+        SwingUtilities.invokeAndWait(() -> dataProvider.submitIfNotPending(singleton("a")));
+        tasks.get(0).run();
+        waitForQuery();
+        queryResult = null;
+
+        SwingUtilities.invokeAndWait(() -> dataProvider.submitIfNotPending(singleton("a")));
+        SwingUtilities.invokeAndWait(() -> {});
+
+        assertThat(tasks).hasSize(2);
+        assertThat(queryResult).isSameAs(expectedResult);
+        assertThat(dataProvider.getCacheStatistics().getStaleHitCount()).isEqualTo(1);
+        dataProvider.clearResultCache();
+    }
+
     private void waitForQuery() throws InterruptedException, InvocationTargetException {
         AsyncTest.timeout(10000L, () -> dataProvider.activeQueries() == 0);
         SwingUtilities.invokeAndWait(() -> {});
     }
 
+    private static Collection<String> singleton(String value) {
+        return Collections.singletonList(value);
+    }
+
     private class TestTableDataProvider extends AsyncTableDataProvider<String, Collection<String>, List<String>> {
+        private final boolean compareQueries;
+
+        public TestTableDataProvider() {
+            this.compareQueries = false;
+        }
+
+        public TestTableDataProvider(Executor executor, int maxConcurrentQueries, int batchDelay) {
+            super(executor, maxConcurrentQueries, batchDelay);
+            this.compareQueries = true;
+        }
+
         @Override
         protected List<String> getData(Collection<String> query) throws Exception {
+            if (compareQueries) {
+                queries.add(query);
+                while (queryDelay) {
+                    Thread.yield();
+                }
+                if (query.contains("fail")) throw new IllegalStateException("query failed");
+                return expectedResult;
+            }
             assertThat(query).isSameAs(expectedQuery);
             while (queryDelay) {
                 Thread.yield();
@@ -89,7 +302,12 @@ public class AsyncTableDataProviderTest {
 
         @Override
         protected boolean matches(Collection<String> pendingQuery, Collection<String> newQuery) {
-            return true;
+            return !compareQueries || pendingQuery.containsAll(newQuery);
+        }
+
+        @Override
+        protected Collection<String> combine(Collection<String> batchQuery, Collection<String> newQuery) {
+            return ImmutableList.<String>builder().addAll(batchQuery).addAll(newQuery).build();
         }
 
         @Override
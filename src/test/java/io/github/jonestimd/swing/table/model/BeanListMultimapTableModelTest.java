@@ -2,6 +2,7 @@ package io.github.jonestimd.swing.table.model;
 
 import java.awt.event.MouseEvent;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
 
@@ -67,6 +68,21 @@ public class BeanListMultimapTableModelTest {
         assertThat(model.getColumnClass(1)).isSameAs(BEAN_VALUE_ADAPTER.getType());
     }
 
+    @Test
+    public void getSectionRows() throws Exception {
+        BeanListMultimapTableModel<TestGroup, TestBean> tableModel = newTableModel();
+        tableModel.setBeans(Arrays.asList(
+                new TestBean(group1, "bean1a", "x"),
+                new TestBean(group2, "bean2a", "x"),
+                new TestBean(group2, "bean2b", "x"),
+                new TestBean(group3, "bean3a", "x")));
+
+        assertThat(tableModel.getSectionRows(0, 6)).isEqualTo(BitSet.valueOf(new long[] {0b100101}));
+        assertThat(tableModel.getSectionRows(1, 4)).isEqualTo(BitSet.valueOf(new long[] {0b10}));
+        assertThat(tableModel.getSectionRows(4, 6)).isEqualTo(BitSet.valueOf(new long[] {0b010}));
+        assertThat(tableModel.getSectionRows(4, 4).isEmpty()).isTrue();
+    }
+
     @Test
     public void setBeansGroupsRows() throws Exception {
         BeanListMultimapTableModel<TestGroup, TestBean> tableModel = newTableModel();
@@ -156,6 +172,7 @@ public class BeanListMultimapTableModelTest {
         assertThat(tableModel.getBeanCount()).isEqualTo(2);
         assertThat(tableModel.getRowCount()).isEqualTo(3);
         verify(modelListener).tableChanged(matches(new TableModelEvent(tableModel, 0, 2, TableModelEvent.ALL_COLUMNS, TableModelEvent.DELETE)));
+        verify(dataProvider).removeBeans(result);
     }
 
     @Test
@@ -206,12 +223,14 @@ public class BeanListMultimapTableModelTest {
                 new TestBean(group3, "bean3a", "x"));
         tableModel.setBeans(beans);
 
-        tableModel.putAll(group3, Lists.newArrayList(new TestBean(group3, "bean3c", "y"), new TestBean(group3, "bean3d", "y")));
+        List<TestBean> newBeans = Lists.newArrayList(new TestBean(group3, "bean3c", "y"), new TestBean(group3, "bean3d", "y"));
+        tableModel.putAll(group3, newBeans);
 
         assertThat(tableModel.getSections()).containsExactly(group1, group3);
         assertThat(tableModel.getBeanCount()).isEqualTo(6);
         assertThat(tableModel.getRowCount()).isEqualTo(8);
         verify(modelListener).tableChanged(matches(new TableModelEvent(tableModel, 6, 7, TableModelEvent.ALL_COLUMNS, TableModelEvent.INSERT)));
+        verify(dataProvider).addBeans(newBeans);
     }
 
     @Test
@@ -8,6 +8,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import javax.swing.JTable;
+import javax.swing.SwingUtilities;
 import javax.swing.event.TableModelEvent;
 import javax.swing.event.TableModelListener;
 
@@ -16,6 +17,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -96,6 +98,26 @@ public class BeanListTableModelTest {
         verify(dataProvider).addBean(same(row));
     }
 
+    @Test
+    public void addRowsAppendsRowsWithSingleEvent() throws Exception {
+        model.addRow(new Object());
+        List<Object> beans = Arrays.asList(new Object(), new Object());
+
+        model.addRows(beans);
+
+        assertThat(model.getBeans().subList(1, 3)).containsExactlyElementsOf(beans);
+        verify(dataProvider).addBeans(same(beans));
+        verify(tableModelListener).tableChanged(matches(new TableModelEvent(model, 1, 2, TableModelEvent.ALL_COLUMNS, TableModelEvent.INSERT)));
+    }
+
+    @Test
+    public void addRowsIgnoresEmptyList() throws Exception {
+        model.addRows(emptyList());
+
+        verify(dataProvider, never()).addBeans(any());
+        verifyNoInteractions(tableModelListener);
+    }
+
     @Test
     public void removeRowUpdatesDataProvider() throws Exception {
         Object row = new Object();
@@ -127,6 +149,158 @@ public class BeanListTableModelTest {
         assertThat(captor.getValue().getColumn()).isEqualTo(1);
     }
 
+    @Test
+    public void setUpdateDelayMergesUpdateEvents() throws Exception {
+        model.addRow(BigDecimal.ONE);
+        model.addRow(BigDecimal.ZERO);
+        reset(tableModelListener);
+        model.setUpdateDelay(0);
+
+        SwingUtilities.invokeAndWait(() -> {
+            model.fireTableCellUpdated(0, 0);
+            model.fireTableCellUpdated(1, 0);
+            model.addRow(BigDecimal.TEN);
+        });
+
+        ArgumentCaptor<TableModelEvent> captor = ArgumentCaptor.forClass(TableModelEvent.class);
+        verify(tableModelListener, times(2)).tableChanged(captor.capture());
+        assertThat(captor.getAllValues().get(0).getType()).isEqualTo(TableModelEvent.UPDATE);
+        assertThat(captor.getAllValues().get(0).getFirstRow()).isEqualTo(0);
+        assertThat(captor.getAllValues().get(0).getLastRow()).isEqualTo(1);
+        assertThat(captor.getAllValues().get(1).getType()).isEqualTo(TableModelEvent.INSERT);
+    }
+
+    @Test
+    public void negativeUpdateDelayDisablesMerging() throws Exception {
+        model.addRow(BigDecimal.ONE);
+        model.setUpdateDelay(0);
+        model.setUpdateDelay(-1);
+        reset(tableModelListener);
+
+        model.fireTableCellUpdated(0, 0);
+
+        verify(tableModelListener).tableChanged(any(TableModelEvent.class));
+    }
+
+    @Test
+    public void updateFiresDeferredEventsInOrderAndNotifiesDataProvidersOnce() throws Exception {
+        model.addRow(BigDecimal.ONE);
+        reset(tableModelListener, dataProvider);
+
+        model.update(() -> {
+            model.addRow(BigDecimal.ZERO);
+            model.setRow(0, BigDecimal.TEN);
+            model.removeRow(BigDecimal.ZERO);
+            model.addRow(BigDecimal.ONE);
+        });
+
+        assertThat(model.getBeans()).containsExactly(BigDecimal.TEN, BigDecimal.ONE);
+        InOrder eventOrder = inOrder(tableModelListener);
+        eventOrder.verify(tableModelListener).tableChanged(matches(new TableModelEvent(model, 1, 1, TableModelEvent.ALL_COLUMNS, TableModelEvent.INSERT)));
+        eventOrder.verify(tableModelListener).tableChanged(matches(new TableModelEvent(model, 0, 0)));
+        eventOrder.verify(tableModelListener).tableChanged(matches(new TableModelEvent(model, 1, 1, TableModelEvent.ALL_COLUMNS, TableModelEvent.DELETE)));
+        eventOrder.verify(tableModelListener).tableChanged(matches(new TableModelEvent(model, 1, 1, TableModelEvent.ALL_COLUMNS, TableModelEvent.INSERT)));
+        verifyNoMoreInteractions(tableModelListener);
+        InOrder inOrder = inOrder(dataProvider);
+        inOrder.verify(dataProvider).addBeans(singletonList(BigDecimal.ZERO));
+        inOrder.verify(dataProvider).removeBeans(singletonList(BigDecimal.ZERO));
+        inOrder.verify(dataProvider).addBeans(singletonList(BigDecimal.ONE));
+        verifyNoMoreInteractions(dataProvider);
+    }
+
+    @Test
+    public void updateBeansNotifiesDataProvidersOnce() throws Exception {
+        model.addRow(BigDecimal.ONE);
+
+        model.updateBeans(Arrays.asList(BigDecimal.ONE, BigDecimal.TEN, BigDecimal.ZERO), Object::equals);
+
+        assertThat(model.getBeans()).containsExactly(BigDecimal.ONE, BigDecimal.TEN, BigDecimal.ZERO);
+        verify(dataProvider).addBeans(Arrays.asList(BigDecimal.TEN, BigDecimal.ZERO));
+        verify(dataProvider, never()).addBean(BigDecimal.TEN);
+    }
+
+    @Test
+    public void removeAllNotifiesDataProvidersOnce() throws Exception {
+        model.setBeans(Arrays.asList(BigDecimal.ONE, BigDecimal.TEN, BigDecimal.ZERO));
+
+        model.removeAll(Arrays.asList(BigDecimal.ONE, BigDecimal.ZERO));
+
+        assertThat(model.getBeans()).containsExactly(BigDecimal.TEN);
+        verify(dataProvider).removeBeans(Arrays.asList(BigDecimal.ONE, BigDecimal.ZERO));
+        verify(dataProvider, never()).removeBean(any());
+    }
+
+    @Test
+    public void dataProviderBatchUpdateFiresEventsForChangedRows() throws Exception {
+        model.setBeans(Arrays.asList(BigDecimal.ONE, BigDecimal.TEN, BigDecimal.ZERO));
+        List<BeanChange<Object>> changes = Arrays.asList(new BeanChange<>(BigDecimal.TEN, COLUMN_ID, null), new BeanChange<>(BigDecimal.ZERO, COLUMN_ID, null));
+        when(dataProvider.updateBeans(changes)).thenReturn(true);
+        reset(tableModelListener);
+
+        model.beanTableAdapter.notifyDataProviders(changes);
+
+        verify(tableModelListener).tableChanged(matches(new TableModelEvent(model, 1, 2, 1)));
+        verifyNoMoreInteractions(tableModelListener);
+    }
+
+    @Test
+    public void updateMergesCellUpdates() throws Exception {
+        model.addRow(BigDecimal.ONE);
+        model.addRow(BigDecimal.ZERO);
+        reset(tableModelListener);
+
+        model.beginUpdate();
+        model.fireTableCellUpdated(0, 0);
+        model.fireTableCellUpdated(1, 0);
+        verifyNoMoreInteractions(tableModelListener);
+        model.endUpdate();
+
+        verify(tableModelListener).tableChanged(matches(new TableModelEvent(model, 0, 1, 0)));
+        verifyNoMoreInteractions(tableModelListener);
+    }
+
+    @Test
+    public void prefetchRowsNotifiesDataProviders() throws Exception {
+        model.setBeans(Arrays.asList(BigDecimal.ONE, BigDecimal.TEN, BigDecimal.ZERO));
+
+        model.prefetchRows(2, 0);
+
+        verify(dataProvider).prefetch(Arrays.asList(BigDecimal.ZERO, BigDecimal.ONE));
+    }
+
+    @Test
+    public void dataProviderStateChangeWithBeansFiresEventsForBeanRows() throws Exception {
+        model.setBeans(Arrays.asList(BigDecimal.ONE, BigDecimal.TEN, BigDecimal.ZERO, BigDecimal.ONE));
+        reset(tableModelListener);
+
+        stateListenerCaptor.getValue().propertyChange(new PropertyChangeEvent(dataProvider, "state", null, Arrays.asList(BigDecimal.TEN, BigDecimal.ZERO)));
+
+        verify(tableModelListener).tableChanged(matches(new TableModelEvent(model, 1, 2, 1)));
+        verifyNoMoreInteractions(tableModelListener);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void dataProviderStateChangeFiresOneEventForMultipleColumns() throws Exception {
+        TableDataProvider<Object> provider2 = mock(TableDataProvider.class);
+        ColumnAdapter<Object, String> provider2Column1 = mock(ColumnAdapter.class);
+        ColumnAdapter<Object, String> provider2Column2 = mock(ColumnAdapter.class);
+        doReturn(Arrays.asList(provider2Column1, provider2Column2)).when(provider2).getColumnAdapters();
+        model = new BeanListTableModel<>(singletonList(columnAdapter), Arrays.asList(dataProvider, provider2));
+        ArgumentCaptor<PropertyChangeListener> listenerCaptor = ArgumentCaptor.forClass(PropertyChangeListener.class);
+        verify(provider2).addStateChangeListener(listenerCaptor.capture());
+        model.setBeans(Arrays.asList(BigDecimal.ONE, BigDecimal.TEN));
+        model.addTableModelListener(tableModelListener);
+
+        listenerCaptor.getValue().propertyChange(new PropertyChangeEvent(provider2, "state", null, null));
+
+        verify(tableModelListener).tableChanged(matches(new TableModelEvent(model, 0, 1, TableModelEvent.ALL_COLUMNS)));
+        verifyNoMoreInteractions(tableModelListener);
+        assertThat(model.beanTableAdapter.indexOf(provider2Column2)).isEqualTo(3);
+        assertThat(model.beanTableAdapter.indexOf(providerColumnAdapter)).isEqualTo(1);
+        assertThat(model.beanTableAdapter.indexOf(mock(ColumnAdapter.class))).isEqualTo(-1);
+    }
+
     @Test
     public void setRowReplacesRow() throws Exception {
         model.addRow(BigDecimal.ONE);
@@ -205,4 +379,49 @@ public class BeanListTableModelTest {
 
         verify(columnAdapter).handleClick(event, table, "two");
     }
+
+    @Test
+    public void valueCacheMemoizesCachedColumns() throws Exception {
+        model.setBeans(Arrays.asList(BigDecimal.ONE, BigDecimal.TEN));
+        model.getValueCache().setCachedColumns(0, 1);
+        when(columnAdapter.getValue(BigDecimal.ONE)).thenReturn("one");
+
+        assertThat(model.getValueAt(0, 0)).isEqualTo("one");
+        assertThat(model.getValueAt(0, 0)).isEqualTo("one");
+        assertThat(model.getValueAt(0, 1)).isNull();
+        assertThat(model.getValueAt(0, 1)).isNull();
+
+        verify(columnAdapter).getValue(BigDecimal.ONE);
+        verify(providerColumnAdapter).getValue(BigDecimal.ONE);
+        assertThat(model.getValueCache().getHitRate()).isEqualTo(0.5d);
+    }
+
+    @Test
+    public void dataProviderStateChangeClearsCachedRows() throws Exception {
+        model.setBeans(Arrays.asList(BigDecimal.ONE, BigDecimal.TEN));
+        model.getValueCache().setCachedColumns(1);
+        model.getValueAt(0, 1);
+        model.getValueAt(1, 1);
+
+        stateListenerCaptor.getValue().propertyChange(new PropertyChangeEvent(dataProvider, "state", null, singletonList(BigDecimal.TEN)));
+        model.getValueAt(0, 1);
+        model.getValueAt(1, 1);
+
+        verify(providerColumnAdapter).getValue(BigDecimal.ONE);
+        verify(providerColumnAdapter, times(2)).getValue(BigDecimal.TEN);
+    }
+
+    @Test
+    public void setValueClearsCachedRow() throws Exception {
+        final Object row = new Object();
+        when(columnAdapter.getValue(row)).thenReturn("old value");
+        model.addRow(row);
+        model.getValueCache().setCachedColumns(0);
+        assertThat(model.getValueAt(0, 0)).isEqualTo("old value");
+
+        model.setValue("new value", 0, 0);
+
+        when(columnAdapter.getValue(row)).thenReturn("new value");
+        assertThat(model.getValueAt(0, 0)).isEqualTo("new value");
+    }
 }
@@ -91,6 +91,21 @@ public class BufferedHeaderDetailTableModelTest {
         assertThat(model.isNoErrors()).isTrue();
     }
 
+    @Test
+    public void fireTableCellUpdatedValidatesCurrentValueOfCachedColumn() throws Exception {
+        BufferedHeaderDetailTableModel<TestSummaryBean> model = newModel();
+        model.getValueCache().setCachedColumns(0);
+        TestSummaryBean bean = new TestSummaryBean(new TestDetailBean());
+        model.setBeans(singletonList(bean));
+        assertThat(model.getValueAt(0, 0)).isEqualTo(bean.name);
+        bean.name = "error value";
+
+        model.fireTableCellUpdated(0, 0);
+
+        assertThat(model.validateAt(0, 0)).isEqualTo("error value");
+        assertThat(model.isNoErrors()).isFalse();
+    }
+
     @Test
     public void validateAtIgnoresUnvalidatedColumns() throws Exception {
         ColumnAdapter<TestSummaryBean, String> summaryAdapter = new TestColumnAdapter<>("Name", String.class, TestSummaryBean::getName);
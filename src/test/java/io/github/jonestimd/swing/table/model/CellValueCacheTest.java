@@ -0,0 +1,125 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing.table.model;
+
+import javax.swing.event.TableModelEvent;
+import javax.swing.table.DefaultTableModel;
+
+import io.github.jonestimd.swing.table.ModelCellCache.CellLoader;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CellValueCacheTest {
+    @Mock
+    private CellLoader<Object> loader;
+    private final DefaultTableModel model = new DefaultTableModel(3, 4);
+    private CellValueCache cache;
+
+    @Before
+    public void createCache() throws Exception {
+        cache = new CellValueCache(model, loader);
+    }
+
+    @Test
+    public void noColumnsCachedByDefault() throws Exception {
+        when(loader.load(0, 1)).thenReturn("value");
+
+        assertThat(cache.get(0, 1)).isEqualTo("value");
+        assertThat(cache.get(0, 1)).isEqualTo("value");
+
+        verify(loader, times(2)).load(0, 1);
+        assertThat(cache.getCachedColumns()).isEmpty();
+        assertThat(cache.getHitRate()).isEqualTo(0d);
+    }
+
+    @Test
+    public void cachesSelectedColumns() throws Exception {
+        cache.setCachedColumns(3, 1);
+        when(loader.load(0, 1)).thenReturn("one");
+        when(loader.load(0, 2)).thenReturn("two");
+        when(loader.load(0, 3)).thenReturn("three");
+
+        for (int i = 0; i < 2; i++) {
+            assertThat(cache.get(0, 1)).isEqualTo("one");
+            assertThat(cache.get(0, 2)).isEqualTo("two");
+            assertThat(cache.get(0, 3)).isEqualTo("three");
+        }
+
+        verify(loader).load(0, 1);
+        verify(loader, times(2)).load(0, 2);
+        verify(loader).load(0, 3);
+        assertThat(cache.getCachedColumns()).containsExactly(3, 1);
+        assertThat(cache.isCached(0)).isFalse();
+        assertThat(cache.isCached(1)).isTrue();
+        assertThat(cache.isCached(4)).isFalse();
+        assertThat(cache.getHitCount()).isEqualTo(2L);
+        assertThat(cache.getMissCount()).isEqualTo(2L);
+        assertThat(cache.getHitRate()).isEqualTo(0.5d);
+    }
+
+    @Test
+    public void setCachedColumnsClearsValues() throws Exception {
+        cache.setCachedColumns(1);
+        cache.get(0, 1);
+
+        cache.setCachedColumns(1);
+        cache.get(0, 1);
+
+        verify(loader, times(2)).load(0, 1);
+        assertThat(cache.getMissCount()).isEqualTo(1L);
+    }
+
+    @Test
+    public void tableChangedClearsUpdatedRows() throws Exception {
+        cache.setCachedColumns(1);
+        cache.get(0, 1);
+        cache.get(1, 1);
+
+        cache.tableChanged(new TableModelEvent(model, 1, 1, 2));
+        cache.get(0, 1);
+        cache.get(1, 1);
+
+        verify(loader).load(0, 1);
+        verify(loader, times(2)).load(1, 1);
+    }
+
+    @Test
+    public void clearRemovesAllValues() throws Exception {
+        cache.setCachedColumns(1);
+        cache.get(0, 1);
+        cache.get(1, 1);
+
+        cache.clear();
+        cache.get(0, 1);
+        cache.get(1, 1);
+
+        verify(loader, times(2)).load(0, 1);
+        verify(loader, times(2)).load(1, 1);
+    }
+}
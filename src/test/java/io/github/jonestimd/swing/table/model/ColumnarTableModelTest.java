@@ -0,0 +1,288 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing.table.model;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.DoubleSummaryStatistics;
+import java.util.ResourceBundle;
+import java.util.stream.IntStream;
+
+import javax.swing.RowSorter.SortKey;
+import javax.swing.SortOrder;
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+
+import io.github.jonestimd.swing.table.DecoratedTable;
+import io.github.jonestimd.swing.table.model.ColumnarTableModel.Row;
+import io.github.jonestimd.swing.table.sort.TableRowComparator;
+import io.github.jonestimd.swing.table.sort.ViewToModel;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static io.github.jonestimd.mockito.Matchers.matches;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ColumnarTableModelTest {
+    private static final ResourceBundle BUNDLE = ResourceBundle.getBundle("test-resources");
+    private static final String PREFIX = "columnarTableModelTest.";
+    @Mock
+    private TableModelListener listener;
+    private final ColumnarTableModel model = ColumnarTableModel.builder(BUNDLE, PREFIX)
+            .stringColumn("name").intColumn("count").longColumn("total").doubleColumn("amount").build();
+
+    @Test
+    public void builderCreatesColumnAdapters() throws Exception {
+        assertThat(model.getColumnCount()).isEqualTo(4);
+        assertThat(model.getColumnName(0)).isEqualTo("Name");
+        assertThat(model.getColumnIdentifier(0).getColumnId()).isEqualTo("name");
+        assertThat(model.getColumnClass(0)).isEqualTo(String.class);
+        assertThat(model.getColumnIdentifier(1)).isInstanceOf(IntColumnAdapter.class);
+        assertThat(model.getColumnClass(1)).isEqualTo(Integer.class);
+        assertThat(model.getColumnIdentifier(2)).isInstanceOf(LongColumnAdapter.class);
+        assertThat(model.getColumnIdentifier(3)).isInstanceOf(DoubleColumnAdapter.class);
+        assertThat(model.getColumnAdapters().get(3).isEditable(null)).isFalse();
+    }
+
+    @Test
+    public void addRowAppendsRow() throws Exception {
+        model.addTableModelListener(listener);
+
+        for (int i = 0; i < 20; i++) {
+            model.addRow("row " + i, i, i * 10L, i / 2d);
+        }
+
+        assertThat(model.getRowCount()).isEqualTo(20);
+        assertThat(model.getValueAt(19, 0)).isEqualTo("row 19");
+        assertThat(model.getValueAt(19, 1)).isEqualTo(19);
+        assertThat(model.getValueAt(19, 2)).isEqualTo(190L);
+        assertThat(model.getValueAt(19, 3)).isEqualTo(9.5d);
+        verify(listener).tableChanged(matches(new TableModelEvent(model, 19, 19, TableModelEvent.ALL_COLUMNS, TableModelEvent.INSERT)));
+    }
+
+    @Test
+    public void addRowAllowsNullString() throws Exception {
+        model.addRow(null, 1, 2L, 3d);
+
+        assertThat(model.getValueAt(0, 0)).isNull();
+        assertThat(model.getValueAt(0, 1)).isEqualTo(1);
+    }
+
+    @Test
+    public void addRowRejectsNullNumber() throws Exception {
+        assertThatThrownBy(() -> model.addRow("one", 1, null, 3d))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("null value for numeric column");
+
+        assertThat(model.getRowCount()).isEqualTo(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setRowsRejectsNullNumber() throws Exception {
+        model.setRows(Collections.singletonList(new Object()), Arrays.asList(
+                new TestColumnAdapter<>("name", String.class, bean -> "bean"),
+                new TestColumnAdapter<>("count", Integer.class, bean -> null),
+                new TestColumnAdapter<>("total", Long.class, bean -> 5L),
+                new TestColumnAdapter<>("amount", Double.class, bean -> 1d)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void addRowChecksNumberOfValues() throws Exception {
+        model.addRow("name", 1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void getBeanReturnsRowView() throws Exception {
+        model.addRow("one", 1, 2L, 3.5d);
+
+        Row row = model.getBean(0);
+
+        assertThat(model.getBean(0)).isSameAs(row);
+        assertThat(row.getIndex()).isEqualTo(0);
+        assertThat(row.getString(0)).isEqualTo("one");
+        assertThat(row.getInt(1)).isEqualTo(1);
+        assertThat(row.getLong(2)).isEqualTo(2L);
+        assertThat(row.getDouble(2)).isEqualTo(2d);
+        assertThat(row.getDouble(3)).isEqualTo(3.5d);
+        assertThat(model.getValue(row, 3)).isEqualTo(3.5d);
+        assertThat(((DoubleColumnAdapter<Row>) model.getColumnIdentifier(3)).getDouble(row)).isEqualTo(3.5d);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getBeanChecksRowCount() throws Exception {
+        model.addRow("one", 1, 2L, 3.5d);
+
+        model.getBean(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void setRowsUsesPrimitiveAdapters() throws Exception {
+        model.addTableModelListener(listener);
+        DoubleColumnAdapter<double[]> amountAdapter = mock(DoubleColumnAdapter.class);
+        when(amountAdapter.getDouble(any())).thenAnswer(invocation -> ((double[]) invocation.getArgument(0))[0]);
+        double[] bean1 = {1.5d};
+        double[] bean2 = {2.5d};
+
+        model.setRows(Arrays.asList(bean1, bean2), Arrays.asList(
+                new TestColumnAdapter<>("name", String.class, bean -> "bean"),
+                FunctionColumnAdapter.ofInt(BUNDLE, PREFIX, "count", bean -> (int) bean[0], null),
+                new TestColumnAdapter<>("total", Long.class, bean -> 5L),
+                amountAdapter));
+
+        assertThat(model.getRowCount()).isEqualTo(2);
+        assertThat(model.getValueAt(1, 0)).isEqualTo("bean");
+        assertThat(model.getValueAt(1, 1)).isEqualTo(2);
+        assertThat(model.getValueAt(1, 2)).isEqualTo(5L);
+        assertThat(model.getValueAt(1, 3)).isEqualTo(2.5d);
+        assertThat(model.getDictionarySize(0)).isEqualTo(1);
+        verify(amountAdapter, never()).getValue(any());
+        verify(listener).tableChanged(matches(new TableModelEvent(model)));
+    }
+
+    @Test
+    public void setBeansCopiesRows() throws Exception {
+        ColumnarTableModel source = ColumnarTableModel.builder(BUNDLE, PREFIX)
+                .stringColumn("name").intColumn("count").longColumn("total").doubleColumn("amount").build();
+        source.addRow("one", 1, 2L, 3d);
+        model.addRow("two", 2, 3L, 4d);
+
+        model.setBeans(Collections.singletonList(source.getBean(0)));
+
+        assertThat(model.getRowCount()).isEqualTo(1);
+        assertThat(IntStream.range(0, 4).mapToObj(column -> model.getValueAt(0, column))).containsExactly("one", 1, 2L, 3d);
+    }
+
+    @Test
+    public void updateRowsReplacesMatchingRowsAndAppendsOtherRows() throws Exception {
+        ColumnarTableModel source = ColumnarTableModel.builder(BUNDLE, PREFIX)
+                .stringColumn("name").intColumn("count").longColumn("total").doubleColumn("amount").build();
+        source.addRow("one", 10, 20L, 30d);
+        source.addRow("three", 3, 4L, 5d);
+        model.addRow("one", 1, 2L, 3d);
+        model.addRow("two", 2, 3L, 4d);
+        model.addTableModelListener(listener);
+
+        model.updateRows(Arrays.asList(source.getBean(0), source.getBean(1)), 0);
+
+        assertThat(model.getRowCount()).isEqualTo(3);
+        assertThat(model.getValueAt(0, 1)).isEqualTo(10);
+        assertThat(model.getValueAt(1, 1)).isEqualTo(2);
+        assertThat(model.getValueAt(2, 0)).isEqualTo("three");
+        InOrder inOrder = inOrder(listener);
+        inOrder.verify(listener).tableChanged(matches(new TableModelEvent(model, 0, 0)));
+        inOrder.verify(listener).tableChanged(matches(new TableModelEvent(model, 2, 2, TableModelEvent.ALL_COLUMNS, TableModelEvent.INSERT)));
+        verifyNoMoreInteractions(listener);
+    }
+
+    @Test
+    public void updateBeansReplacesMatchingRowsAndAppendsOtherRows() throws Exception {
+        ColumnarTableModel source = ColumnarTableModel.builder(BUNDLE, PREFIX)
+                .stringColumn("name").intColumn("count").longColumn("total").doubleColumn("amount").build();
+        source.addRow("two", 20, 30L, 40d);
+        source.addRow("three", 3, 4L, 5d);
+        model.addRow("one", 1, 2L, 3d);
+        model.addRow("two", 2, 3L, 4d);
+
+        model.updateBeans(Arrays.asList(source.getBean(0), source.getBean(1)),
+                (row1, row2) -> row1.getValue(0).equals(row2.getValue(0)));
+
+        assertThat(model.getRowCount()).isEqualTo(3);
+        assertThat(model.getValueAt(0, 1)).isEqualTo(1);
+        assertThat(IntStream.range(0, 4).mapToObj(column -> model.getValueAt(1, column))).containsExactly("two", 20, 30L, 40d);
+        assertThat(model.getValueAt(2, 0)).isEqualTo("three");
+    }
+
+    @Test
+    public void rowViewCannotBeUsedAfterRowsAreReplaced() throws Exception {
+        model.addRow("one", 1, 2L, 3d);
+        Row row = model.getBean(0);
+
+        model.clear();
+        model.addRow("two", 2, 3L, 4d);
+
+        assertThatThrownBy(() -> row.getString(0)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> row.getDouble(3)).isInstanceOf(IllegalStateException.class);
+        assertThat(model.getBean(0).getString(0)).isEqualTo("two");
+    }
+
+    @Test
+    public void stringColumnUsesDictionary() throws Exception {
+        model.addRow("one", 1, 1L, 1d);
+        model.addRow("two", 1, 1L, 1d);
+        model.addRow("one", 1, 1L, 1d);
+
+        assertThat(model.getDictionarySize(0)).isEqualTo(2);
+        assertThat(model.getValueAt(2, 0)).isSameAs(model.getValueAt(0, 0));
+    }
+
+    @Test
+    public void getStatisticsAggregatesNumericColumn() throws Exception {
+        model.addRow("one", 1, 10L, 1.5d);
+        model.addRow("two", 2, 20L, 2.5d);
+        model.addRow("three", 3, 30L, 3.5d);
+
+        DoubleSummaryStatistics statistics = model.getStatistics(2);
+        assertThat(statistics.getSum()).isEqualTo(60d);
+        assertThat(statistics.getMax()).isEqualTo(30d);
+        assertThat(model.getStatistics(3, IntStream.of(0, 2)).getSum()).isEqualTo(5d);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getStatisticsThrowsExceptionForStringColumn() throws Exception {
+        model.getStatistics(0);
+    }
+
+    @Test
+    public void clearRemovesRows() throws Exception {
+        model.addRow("one", 1, 10L, 1.5d);
+
+        model.clear();
+
+        assertThat(model.getRowCount()).isEqualTo(0);
+        assertThat(model.getDictionarySize(0)).isEqualTo(0);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void sortsNumericColumnsWithPrimitiveValues() throws Exception {
+        model.addRow("one", 2, 10L, 1.5d);
+        model.addRow("two", 1, 20L, 2.5d);
+        DecoratedTable<Row, ColumnarTableModel> table = new DecoratedTable<>(model);
+        TableRowComparator<Row, ViewToModel<Row>> comparator = new TableRowComparator<>(table);
+        ViewToModel<Row> row0 = mock(ViewToModel.class);
+        ViewToModel<Row> row1 = mock(ViewToModel.class);
+        when(row0.getBean(model)).thenReturn(model.getBean(0));
+        when(row1.getBean(model)).thenReturn(model.getBean(1));
+
+        comparator.setSortKeys(Collections.singletonList(new SortKey(1, SortOrder.ASCENDING)));
+        assertThat(comparator.compare(row0, row1)).isPositive();
+
+        comparator.setSortKeys(Collections.singletonList(new SortKey(3, SortOrder.ASCENDING)));
+        assertThat(comparator.compare(row0, row1)).isNegative();
+    }
+}
@@ -72,4 +72,59 @@ public class FunctionColumnAdapterTest {
 
         adapter.setValue(this, "x");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void ofDoubleCreatesPrimitiveAdapter() throws Exception {
+        double[] bean = {1.5d};
+
+        DoubleColumnAdapter<double[]> adapter = FunctionColumnAdapter.ofDouble(BUNDLE, "functionColumnAdapterTest.", "column1",
+                row -> row[0], (row, value) -> row[0] = value);
+        adapter.setValue(bean, 2.5d);
+
+        assertThat(adapter.getName()).isEqualTo("Column 1");
+        assertThat(adapter.getType()).isEqualTo(Double.class);
+        assertThat(adapter.isEditable(bean)).isTrue();
+        assertThat(adapter.getDouble(bean)).isEqualTo(2.5d);
+        assertThat(adapter.getValue(bean)).isEqualTo(2.5d);
+    }
+
+    @Test
+    public void ofLongCreatesPrimitiveAdapter() throws Exception {
+        long[] bean = {1L};
+
+        LongColumnAdapter<long[]> adapter = FunctionColumnAdapter.ofLong(BUNDLE, "functionColumnAdapterTest.", "column1",
+                row -> row[0], (row, value) -> row[0] = value);
+        adapter.setValue(bean, 2L);
+
+        assertThat(adapter.getType()).isEqualTo(Long.class);
+        assertThat(adapter.getLong(bean)).isEqualTo(2L);
+        assertThat(adapter.getValue(bean)).isEqualTo(2L);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void ofIntWithNullSetterIsReadOnly() throws Exception {
+        int[] bean = {1};
+
+        IntColumnAdapter<int[]> adapter = FunctionColumnAdapter.ofInt(BUNDLE, "functionColumnAdapterTest.", "column1", row -> row[0], null);
+
+        assertThat(adapter.getType()).isEqualTo(Integer.class);
+        assertThat(adapter.getInt(bean)).isEqualTo(1);
+        assertThat(adapter.isEditable(bean)).isFalse();
+        adapter.setValue(bean, 2);
+    }
+
+    @Test
+    public void primitiveAdaptersRejectNullValue() throws Exception {
+        IntColumnAdapter<int[]> intAdapter = FunctionColumnAdapter.ofInt(BUNDLE, "functionColumnAdapterTest.", "column1",
+                row -> row[0], (row, value) -> row[0] = value);
+        LongColumnAdapter<long[]> longAdapter = FunctionColumnAdapter.ofLong(BUNDLE, "functionColumnAdapterTest.", "column1",
+                row -> row[0], (row, value) -> row[0] = value);
+        DoubleColumnAdapter<double[]> doubleAdapter = FunctionColumnAdapter.ofDouble(BUNDLE, "functionColumnAdapterTest.", "column1",
+                row -> row[0], (row, value) -> row[0] = value);
+
+        assertThatThrownBy(() -> intAdapter.setValue(new int[1], null))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("null value for primitive column: column1");
+        assertThatThrownBy(() -> longAdapter.setValue(new long[1], null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> doubleAdapter.setValue(new double[1], null)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
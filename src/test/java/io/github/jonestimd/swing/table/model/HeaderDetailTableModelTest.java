@@ -33,6 +33,7 @@ import javax.swing.event.TableModelListener;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -63,6 +64,25 @@ public class HeaderDetailTableModelTest {
         when(detailAdapter.getDetailCount(any())).thenReturn(1);
     }
 
+    @Test
+    public void updateFiresDeferredEventsInOrder() throws Exception {
+        model.setBeans(singletonList(BigDecimal.ONE));
+        reset(tableModelListener);
+
+        model.update(() -> {
+            model.addBean(1, BigDecimal.TEN);
+            model.removeBean(BigDecimal.ONE);
+            model.addBean(1, BigDecimal.ZERO);
+        });
+
+        assertThat(model.getBeanCount()).isEqualTo(2);
+        InOrder inOrder = inOrder(tableModelListener);
+        inOrder.verify(tableModelListener).tableChanged(matches(new TableModelEvent(model, 2, 3, TableModelEvent.ALL_COLUMNS, TableModelEvent.INSERT)));
+        inOrder.verify(tableModelListener).tableChanged(matches(new TableModelEvent(model, 0, 1, TableModelEvent.ALL_COLUMNS, TableModelEvent.DELETE)));
+        inOrder.verify(tableModelListener).tableChanged(matches(new TableModelEvent(model, 2, 3, TableModelEvent.ALL_COLUMNS, TableModelEvent.INSERT)));
+        verifyNoMoreInteractions(tableModelListener);
+    }
+
     @Test
     public void updateBeansAddsMissingRows() throws Exception {
         model.setBeans(singletonList(BigDecimal.ONE));
@@ -137,4 +157,37 @@ public class HeaderDetailTableModelTest {
 
         verify(detailColumnAdapter).handleClick(event, table, "detail one");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void setCellValueClearsCachedGroup() throws Exception {
+        model.setBeans(singletonList("one"));
+        when(detailAdapter.getDetail("one", 0)).thenReturn("detail one");
+        when(columnAdapter.getValue("one")).thenReturn("header value");
+        model.getValueCache().setCachedColumns(0);
+        assertThat(model.getValueAt(0, 0)).isEqualTo("header value");
+        assertThat(model.getValueAt(0, 0)).isEqualTo("header value");
+        verify(columnAdapter).getValue("one");
+
+        model.setCellValue("detail value", 1, 0);
+
+        assertThat(model.getValueAt(0, 0)).isEqualTo("header value");
+        verify(detailColumnAdapter).setValue("detail one", "detail value");
+        verify(columnAdapter, times(2)).getValue("one");
+    }
+
+    @Test
+    public void rowsUpdatedClearsCachedRows() throws Exception {
+        model.setBeans(Arrays.asList("one", "two"));
+        when(columnAdapter.getValue(any())).thenReturn("value");
+        model.getValueCache().setCachedColumns(0);
+        model.getValueAt(0, 0);
+        model.getValueAt(2, 0);
+
+        model.fireTableRowsUpdated(2, 2);
+        model.getValueAt(0, 0);
+        model.getValueAt(2, 0);
+
+        verify(columnAdapter).getValue("one");
+        verify(columnAdapter, times(2)).getValue("two");
+    }
+}
@@ -0,0 +1,198 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing.table.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.github.jonestimd.swing.table.model.MappedFileTableModel.RecordDecoder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class MappedFileTableModelTest {
+    private static final List<ColumnAdapter<String[], String>> COLUMN_ADAPTERS = Arrays.asList(
+            new TestColumnAdapter<>("Name", String.class, fields -> fields[0]),
+            new TestColumnAdapter<>("Value", String.class, fields -> fields[1]));
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+    private final AtomicInteger decodeCount = new AtomicInteger();
+    private final RecordDecoder<String[]> decoder = record -> {
+        decodeCount.incrementAndGet();
+        return toString(record).trim().split(",");
+    };
+
+    private static String toString(ByteBuffer record) {
+        byte[] bytes = new byte[record.remaining()];
+        record.get(bytes);
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+
+    private Path writeFile(String content) throws IOException {
+        Path file = temporaryFolder.newFile().toPath();
+        Files.write(file, content.getBytes(StandardCharsets.US_ASCII));
+        return file;
+    }
+
+    private MappedFileTableModel<String[]> delimitedModel(String content, int segmentSize) throws IOException {
+        return new MappedFileTableModel<>(MappedFileTableModel.map(writeFile(content), segmentSize), segmentSize, 0,
+                (byte) '\n', decoder, COLUMN_ADAPTERS);
+    }
+
+    @Test
+    public void delimitedIndexesRecords() throws Exception {
+        MappedFileTableModel<String[]> model = MappedFileTableModel.delimited(writeFile("a,1\nbb,22\nccc,333\n"), (byte) '\n', decoder, COLUMN_ADAPTERS);
+
+        assertThat(model.getRowCount()).isEqualTo(3);
+        assertThat(model.getBeanCount()).isEqualTo(3);
+        assertThat(model.getColumnCount()).isEqualTo(2);
+        assertThat(model.getColumnName(1)).isEqualTo("Value");
+        assertThat(model.getColumnClass(1)).isEqualTo(String.class);
+        assertThat(model.getColumnIdentifier(0)).isSameAs(COLUMN_ADAPTERS.get(0));
+        assertThat(model.getValueAt(0, 0)).isEqualTo("a");
+        assertThat(model.getValueAt(1, 1)).isEqualTo("22");
+        assertThat(model.getValueAt(2, 0)).isEqualTo("ccc");
+    }
+
+    @Test
+    public void delimitedIncludesUnterminatedLastRecord() throws Exception {
+        MappedFileTableModel<String[]> model = delimitedModel("a,1\nbb,22\nccc,333", 1 << 20);
+
+        assertThat(model.getRowCount()).isEqualTo(3);
+        assertThat(model.getValueAt(2, 1)).isEqualTo("333");
+    }
+
+    @Test
+    public void emptyFileHasNoRows() throws Exception {
+        assertThat(delimitedModel("", 1 << 20).getRowCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void readsRecordsThatSpanSegments() throws Exception {
+        MappedFileTableModel<String[]> model = delimitedModel("a,1\nbb,22\nccc,333\n", 4);
+
+        assertThat(model.getValueAt(1, 0)).isEqualTo("bb");
+        assertThat(model.getValueAt(1, 1)).isEqualTo("22");
+        assertThat(model.getValueAt(2, 0)).isEqualTo("ccc");
+        assertThat(model.getValueAt(2, 1)).isEqualTo("333");
+    }
+
+    @Test
+    public void fixedWidthRecords() throws Exception {
+        Path file = writeFile("a,1  b,2  c,3  ");
+        MappedFileTableModel<String[]> model = new MappedFileTableModel<>(MappedFileTableModel.map(file, 7), 7, 5, (byte) 0, decoder, COLUMN_ADAPTERS);
+
+        assertThat(model.getRowCount()).isEqualTo(3);
+        assertThat(model.getValueAt(1, 0)).isEqualTo("b");
+        assertThat(model.getValueAt(2, 1)).isEqualTo("3");
+        assertThat(MappedFileTableModel.fixedWidth(file, 5, decoder, COLUMN_ADAPTERS).getValueAt(1, 1)).isEqualTo("2");
+    }
+
+    @Test
+    public void fixedWidthIgnoresTrailingPartialRecord() throws Exception {
+        Path file = writeFile("a,1  b,2  c");
+
+        MappedFileTableModel<String[]> model = MappedFileTableModel.fixedWidth(file, 5, decoder, COLUMN_ADAPTERS);
+
+        assertThat(model.getRowCount()).isEqualTo(2);
+        assertThat(model.getValueAt(1, 0)).isEqualTo("b");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void fixedWidthRejectsZeroRecordLength() throws Exception {
+        MappedFileTableModel.fixedWidth(writeFile("a,1\n"), 0, decoder, COLUMN_ADAPTERS);
+    }
+
+    @Test
+    public void getRecordReturnsReadOnlyBuffer() throws Exception {
+        MappedFileTableModel<String[]> model = delimitedModel("a,1\nbb,22\n", 1 << 20);
+
+        ByteBuffer record = model.getRecord(1);
+
+        assertThat(record.isReadOnly()).isTrue();
+        assertThat(toString(record)).isEqualTo("bb,22");
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getRecordChecksIndex() throws Exception {
+        delimitedModel("a,1\n", 1 << 20).getRecord(1);
+    }
+
+    @Test
+    public void cachesDecodedRecords() throws Exception {
+        MappedFileTableModel<String[]> model = delimitedModel("a,1\nbb,22\nccc,333\n", 1 << 20);
+
+        model.getValueAt(0, 0);
+        model.getValueAt(0, 1);
+        assertThat(decodeCount.get()).isEqualTo(1);
+
+        model.setCacheSize(1);
+        model.getBean(0);
+        model.getBean(1);
+        model.getBean(0);
+        assertThat(decodeCount.get()).isEqualTo(4);
+        assertThat(model.getCacheSize()).isEqualTo(1);
+    }
+
+    @Test
+    public void compareSortKeys() throws Exception {
+        MappedFileTableModel<String[]> model = delimitedModel("a,3\nbb,22\nccc,1\n", 1 << 20);
+
+        model.setSortKey(1, record -> Long.parseLong(toString(record).split(",")[1]));
+        model.setSortKey(0, record -> toString(record).split(",")[0], Comparator.reverseOrder());
+
+        assertThat(model.hasSortKey(1)).isTrue();
+        assertThat(model.compareSortKeys(1, 0, 1)).isNegative();
+        assertThat(model.compareSortKeys(0, 0, 1)).isPositive();
+        assertThat(decodeCount.get()).isEqualTo(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void compareSortKeysThrowsExceptionForColumnWithoutKey() throws Exception {
+        delimitedModel("a,3\nbb,22\n", 1 << 20).compareSortKeys(0, 0, 1);
+    }
+
+    @Test
+    public void getColumnValuesDoesNotCacheBeans() throws Exception {
+        MappedFileTableModel<String[]> model = delimitedModel("c,3\nb,22\na,1\n", 1 << 20);
+
+        assertThat(model.getColumnValues(1)).containsExactly("3", "22", "1");
+        assertThat(decodeCount.get()).isEqualTo(3);
+        model.getBean(0);
+        assertThat(decodeCount.get()).isEqualTo(4);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void setBeansThrowsException() throws Exception {
+        delimitedModel("a,1\n", 1 << 20).setBeans(Collections.emptyList());
+    }
+}
@@ -0,0 +1,231 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing.table.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.swing.RowSorter.SortKey;
+import javax.swing.SortOrder;
+import javax.swing.SwingUtilities;
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+
+import io.github.jonestimd.AsyncTest;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static io.github.jonestimd.mockito.Matchers.matches;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PagedTableModelTest {
+    private static final long TIMEOUT = 10000L;
+    private static final List<Integer> ROWS = IntStream.range(0, 250).boxed().collect(Collectors.toList());
+    private static final List<ColumnAdapter<Integer, ?>> ADAPTERS = Arrays.asList(
+            new TestColumnAdapter<>("value", Integer.class, row -> row),
+            new TestColumnAdapter<>("text", String.class, row -> "row " + row));
+    @Mock
+    private TableModelListener listener;
+    private final ListPageSource<Integer> source = new ListPageSource<>(ROWS, ADAPTERS,
+            text -> row -> row % Integer.parseInt(text) == 0);
+
+    private static <V> V onEdt(Supplier<V> supplier) {
+        AtomicReference<V> result = new AtomicReference<>();
+        try {
+            SwingUtilities.invokeAndWait(() -> result.set(supplier.get()));
+        } catch (Exception ex) {
+            throw new RuntimeException(ex);
+        }
+        return result.get();
+    }
+
+    private PagedTableModel<Integer> newModel(PageSource<Integer> source, int maxPages) {
+        PagedTableModel<Integer> model = new PagedTableModel<>(source, ADAPTERS, 100, maxPages, Runnable::run);
+        model.addTableModelListener(listener);
+        onEdt(() -> { model.refresh(); return null; });
+        AsyncTest.timeout(TIMEOUT, () -> onEdt(model::getRowCount) > 0);
+        return model;
+    }
+
+    private void loadRow(PagedTableModel<Integer> model, int row) {
+        onEdt(() -> model.getBean(row));
+        AsyncTest.timeout(TIMEOUT, () -> onEdt(() -> model.isLoaded(row)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorRequiresPositivePageSize() throws Exception {
+        new PagedTableModel<>(source, ADAPTERS, 0, 1, null);
+    }
+
+    @Test
+    public void columnsUseAdapters() throws Exception {
+        PagedTableModel<Integer> model = new PagedTableModel<>(source, ADAPTERS);
+
+        assertThat(model.getColumnCount()).isEqualTo(2);
+        assertThat(model.getColumnName(1)).isEqualTo("text");
+        assertThat(model.getColumnClass(1)).isEqualTo(String.class);
+        assertThat(model.getColumnIdentifier(0)).isSameAs(ADAPTERS.get(0));
+        assertThat(model.getPageSize()).isEqualTo(PagedTableModel.DEFAULT_PAGE_SIZE);
+        assertThat(model.getRowCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void refreshLoadsRowCount() throws Exception {
+        PagedTableModel<Integer> model = newModel(source, 2);
+
+        assertThat(model.getRowCount()).isEqualTo(250);
+        assertThat(model.getBeanCount()).isEqualTo(250);
+        assertThat(model.getLoadedPageCount()).isEqualTo(0);
+        verify(listener).tableChanged(matches(new TableModelEvent(model)));
+    }
+
+    @Test
+    public void getValueAtReturnsPlaceholderUntilPageIsLoaded() throws Exception {
+        PagedTableModel<Integer> model = newModel(source, 2);
+        model.setPlaceholder(column -> "loading");
+
+        assertThat(onEdt(() -> model.getValueAt(150, 1))).isEqualTo("loading");
+        AsyncTest.timeout(TIMEOUT, () -> onEdt(() -> model.isLoaded(150)));
+
+        assertThat(onEdt(() -> model.getValueAt(150, 1))).isEqualTo("row 150");
+        assertThat(onEdt(() -> model.getValueAt(199, 0))).isEqualTo(199);
+        assertThat(model.isLoaded(99)).isFalse();
+        verify(listener).tableChanged(matches(new TableModelEvent(model, 100, 199, TableModelEvent.ALL_COLUMNS)));
+    }
+
+    @Test
+    public void lastPageIsLimitedToRowCount() throws Exception {
+        PagedTableModel<Integer> model = newModel(source, 3);
+
+        loadRow(model, 249);
+
+        assertThat(onEdt(() -> model.getBean(249))).isEqualTo(249);
+        verify(listener).tableChanged(matches(new TableModelEvent(model, 200, 249, TableModelEvent.ALL_COLUMNS)));
+    }
+
+    @Test
+    public void discardsLeastRecentlyUsedPage() throws Exception {
+        PagedTableModel<Integer> model = newModel(source, 2);
+
+        loadRow(model, 0);
+        loadRow(model, 100);
+        loadRow(model, 200);
+
+        assertThat(model.getLoadedPageCount()).isEqualTo(2);
+        assertThat(model.isLoaded(0)).isFalse();
+        assertThat(model.isLoaded(100)).isTrue();
+        assertThat(model.isLoaded(200)).isTrue();
+    }
+
+    @Test
+    public void passesLastRowOfPreviousPageToSource() throws Exception {
+        List<Integer> previousRows = Collections.synchronizedList(new ArrayList<>());
+        PagedTableModel<Integer> model = newModel(new PageSource<Integer>() {
+            @Override
+            public int getRowCount(PageQuery query) {
+                return source.getRowCount(query);
+            }
+
+            @Override
+            public List<Integer> getPage(PageQuery query, int offset, int size, Integer previous) {
+                previousRows.add(previous);
+                return source.getPage(query, offset, size, previous);
+            }
+        }, 3);
+
+        loadRow(model, 0);
+        loadRow(model, 100);
+        loadRow(model, 250 - 1);
+
+        assertThat(previousRows).containsExactly(null, 99, 199);
+        assertThat(onEdt(() -> model.getBean(100))).isEqualTo(100);
+    }
+
+    @Test
+    public void setSortKeysReloadsRows() throws Exception {
+        PagedTableModel<Integer> model = newModel(source, 2);
+        loadRow(model, 0);
+        List<SortKey> sortKeys = Collections.singletonList(new SortKey(0, SortOrder.DESCENDING));
+
+        onEdt(() -> { model.setSortKeys(sortKeys); return null; });
+
+        assertThat(model.getQuery().getSortKeys()).isEqualTo(sortKeys);
+        assertThat(model.isLoaded(0)).isFalse();
+        loadRow(model, 0);
+        assertThat(onEdt(() -> model.getValueAt(0, 0))).isEqualTo(249);
+    }
+
+    @Test
+    public void setFilterReloadsRowCount() throws Exception {
+        PagedTableModel<Integer> model = newModel(source, 2);
+
+        onEdt(() -> { model.setFilter("10"); return null; });
+
+        AsyncTest.timeout(TIMEOUT, () -> onEdt(model::getRowCount) == 25);
+        loadRow(model, 0);
+        assertThat(onEdt(() -> model.getValueAt(24, 0))).isEqualTo(240);
+        assertThat(model.getQuery().getFilter()).isEqualTo("10");
+    }
+
+    @Test
+    public void getBeanReturnsNullForRowNotLoaded() throws Exception {
+        List<Runnable> workers = new ArrayList<>();
+        PagedTableModel<Integer> model = new PagedTableModel<>(source, ADAPTERS, 100, 2, workers::add);
+
+        assertThat(model.getBean(0)).isNull();
+        assertThat(model.getValueAt(1, 0)).isNull();
+
+        assertThat(workers).hasSize(1);
+    }
+
+    @Test
+    public void refreshDiscardsPendingPages() throws Exception {
+        List<Runnable> workers = new ArrayList<>();
+        PagedTableModel<Integer> model = new PagedTableModel<>(source, ADAPTERS, 100, 2, workers::add);
+        model.getBean(0);
+
+        model.refresh();
+        model.getBean(0);
+
+        assertThat(workers).hasSize(3);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void setBeansIsNotSupported() throws Exception {
+        new PagedTableModel<>(source, ADAPTERS).setBeans(ROWS);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void updateBeansIsNotSupported() throws Exception {
+        new PagedTableModel<>(source, ADAPTERS).updateBeans(ROWS, Integer::equals);
+    }
+}
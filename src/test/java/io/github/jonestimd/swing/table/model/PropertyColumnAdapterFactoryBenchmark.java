@@ -0,0 +1,93 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing.table.model;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+import java.util.function.Function;
+
+/**
+ * Compares the cost of reading a bean property using {@link Method#invoke(Object, Object...)}, an adapter created by
+ * {@link PropertyColumnAdapterFactory} and a {@link FunctionColumnAdapter} using a method reference.
+ * Usage: {@code PropertyColumnAdapterFactoryBenchmark [iterations]}
+ */
+public class PropertyColumnAdapterFactoryBenchmark {
+    private static final int WARMUP_ROUNDS = 5;
+    private static final String PREFIX = "benchmark.";
+    private static final ResourceBundle BUNDLE = new ListResourceBundle() {
+        @Override
+        protected Object[][] getContents() {
+            return new Object[][] {{PREFIX + "name", "Name"}};
+        }
+    };
+
+    public static void main(String[] args) throws Exception {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        Method method = Bean.class.getMethod("getName");
+        Function<Bean, Object> reflection = bean -> {
+            try {
+                return method.invoke(bean);
+            } catch (IllegalAccessException | InvocationTargetException ex) {
+                throw new IllegalStateException(ex);
+            }
+        };
+        ColumnAdapter<Bean, ?> factoryAdapter = new PropertyColumnAdapterFactory<>(BUNDLE, PREFIX, Bean.class).create("name");
+        ColumnAdapter<Bean, String> functionAdapter = new FunctionColumnAdapter<>(BUNDLE, PREFIX, "name", String.class, Bean::getName, null);
+        Bean[] beans = new Bean[1024];
+        for (int i = 0; i < beans.length; i++) {
+            beans[i] = new Bean("bean " + i);
+        }
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            run(beans, iterations, reflection);
+            run(beans, iterations, factoryAdapter::getValue);
+            run(beans, iterations, functionAdapter::getValue);
+        }
+        System.out.printf("Method.invoke                %6.2f ns/op%n", (double) run(beans, iterations, reflection) / iterations);
+        System.out.printf("PropertyColumnAdapterFactory %6.2f ns/op%n", (double) run(beans, iterations, factoryAdapter::getValue) / iterations);
+        System.out.printf("FunctionColumnAdapter        %6.2f ns/op%n", (double) run(beans, iterations, functionAdapter::getValue) / iterations);
+    }
+
+    private static long run(Bean[] beans, int iterations, Function<Bean, ?> getter) {
+        int found = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            if (getter.apply(beans[i & (beans.length - 1)]) != null) found++;
+        }
+        long elapsed = System.nanoTime() - start;
+        if (found != iterations) throw new IllegalStateException("missing value");
+        return elapsed;
+    }
+
+    public static class Bean {
+        private final String name;
+
+        public Bean(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing.table.model;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.ResourceBundle;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class PropertyColumnAdapterFactoryTest {
+    private static final ResourceBundle BUNDLE = ResourceBundle.getBundle("test-resources");
+    private static final String PREFIX = "propertyColumnAdapterFactoryTest.";
+    private final PropertyColumnAdapterFactory<TestBean> factory = new PropertyColumnAdapterFactory<>(BUNDLE, PREFIX, TestBean.class);
+    private final TestBean bean = new TestBean();
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void createsObjectPropertyAdapter() throws Exception {
+        ColumnAdapter<TestBean, String> adapter = (ColumnAdapter<TestBean, String>) factory.create("name");
+
+        adapter.setValue(bean, "bean name");
+
+        assertThat(adapter).isInstanceOf(FunctionColumnAdapter.class);
+        assertThat(adapter.getColumnId()).isEqualTo("name");
+        assertThat(adapter.getName()).isEqualTo("Name");
+        assertThat(adapter.getType()).isEqualTo(String.class);
+        assertThat(adapter.isEditable(bean)).isTrue();
+        assertThat(adapter.getValue(bean)).isEqualTo("bean name");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void createsBooleanPropertyAdapter() throws Exception {
+        ColumnAdapter<TestBean, Boolean> adapter = (ColumnAdapter<TestBean, Boolean>) factory.create("active");
+
+        adapter.setValue(bean, true);
+
+        assertThat(adapter.getType()).isEqualTo(Boolean.class);
+        assertThat(adapter.getValue(bean)).isTrue();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void createsPrimitivePropertyAdapters() throws Exception {
+        List<ColumnAdapter<TestBean, ?>> adapters = factory.create("count", "total", "amount");
+
+        ((IntColumnAdapter<TestBean>) adapters.get(0)).setValue(bean, 3);
+        ((LongColumnAdapter<TestBean>) adapters.get(1)).setValue(bean, 4L);
+
+        assertThat(((IntColumnAdapter<TestBean>) adapters.get(0)).getInt(bean)).isEqualTo(3);
+        assertThat(((LongColumnAdapter<TestBean>) adapters.get(1)).getLong(bean)).isEqualTo(4L);
+        assertThat(((DoubleColumnAdapter<TestBean>) adapters.get(2)).getDouble(bean)).isEqualTo(7.5d);
+        assertThat(adapters.get(2).getValue(bean)).isEqualTo(7.5d);
+        assertThat(adapters.get(2).isEditable(bean)).isFalse();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    @SuppressWarnings("unchecked")
+    public void primitivePropertyAdapterRejectsNullValue() throws Exception {
+        ((ColumnAdapter<TestBean, Integer>) factory.create("count")).setValue(bean, null);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    @SuppressWarnings("unchecked")
+    public void createReadOnlyIgnoresSetter() throws Exception {
+        ColumnAdapter<TestBean, String> adapter = (ColumnAdapter<TestBean, String>) factory.createReadOnly("name");
+
+        assertThat(adapter.isEditable(bean)).isFalse();
+        adapter.setValue(bean, "bean name");
+    }
+
+    @Test
+    public void usesLookup() throws Exception {
+        PropertyColumnAdapterFactory<PrivateBean> factory = new PropertyColumnAdapterFactory<>(MethodHandles.lookup(), BUNDLE, PREFIX, PrivateBean.class);
+
+        assertThat(factory.create("name").getValue(new PrivateBean())).isEqualTo("private");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownPropertyThrowsException() throws Exception {
+        factory.create("unknown");
+    }
+
+    public static class TestBean {
+        private String name;
+        private int count;
+        private long total;
+        private boolean active;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public long getTotal() {
+            return total;
+        }
+
+        public void setTotal(long total) {
+            this.total = total;
+        }
+
+        public double getAmount() {
+            return count + total + 0.5d;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+    }
+
+    private static class PrivateBean {
+        public String getName() {
+            return "private";
+        }
+    }
+}
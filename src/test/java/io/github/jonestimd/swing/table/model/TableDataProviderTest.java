@@ -0,0 +1,99 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing.table.model;
+
+import java.beans.PropertyChangeListener;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class TableDataProviderTest {
+    private final TestDataProvider dataProvider = new TestDataProvider();
+
+    @Test
+    public void addBeansCallsAddBean() throws Exception {
+        dataProvider.addBeans(Arrays.asList("a", "b"));
+
+        assertThat(dataProvider.added).containsExactly("a", "b");
+    }
+
+    @Test
+    public void removeBeansCallsRemoveBean() throws Exception {
+        dataProvider.removeBeans(Arrays.asList("a", "b"));
+
+        assertThat(dataProvider.removed).containsExactly("a", "b");
+    }
+
+    @Test
+    public void updateBeansReturnsTrueIfAnyUpdateIsEffected() throws Exception {
+        assertThat(dataProvider.updateBeans(Arrays.asList(new BeanChange<>("a", "column", 1), new BeanChange<>("b", "column", 2)))).isTrue();
+        assertThat(dataProvider.updateBeans(Arrays.asList(new BeanChange<>("a", "column", 1)))).isFalse();
+        assertThat(dataProvider.updated).containsExactly("a", "b", "a");
+    }
+
+    private static class TestDataProvider implements TableDataProvider<String> {
+        private final List<String> added = new ArrayList<>();
+        private final List<String> removed = new ArrayList<>();
+        private final List<String> updated = new ArrayList<>();
+
+        @Override
+        public List<? extends ColumnAdapter<String, ?>> getColumnAdapters() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void setBeans(Collection<String> beans) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void addBean(String bean) {
+            added.add(bean);
+        }
+
+        @Override
+        public boolean updateBean(String bean, String columnId, Object oldValue) {
+            updated.add(bean);
+            return "b".equals(bean);
+        }
+
+        @Override
+        public void removeBean(String bean) {
+            removed.add(bean);
+        }
+
+        @Override
+        public void addStateChangeListener(PropertyChangeListener listener) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void removeStateChangeListener(PropertyChangeListener listener) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
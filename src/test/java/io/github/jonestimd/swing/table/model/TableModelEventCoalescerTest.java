@@ -0,0 +1,183 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing.table.model;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import java.util.function.Consumer;
+
+import javax.swing.SwingUtilities;
+import javax.swing.event.TableModelEvent;
+import javax.swing.table.TableModel;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class TableModelEventCoalescerTest {
+    @Mock
+    private TableModel model;
+    @Mock
+    private Consumer<TableModelEvent> dispatcher;
+    @Captor
+    private ArgumentCaptor<TableModelEvent> eventCaptor;
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeDelayThrowsException() throws Exception {
+        new TableModelEventCoalescer(model, dispatcher, -1);
+    }
+
+    @Test
+    public void getDelay() throws Exception {
+        assertThat(new TableModelEventCoalescer(model, dispatcher).getDelay()).isEqualTo(0);
+        assertThat(new TableModelEventCoalescer(model, dispatcher, 40).getDelay()).isEqualTo(40);
+    }
+
+    @Test
+    public void mergesCellUpdatesForRowIntoRowUpdate() throws Exception {
+        TableModelEventCoalescer coalescer = new TableModelEventCoalescer(model, dispatcher);
+
+        onEdt(() -> {
+            for (int column = 0; column < 5; column++) {
+                coalescer.fireTableChanged(new TableModelEvent(model, 3, 3, column));
+            }
+
+            verifyNoMoreInteractions(dispatcher);
+            assertThat(coalescer.isPending()).isTrue();
+            coalescer.flush();
+        });
+        verify(dispatcher).accept(eventCaptor.capture());
+        verifyEvent(eventCaptor.getValue(), TableModelEvent.UPDATE, 3, 3, TableModelEvent.ALL_COLUMNS);
+        assertThat(coalescer.isPending()).isFalse();
+    }
+
+    @Test
+    public void mergesAdjacentRowsForSameColumn() throws Exception {
+        TableModelEventCoalescer coalescer = new TableModelEventCoalescer(model, dispatcher);
+
+        onEdt(() -> {
+            coalescer.fireTableChanged(new TableModelEvent(model, 4, 4, 2));
+            coalescer.fireTableChanged(new TableModelEvent(model, 2, 3, 2));
+            coalescer.fireTableChanged(new TableModelEvent(model, 5, 5, 2));
+            coalescer.flush();
+        });
+
+        verify(dispatcher).accept(eventCaptor.capture());
+        verifyEvent(eventCaptor.getValue(), TableModelEvent.UPDATE, 2, 5, 2);
+    }
+
+    @Test
+    public void keepsDisjointRowRangesSeparate() throws Exception {
+        TableModelEventCoalescer coalescer = new TableModelEventCoalescer(model, dispatcher);
+
+        onEdt(() -> {
+            coalescer.fireTableChanged(new TableModelEvent(model, 10, 10, 1));
+            coalescer.fireTableChanged(new TableModelEvent(model, 1, 1, 1));
+            coalescer.fireTableChanged(new TableModelEvent(model, 5, 6));
+            coalescer.fireTableChanged(new TableModelEvent(model, 2, 4, 0));
+            coalescer.flush();
+        });
+
+        verify(dispatcher, times(2)).accept(eventCaptor.capture());
+        List<TableModelEvent> events = eventCaptor.getAllValues();
+        verifyEvent(events.get(0), TableModelEvent.UPDATE, 1, 6, TableModelEvent.ALL_COLUMNS);
+        verifyEvent(events.get(1), TableModelEvent.UPDATE, 10, 10, 1);
+    }
+
+    @Test
+    public void flushesUpdatesBeforeInsert() throws Exception {
+        TableModelEventCoalescer coalescer = new TableModelEventCoalescer(model, dispatcher);
+        TableModelEvent insert = new TableModelEvent(model, 2, 2, TableModelEvent.ALL_COLUMNS, TableModelEvent.INSERT);
+
+        onEdt(() -> {
+            coalescer.fireTableChanged(new TableModelEvent(model, 1, 1, 0));
+            coalescer.fireTableChanged(insert);
+        });
+
+        verify(dispatcher, times(2)).accept(eventCaptor.capture());
+        verifyEvent(eventCaptor.getAllValues().get(0), TableModelEvent.UPDATE, 1, 1, 0);
+        assertThat(eventCaptor.getAllValues().get(1)).isSameAs(insert);
+        assertThat(coalescer.isPending()).isFalse();
+    }
+
+    @Test
+    public void doesNotDeferDataChanged() throws Exception {
+        TableModelEventCoalescer coalescer = new TableModelEventCoalescer(model, dispatcher);
+        TableModelEvent event = new TableModelEvent(model);
+
+        coalescer.fireTableChanged(event);
+
+        verify(dispatcher).accept(event);
+        assertThat(coalescer.isPending()).isFalse();
+    }
+
+    @Test
+    public void deliversUpdatesOnNextEdtCycle() throws Exception {
+        TableModelEventCoalescer coalescer = new TableModelEventCoalescer(model, dispatcher);
+
+        SwingUtilities.invokeAndWait(() -> {
+            coalescer.fireTableChanged(new TableModelEvent(model, 0, 0, 0));
+            coalescer.fireTableChanged(new TableModelEvent(model, 0, 0, 1));
+        });
+        SwingUtilities.invokeAndWait(() -> {});
+
+        verify(dispatcher).accept(eventCaptor.capture());
+        verifyEvent(eventCaptor.getValue(), TableModelEvent.UPDATE, 0, 0, TableModelEvent.ALL_COLUMNS);
+    }
+
+    @Test
+    public void deliversUpdatesAfterDelay() throws Exception {
+        TableModelEventCoalescer coalescer = new TableModelEventCoalescer(model, dispatcher, 10);
+
+        SwingUtilities.invokeAndWait(() -> coalescer.fireTableChanged(new TableModelEvent(model, 0, 0, 0)));
+
+        verify(dispatcher, timeout(1000)).accept(any(TableModelEvent.class));
+        assertThat(coalescer.isPending()).isFalse();
+    }
+
+    /**
+     * Run on the EDT so that the scheduled flush can't deliver part of the events.
+     */
+    private static void onEdt(Runnable runnable) throws Exception {
+        try {
+            SwingUtilities.invokeAndWait(runnable);
+        } catch (InvocationTargetException ex) {
+            if (ex.getCause() instanceof Error) throw (Error) ex.getCause();
+            throw ex;
+        }
+    }
+
+    private void verifyEvent(TableModelEvent event, int type, int firstRow, int lastRow, int column) {
+        assertThat(event.getSource()).isSameAs(model);
+        assertThat(event.getType()).isEqualTo(type);
+        assertThat(event.getFirstRow()).isEqualTo(firstRow);
+        assertThat(event.getLastRow()).isEqualTo(lastRow);
+        assertThat(event.getColumn()).isEqualTo(column);
+    }
+}
@@ -0,0 +1,248 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing.table.model;
+
+import java.util.function.Consumer;
+
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+import javax.swing.table.TableModel;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static io.github.jonestimd.mockito.Matchers.matches;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class TableModelEventSupportTest {
+    @Mock
+    private TableModel model;
+    @Mock
+    private Consumer<TableModelEvent> dispatcher;
+    @Captor
+    private ArgumentCaptor<TableModelEvent> eventCaptor;
+
+    private TableModelEventSupport eventSupport;
+
+    @Before
+    public void createEventSupport() {
+        eventSupport = new TableModelEventSupport(model, dispatcher);
+    }
+
+    @Test
+    public void firesEventImmediatelyOutsideOfBatch() throws Exception {
+        TableModelEvent event = new TableModelEvent(model, 1, 1, 0);
+
+        eventSupport.fireTableChanged(event);
+
+        verify(dispatcher).accept(event);
+    }
+
+    @Test
+    public void passesEventToCacheListenerBeforeDeferringIt() throws Exception {
+        TableModelListener listener = mock(TableModelListener.class);
+        eventSupport.addCacheListener(listener);
+        TableModelEvent event = new TableModelEvent(model, 1, 1, 0);
+
+        eventSupport.beginUpdate();
+        eventSupport.fireTableChanged(event);
+
+        verify(listener).tableChanged(event);
+        verifyNoInteractions(dispatcher);
+    }
+
+    @Test
+    public void removeCacheListener() throws Exception {
+        TableModelListener listener = mock(TableModelListener.class);
+        eventSupport.addCacheListener(listener);
+        eventSupport.removeCacheListener(listener);
+
+        eventSupport.fireTableChanged(new TableModelEvent(model, 1, 1, 0));
+
+        verifyNoInteractions(listener);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void endUpdateThrowsExceptionWithoutBeginUpdate() throws Exception {
+        eventSupport.endUpdate();
+    }
+
+    @Test
+    public void endUpdateFiresMergedUpdates() throws Exception {
+        eventSupport.beginUpdate();
+        eventSupport.beginUpdate();
+        eventSupport.fireTableChanged(new TableModelEvent(model, 1, 1, 0));
+        eventSupport.fireTableChanged(new TableModelEvent(model, 2, 2, 0));
+        eventSupport.fireTableChanged(new TableModelEvent(model, 5, 5, 1));
+        eventSupport.endUpdate();
+
+        assertThat(eventSupport.isUpdating()).isTrue();
+        verifyNoMoreInteractions(dispatcher);
+        eventSupport.endUpdate();
+
+        assertThat(eventSupport.isUpdating()).isFalse();
+        verify(dispatcher).accept(matches(new TableModelEvent(model, 1, 2, 0)));
+        verify(dispatcher).accept(matches(new TableModelEvent(model, 5, 5, 1)));
+        verifyNoMoreInteractions(dispatcher);
+    }
+
+    @Test
+    public void endUpdateFiresSingleUpdateForAllRowsWhenThresholdIsExceeded() throws Exception {
+        when(model.getRowCount()).thenReturn(10);
+        eventSupport.setUpdateThreshold(1);
+
+        eventSupport.beginUpdate();
+        eventSupport.fireTableChanged(new TableModelEvent(model, 1, 1, 0));
+        eventSupport.fireTableChanged(new TableModelEvent(model, 5, 5, 1));
+        eventSupport.endUpdate();
+
+        verify(dispatcher).accept(matches(new TableModelEvent(model, 0, 9)));
+        verifyNoMoreInteractions(dispatcher);
+    }
+
+    @Test
+    public void endUpdateFiresInsertsDeletesAndUpdatesInOrder() throws Exception {
+        eventSupport.beginUpdate();
+        eventSupport.fireTableChanged(new TableModelEvent(model, 1, 1, 0));
+        eventSupport.fireTableChanged(new TableModelEvent(model, 2, 2, TableModelEvent.ALL_COLUMNS, TableModelEvent.INSERT));
+        eventSupport.fireTableChanged(new TableModelEvent(model, 0, 0, TableModelEvent.ALL_COLUMNS, TableModelEvent.DELETE));
+        eventSupport.fireTableChanged(new TableModelEvent(model, 3, 3, 1));
+        eventSupport.endUpdate();
+
+        InOrder inOrder = inOrder(dispatcher);
+        inOrder.verify(dispatcher).accept(matches(new TableModelEvent(model, 1, 1, 0)));
+        inOrder.verify(dispatcher).accept(matches(new TableModelEvent(model, 2, 2, TableModelEvent.ALL_COLUMNS, TableModelEvent.INSERT)));
+        inOrder.verify(dispatcher).accept(matches(new TableModelEvent(model, 0, 0, TableModelEvent.ALL_COLUMNS, TableModelEvent.DELETE)));
+        inOrder.verify(dispatcher).accept(matches(new TableModelEvent(model, 3, 3, 1)));
+        verifyNoMoreInteractions(dispatcher);
+    }
+
+    @Test
+    public void endUpdateMergesAdjacentInserts() throws Exception {
+        eventSupport.beginUpdate();
+        eventSupport.fireTableChanged(new TableModelEvent(model, 2, 3, TableModelEvent.ALL_COLUMNS, TableModelEvent.INSERT));
+        eventSupport.fireTableChanged(new TableModelEvent(model, 4, 4, TableModelEvent.ALL_COLUMNS, TableModelEvent.INSERT));
+        eventSupport.fireTableChanged(new TableModelEvent(model, 2, 2, TableModelEvent.ALL_COLUMNS, TableModelEvent.INSERT));
+        eventSupport.endUpdate();
+
+        verify(dispatcher).accept(matches(new TableModelEvent(model, 2, 5, TableModelEvent.ALL_COLUMNS, TableModelEvent.INSERT)));
+        verifyNoMoreInteractions(dispatcher);
+    }
+
+    @Test
+    public void endUpdateMergesAdjacentDeletes() throws Exception {
+        eventSupport.beginUpdate();
+        eventSupport.fireTableChanged(new TableModelEvent(model, 4, 5, TableModelEvent.ALL_COLUMNS, TableModelEvent.DELETE));
+        eventSupport.fireTableChanged(new TableModelEvent(model, 4, 4, TableModelEvent.ALL_COLUMNS, TableModelEvent.DELETE));
+        eventSupport.fireTableChanged(new TableModelEvent(model, 2, 3, TableModelEvent.ALL_COLUMNS, TableModelEvent.DELETE));
+        eventSupport.endUpdate();
+
+        verify(dispatcher).accept(matches(new TableModelEvent(model, 2, 6, TableModelEvent.ALL_COLUMNS, TableModelEvent.DELETE)));
+        verifyNoMoreInteractions(dispatcher);
+    }
+
+    @Test
+    public void endUpdateDoesNotMergeInsertsSeparatedByUpdate() throws Exception {
+        eventSupport.beginUpdate();
+        eventSupport.fireTableChanged(new TableModelEvent(model, 2, 2, TableModelEvent.ALL_COLUMNS, TableModelEvent.INSERT));
+        eventSupport.fireTableChanged(new TableModelEvent(model, 0, 0, 0));
+        eventSupport.fireTableChanged(new TableModelEvent(model, 3, 3, TableModelEvent.ALL_COLUMNS, TableModelEvent.INSERT));
+        eventSupport.endUpdate();
+
+        InOrder inOrder = inOrder(dispatcher);
+        inOrder.verify(dispatcher).accept(matches(new TableModelEvent(model, 2, 2, TableModelEvent.ALL_COLUMNS, TableModelEvent.INSERT)));
+        inOrder.verify(dispatcher).accept(matches(new TableModelEvent(model, 0, 0, 0)));
+        inOrder.verify(dispatcher).accept(matches(new TableModelEvent(model, 3, 3, TableModelEvent.ALL_COLUMNS, TableModelEvent.INSERT)));
+        verifyNoMoreInteractions(dispatcher);
+    }
+
+    @Test
+    public void endUpdateFiresDataChangedWhenThresholdIsExceededWithInserts() throws Exception {
+        eventSupport.setUpdateThreshold(1);
+
+        eventSupport.beginUpdate();
+        eventSupport.fireTableChanged(new TableModelEvent(model, 1, 1, 0));
+        eventSupport.fireTableChanged(new TableModelEvent(model, 5, 5, TableModelEvent.ALL_COLUMNS, TableModelEvent.INSERT));
+        eventSupport.endUpdate();
+
+        verify(dispatcher).accept(matches(new TableModelEvent(model)));
+        verifyNoMoreInteractions(dispatcher);
+    }
+
+    @Test
+    public void endUpdateFiresDataChangedForAllRowsChanged() throws Exception {
+        eventSupport.beginUpdate();
+        eventSupport.fireTableChanged(new TableModelEvent(model, 2, 2, TableModelEvent.ALL_COLUMNS, TableModelEvent.INSERT));
+        eventSupport.fireTableChanged(new TableModelEvent(model));
+        eventSupport.endUpdate();
+
+        verify(dispatcher).accept(eventCaptor.capture());
+        verifyNoMoreInteractions(dispatcher);
+        assertThat(eventCaptor.getValue().getType()).isEqualTo(TableModelEvent.UPDATE);
+        assertThat(eventCaptor.getValue().getFirstRow()).isEqualTo(0);
+        assertThat(eventCaptor.getValue().getLastRow()).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void endUpdateFiresStructureChanged() throws Exception {
+        eventSupport.beginUpdate();
+        eventSupport.fireTableChanged(new TableModelEvent(model, TableModelEvent.HEADER_ROW));
+        eventSupport.fireTableChanged(new TableModelEvent(model));
+        eventSupport.endUpdate();
+
+        verify(dispatcher).accept(eventCaptor.capture());
+        verifyNoMoreInteractions(dispatcher);
+        assertThat(eventCaptor.getValue().getFirstRow()).isEqualTo(TableModelEvent.HEADER_ROW);
+    }
+
+    @Test
+    public void endUpdateClearsDeferredEvents() throws Exception {
+        eventSupport.beginUpdate();
+        eventSupport.fireTableChanged(new TableModelEvent(model));
+        eventSupport.endUpdate();
+        reset(dispatcher);
+
+        eventSupport.beginUpdate();
+        eventSupport.endUpdate();
+
+        verifyNoMoreInteractions(dispatcher);
+    }
+
+    @Test
+    public void negativeUpdateDelayFiresEventsImmediately() throws Exception {
+        TableModelEvent event = new TableModelEvent(model, 1, 1, 0);
+        eventSupport.setUpdateDelay(0);
+        eventSupport.setUpdateDelay(-1);
+
+        eventSupport.fireTableChanged(event);
+
+        verify(dispatcher).accept(event);
+    }
+}
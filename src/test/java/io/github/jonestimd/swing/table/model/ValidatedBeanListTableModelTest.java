@@ -91,6 +91,48 @@ public class ValidatedBeanListTableModelTest {
         verifyEvent(eventCaptor.getAllValues().get(1), TableModelEvent.UPDATE, 2, 2);
     }
 
+    @Test
+    public void addRowsUpdatesErrors() throws Exception {
+        model.setBeans(Arrays.asList(new TestBean("bean1"), new TestBean("bean2")));
+        assertThat(model.isNoErrors()).isTrue();
+        model.addTableModelListener(listener);
+
+        model.addRows(Arrays.asList(new TestBean("bean3"), new TestBean(null)));
+
+        assertThat(model.isNoErrors()).isFalse();
+        assertThat(model.validateAt(2, 0)).isNull();
+        assertThat(model.validateAt(3, 0)).isEqualTo("required");
+        verify(listener, times(2)).tableChanged(eventCaptor.capture());
+        verifyEvent(eventCaptor.getAllValues().get(0), TableModelEvent.INSERT, 2, 3);
+        verifyEvent(eventCaptor.getAllValues().get(1), TableModelEvent.UPDATE, 2, 3);
+    }
+
+    @Test
+    public void fireTableRowsUpdatedValidatesCurrentValueOfCachedColumn() throws Exception {
+        model.getValueCache().setCachedColumns(0);
+        model.setBeans(Arrays.asList(new TestBean("bean1"), new TestBean("bean2")));
+        assertThat(model.getValueAt(1, 0)).isEqualTo("bean2");
+        model.getBean(1).setColumn1(null);
+
+        model.fireTableRowsUpdated(1, 1);
+
+        assertThat(model.validateAt(1, 0)).isEqualTo("required");
+        assertThat(model.getValueAt(1, 0)).isNull();
+    }
+
+    @Test
+    public void fireTableCellUpdatedValidatesCurrentValueOfCachedColumn() throws Exception {
+        model.getValueCache().setCachedColumns(0);
+        model.setBeans(Arrays.asList(new TestBean(null), new TestBean("bean2")));
+        assertThat(model.getValueAt(0, 0)).isNull();
+        model.getBean(0).setColumn1("bean1");
+
+        model.fireTableCellUpdated(0, 0);
+
+        assertThat(model.validateAt(0, 0)).isNull();
+        assertThat(model.isNoErrors()).isTrue();
+    }
+
     @Test
     public void insertRowUpdatesErrors() throws Exception {
         model.setBeans(Arrays.asList(new TestBean("bean1"), new TestBean(null)));
@@ -443,6 +443,44 @@ public class HeaderDetailTableRowSorterTest {
         assertThat(sorter.convertRowIndexToView(1)).isEqualTo(-1);
     }
 
+    @Test
+    public void widenFilterSorted() throws Exception {
+        tableModel.setBeans(Arrays.asList(new TestBean("X", "yy"), new TestBean("C", "xx", "aa"), new TestBean("A", "??")));
+        HeaderDetailTableRowSorter<TestBean, TestTableModel> sorter = new HeaderDetailTableRowSorter<>(table);
+        sorter.setSortKeys(Collections.singletonList(new SortKey(0, SortOrder.ASCENDING)));
+        sorter.setRowFilter(input -> input.header.equals("C"));
+        addSortListener(sorter);
+
+        sorter.setRowFilter(input -> !input.header.equals("X"), FilterRelation.WIDER);
+
+        assertThat(sorterEvent).isNotNull();
+        assertThat(sorter.getViewRowCount()).isEqualTo(5);
+        checkConversion(sorter, 0, tableModel.getLeadRowForGroup(2));
+        checkConversion(sorter, 1, tableModel.getLeadRowForGroup(2)+1);
+        checkConversion(sorter, 2, tableModel.getLeadRowForGroup(1));
+        checkConversion(sorter, 3, tableModel.getLeadRowForGroup(1)+1);
+        checkConversion(sorter, 4, tableModel.getLeadRowForGroup(1)+2);
+        assertThat(sorter.getViewGroup(1)).isEqualTo(0);
+        assertThat(sorter.getViewGroup(2)).isEqualTo(1);
+        assertThat(sorter.nextViewGroup(0)).isEqualTo(2);
+    }
+
+    @Test
+    public void narrowFilterSorted() throws Exception {
+        tableModel.setBeans(Arrays.asList(new TestBean("X", "yy"), new TestBean("C", "xx", "aa"), new TestBean("A", "??")));
+        HeaderDetailTableRowSorter<TestBean, TestTableModel> sorter = new HeaderDetailTableRowSorter<>(table);
+        sorter.setSortKeys(Collections.singletonList(new SortKey(0, SortOrder.DESCENDING)));
+
+        sorter.setRowFilter(input -> !input.header.equals("C"), FilterRelation.NARROWER);
+
+        assertThat(sorter.getViewRowCount()).isEqualTo(4);
+        checkConversion(sorter, 0, tableModel.getLeadRowForGroup(0));
+        checkConversion(sorter, 1, tableModel.getLeadRowForGroup(0)+1);
+        checkConversion(sorter, 2, tableModel.getLeadRowForGroup(2));
+        checkConversion(sorter, 3, tableModel.getLeadRowForGroup(2)+1);
+        assertThat(sorter.convertRowIndexToView(tableModel.getLeadRowForGroup(1))).isEqualTo(-1);
+    }
+
     @Test
     public void updateFilteredRow() throws Exception {
         tableModel.setBeans(Arrays.asList(new TestBean("X", "yy"), new TestBean("C", "xx", "aa"), new TestBean("A", "??")));
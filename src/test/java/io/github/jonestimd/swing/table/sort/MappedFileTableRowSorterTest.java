@@ -0,0 +1,118 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing.table.sort;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.swing.RowSorter.SortKey;
+import javax.swing.SortOrder;
+
+import io.github.jonestimd.swing.table.DecoratedTable;
+import io.github.jonestimd.swing.table.model.ColumnAdapter;
+import io.github.jonestimd.swing.table.model.MappedFileTableModel;
+import io.github.jonestimd.swing.table.model.MappedFileTableModel.RecordDecoder;
+import io.github.jonestimd.swing.table.model.TestColumnAdapter;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class MappedFileTableRowSorterTest {
+    private static final List<ColumnAdapter<String[], ?>> COLUMN_ADAPTERS = Arrays.asList(
+            new TestColumnAdapter<>("Name", String.class, fields -> fields[0]),
+            new TestColumnAdapter<>("Value", Integer.class, fields -> Integer.valueOf(fields[1])));
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+    private final AtomicInteger decodeCount = new AtomicInteger();
+    private final RecordDecoder<String[]> decoder = record -> {
+        decodeCount.incrementAndGet();
+        return toString(record).trim().split(",");
+    };
+
+    private static String toString(ByteBuffer record) {
+        byte[] bytes = new byte[record.remaining()];
+        record.get(bytes);
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+
+    private MappedFileTableModel<String[]> delimitedModel(String content) throws IOException {
+        Path file = temporaryFolder.newFile().toPath();
+        Files.write(file, content.getBytes(StandardCharsets.US_ASCII));
+        return MappedFileTableModel.delimited(file, (byte) '\n', decoder, COLUMN_ADAPTERS);
+    }
+
+    private static List<Integer> viewToModel(MappedFileTableRowSorter<?> sorter) {
+        return IntStream.range(0, sorter.getViewRowCount()).map(sorter::convertRowIndexToModel).boxed().collect(Collectors.toList());
+    }
+
+    @Test
+    public void sortUsesSortKeys() throws Exception {
+        MappedFileTableModel<String[]> model = delimitedModel("a,3\nbb,22\nccc,1\n");
+        model.setSortKey(1, record -> Long.parseLong(toString(record).split(",")[1]));
+        MappedFileTableRowSorter<String[]> sorter = new MappedFileTableRowSorter<>(new DecoratedTable<>(model));
+
+        sorter.setSortKeys(Collections.singletonList(new SortKey(1, SortOrder.ASCENDING)));
+        assertThat(viewToModel(sorter)).containsExactly(2, 0, 1);
+        assertThat(decodeCount.get()).isEqualTo(0);
+
+        sorter.setSortKeys(Collections.singletonList(new SortKey(1, SortOrder.DESCENDING)));
+        assertThat(viewToModel(sorter)).containsExactly(1, 0, 2);
+
+        sorter.setSortKeys(Collections.singletonList(new SortKey(1, SortOrder.UNSORTED)));
+        assertThat(viewToModel(sorter)).containsExactly(0, 1, 2);
+        assertThat(decodeCount.get()).isEqualTo(0);
+    }
+
+    @Test
+    public void sortDecodesColumnWithoutSortKeyOnce() throws Exception {
+        MappedFileTableModel<String[]> model = delimitedModel("c,3\nb,22\na,1\nd,4\n");
+        MappedFileTableRowSorter<String[]> sorter = new MappedFileTableRowSorter<>(new DecoratedTable<>(model));
+
+        sorter.setSortKeys(Collections.singletonList(new SortKey(0, SortOrder.ASCENDING)));
+
+        assertThat(viewToModel(sorter)).containsExactly(2, 1, 0, 3);
+        assertThat(decodeCount.get()).isEqualTo(4);
+        model.getBean(0);
+        assertThat(decodeCount.get()).isEqualTo(5);
+    }
+
+    @Test
+    public void sortComparesDecodedValuesOfColumnClass() throws Exception {
+        MappedFileTableModel<String[]> model = delimitedModel("c,3\nb,22\na,1\n");
+        MappedFileTableRowSorter<String[]> sorter = new MappedFileTableRowSorter<>(new DecoratedTable<>(model));
+
+        sorter.setSortKeys(Collections.singletonList(new SortKey(1, SortOrder.DESCENDING)));
+
+        assertThat(viewToModel(sorter)).containsExactly(1, 0, 2);
+    }
+}
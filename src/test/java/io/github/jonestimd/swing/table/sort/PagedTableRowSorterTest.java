@@ -0,0 +1,101 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing.table.sort;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.swing.RowSorter.SortKey;
+import javax.swing.SortOrder;
+import javax.swing.event.RowSorterEvent;
+import javax.swing.event.RowSorterListener;
+
+import io.github.jonestimd.swing.table.model.ColumnAdapter;
+import io.github.jonestimd.swing.table.model.ListPageSource;
+import io.github.jonestimd.swing.table.model.PagedTableModel;
+import io.github.jonestimd.swing.table.model.TestColumnAdapter;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PagedTableRowSorterTest {
+    private static final List<ColumnAdapter<String, ?>> ADAPTERS = Arrays.asList(
+            new TestColumnAdapter<>("value", String.class, row -> row),
+            new TestColumnAdapter<>("length", Integer.class, String::length));
+    @Mock
+    private RowSorterListener listener;
+    private final PagedTableModel<String> model = new PagedTableModel<>(
+            new ListPageSource<>(Arrays.asList("a", "bb"), ADAPTERS, text -> row -> row.contains(text)), ADAPTERS,
+            10, 1, runnable -> {});
+    private final PagedTableRowSorter<String> sorter = new PagedTableRowSorter<>(model);
+
+    @Test
+    public void indexesAreNotConverted() throws Exception {
+        assertThat(sorter.getModel()).isSameAs(model);
+        assertThat(sorter.convertRowIndexToModel(5)).isEqualTo(5);
+        assertThat(sorter.convertRowIndexToView(7)).isEqualTo(7);
+        assertThat(sorter.getViewRowCount()).isEqualTo(model.getRowCount());
+        assertThat(sorter.getModelRowCount()).isEqualTo(model.getRowCount());
+    }
+
+    @Test
+    public void toggleSortOrderUpdatesModelQuery() throws Exception {
+        sorter.addRowSorterListener(listener);
+
+        sorter.toggleSortOrder(1);
+        assertThat(model.getQuery().getSortKeys()).containsExactly(new SortKey(1, SortOrder.ASCENDING));
+
+        sorter.toggleSortOrder(1);
+        assertThat(model.getQuery().getSortKeys()).containsExactly(new SortKey(1, SortOrder.DESCENDING));
+
+        sorter.toggleSortOrder(0);
+        assertThat(model.getQuery().getSortKeys()).containsExactly(new SortKey(0, SortOrder.ASCENDING));
+        verify(listener, times(3)).sorterChanged(any(RowSorterEvent.class));
+    }
+
+    @Test
+    public void setSortKeysIgnoresUnchangedKeys() throws Exception {
+        sorter.addRowSorterListener(listener);
+
+        sorter.setSortKeys(null);
+
+        assertThat(sorter.getSortKeys()).isEmpty();
+        verifyNoInteractions(listener);
+    }
+
+    @Test
+    public void setSortKeysKeepsFilter() throws Exception {
+        model.setFilter("b");
+        List<SortKey> sortKeys = Collections.singletonList(new SortKey(0, SortOrder.DESCENDING));
+
+        sorter.setSortKeys(sortKeys);
+
+        assertThat(model.getQuery().getSortKeys()).isEqualTo(sortKeys);
+        assertThat(model.getQuery().getFilter()).isEqualTo("b");
+    }
+}
@@ -1,7 +1,9 @@
 package io.github.jonestimd.swing.table.sort;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.function.Function;
 
 import javax.swing.RowSorter;
@@ -408,6 +410,81 @@ public class SectionTableRowSorterTest {
         assertThat(sorter.convertRowIndexToModel(2)).isEqualTo(2);
     }
 
+    @Test
+    public void narrowFilterRetainsViewOrder() throws Exception {
+        tableModel.put("1", new TestBean("C", "yy"));
+        tableModel.put("1", new TestBean("D", "yy"));
+        tableModel.put("2", new TestBean("A", "xx"));
+        tableModel.put("2", new TestBean("B", "xx"));
+        SectionTableRowSorter<TestBean, BeanListMultimapTableModel<String, TestBean>> sorter = newSorter();
+        sorter.setSortKeys(Collections.singletonList(new SortKey(0, SortOrder.DESCENDING)));
+        addSortListener(sorter);
+
+        sorter.setRowFilter(input -> !"D".equalsIgnoreCase(input.name), FilterRelation.NARROWER);
+
+        assertThat(sorterEvent).isNotNull();
+        assertThat(sorter.getViewRowCount()).isEqualTo(5);
+        checkSection(sorter, 0, "1");
+        checkConversion(sorter, 1, "C");
+        checkSection(sorter, 2, "2");
+        checkConversion(sorter, 3, "B");
+        checkConversion(sorter, 4, "A");
+
+        sorter.setRowFilter(input -> "C".equalsIgnoreCase(input.name), FilterRelation.NARROWER);
+
+        assertThat(sorter.getViewRowCount()).isEqualTo(2);
+        checkSection(sorter, 0, "1");
+        checkConversion(sorter, 1, "C");
+        assertThat(sorter.convertRowIndexToView(3)).isEqualTo(-1);
+    }
+
+    @Test
+    public void widenFilterMergesExcludedRows() throws Exception {
+        tableModel.put("1", new TestBean("C", "yy"));
+        tableModel.put("1", new TestBean("D", "yy"));
+        tableModel.put("2", new TestBean("A", "xx"));
+        tableModel.put("2", new TestBean("B", "xx"));
+        SectionTableRowSorter<TestBean, BeanListMultimapTableModel<String, TestBean>> sorter = newSorter();
+        sorter.setSortKeys(Collections.singletonList(new SortKey(0, SortOrder.DESCENDING)));
+        sorter.setRowFilter(input -> "C".equalsIgnoreCase(input.name));
+
+        sorter.setRowFilter(input -> !"D".equalsIgnoreCase(input.name), FilterRelation.WIDER);
+
+        assertThat(sorter.getViewRowCount()).isEqualTo(5);
+        checkSection(sorter, 0, "1");
+        checkConversion(sorter, 1, "C");
+        checkSection(sorter, 2, "2");
+        checkConversion(sorter, 3, "B");
+        checkConversion(sorter, 4, "A");
+
+        sorter.setRowFilter(null, FilterRelation.WIDER);
+
+        assertThat(sorter.getViewRowCount()).isEqualTo(tableModel.getRowCount());
+        checkSection(sorter, 0, "1");
+        checkConversion(sorter, 1, "D");
+        checkConversion(sorter, 2, "C");
+        checkSection(sorter, 3, "2");
+        checkConversion(sorter, 4, "B");
+        checkConversion(sorter, 5, "A");
+    }
+
+    @Test
+    public void widenFilterUnsorted() throws Exception {
+        tableModel.put("1", new TestBean("C", "yy"));
+        tableModel.put("1", new TestBean("D", "yy"));
+        tableModel.put("2", new TestBean("A", "xx"));
+        SectionTableRowSorter<TestBean, BeanListMultimapTableModel<String, TestBean>> sorter = newSorter();
+        sorter.setRowFilter(input -> "A".equalsIgnoreCase(input.name));
+
+        sorter.setRowFilter(input -> !"C".equalsIgnoreCase(input.name), FilterRelation.WIDER);
+
+        assertThat(sorter.getViewRowCount()).isEqualTo(4);
+        assertThat(sorter.convertRowIndexToModel(0)).isEqualTo(0);
+        assertThat(sorter.convertRowIndexToModel(1)).isEqualTo(2);
+        assertThat(sorter.convertRowIndexToModel(2)).isEqualTo(3);
+        assertThat(sorter.convertRowIndexToModel(3)).isEqualTo(4);
+    }
+
     @Test
     public void updateFilteredRow() throws Exception {
         tableModel.put("1", new TestBean("C", "yy"));
@@ -447,6 +524,79 @@ public class SectionTableRowSorterTest {
         assertThat(sorter.convertRowIndexToModel(2)).isEqualTo(2);
     }
 
+    @Test
+    public void updateRowOnlyTestsUpdatedBean() throws Exception {
+        tableModel.put("1", new TestBean("C", "yy"));
+        tableModel.put("1", new TestBean("D", "yy"));
+        tableModel.put("2", new TestBean("A", "xx"));
+        tableModel.put("2", new TestBean("B", "xx"));
+        SectionTableRowSorter<TestBean, BeanListMultimapTableModel<String, TestBean>> sorter = newSorter();
+        List<String> tested = new ArrayList<>();
+        sorter.setRowFilter(input -> tested.add(input.name) && !"A".equalsIgnoreCase(input.name));
+        assertThat(tested).containsExactly("C", "D", "A", "B");
+        tested.clear();
+
+        tableModel.setValueAt("a", 5, 0);
+        sorter.rowsUpdated(modelEvent.getFirstRow(), modelEvent.getLastRow());
+
+        assertThat(tested).containsExactly("a");
+        assertThat(sorter.getViewRowCount()).isEqualTo(3);
+        assertThat(sorter.convertRowIndexToView(3)).isEqualTo(-1);
+        assertThat(sorter.convertRowIndexToView(4)).isEqualTo(-1);
+        assertThat(sorter.convertRowIndexToView(5)).isEqualTo(-1);
+
+        tableModel.setValueAt("E", 4, 0);
+        sorter.rowsUpdated(modelEvent.getFirstRow(), modelEvent.getLastRow());
+
+        assertThat(tested).containsExactly("a", "E");
+        assertThat(sorter.getViewRowCount()).isEqualTo(5);
+        assertThat(sorter.convertRowIndexToModel(3)).isEqualTo(3);
+        assertThat(sorter.convertRowIndexToModel(4)).isEqualTo(4);
+    }
+
+    @Test
+    public void allRowsChangedRetestsBeansChangedInPlace() throws Exception {
+        tableModel.put("1", new TestBean("C", "yy"));
+        tableModel.put("2", new TestBean("A", "xx"));
+        SectionTableRowSorter<TestBean, BeanListMultimapTableModel<String, TestBean>> sorter = newSorter();
+        List<String> tested = new ArrayList<>();
+        sorter.setRowFilter(input -> tested.add(input.name) && !"A".equalsIgnoreCase(input.name));
+        assertThat(sorter.getViewRowCount()).isEqualTo(2);
+        tested.clear();
+        tableModel.setValueAt("B", 3, 0);
+
+        sorter.allRowsChanged();
+
+        assertThat(tested).containsExactly("C", "B");
+        assertThat(sorter.getViewRowCount()).isEqualTo(4);
+        checkConversion(sorter, 3, "B");
+    }
+
+    @Test
+    public void insertRowsOnlyTestsNewBeans() throws Exception {
+        tableModel.put("1", new TestBean("C", "yy"));
+        tableModel.put("2", new TestBean("A", "xx"));
+        tableModel.put("3", new TestBean("E", "xx"));
+        SectionTableRowSorter<TestBean, BeanListMultimapTableModel<String, TestBean>> sorter = newSorter();
+        List<String> tested = new ArrayList<>();
+        sorter.setRowFilter(input -> tested.add(input.name) && !"A".equalsIgnoreCase(input.name));
+        tested.clear();
+
+        tableModel.put("1", new TestBean("D", "yy"));
+        sorter.rowsInserted(modelEvent.getFirstRow(), modelEvent.getLastRow());
+
+        assertThat(tested).containsExactly("D");
+        assertThat(sorter.getViewRowCount()).isEqualTo(5);
+        checkConversion(sorter, 2, "D");
+        checkConversion(sorter, 4, "E");
+
+        tableModel.setValueAt("F", 6, 0);
+        sorter.rowsUpdated(modelEvent.getFirstRow(), modelEvent.getLastRow());
+
+        assertThat(tested).containsExactly("D", "F");
+        checkConversion(sorter, 4, "F");
+    }
+
     @Test
     public void addFilteredRowToHiddenGroup() throws Exception {
         tableModel.put("1", new TestBean("C", "yy"));
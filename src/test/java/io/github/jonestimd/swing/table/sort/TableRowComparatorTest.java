@@ -0,0 +1,77 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.swing.table.sort;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import javax.swing.RowSorter.SortKey;
+import javax.swing.SortOrder;
+
+import io.github.jonestimd.swing.table.DecoratedTable;
+import io.github.jonestimd.swing.table.model.BeanListTableModel;
+import io.github.jonestimd.swing.table.model.DoubleColumnAdapter;
+import io.github.jonestimd.swing.table.model.TestColumnAdapter;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class TableRowComparatorTest {
+    private final BeanListTableModel<double[]> model = new BeanListTableModel<>(Collections.singletonList(new DoubleAdapter()));
+    private final DecoratedTable<double[], BeanListTableModel<double[]>> table = new DecoratedTable<>(model);
+    private final TableRowComparator<double[], ViewToModel<double[]>> comparator = new TableRowComparator<>(table);
+
+    @SuppressWarnings("unchecked")
+    private ViewToModel<double[]> viewToModel(int modelIndex) {
+        ViewToModel<double[]> viewToModel = mock(ViewToModel.class);
+        when(viewToModel.getBean(model)).thenReturn(model.getBean(modelIndex));
+        return viewToModel;
+    }
+
+    @Test
+    public void usesPrimitiveValueForDoubleColumnAdapter() throws Exception {
+        model.setBeans(Arrays.asList(new double[] {2d}, new double[] {-1d}));
+        ViewToModel<double[]> row0 = viewToModel(0);
+        ViewToModel<double[]> row1 = viewToModel(1);
+
+        comparator.setSortKeys(Collections.singletonList(new SortKey(0, SortOrder.ASCENDING)));
+        assertThat(comparator.compare(row0, row1)).isPositive();
+        assertThat(comparator.compare(row1, row0)).isNegative();
+
+        comparator.toggleSortOrder(0);
+        assertThat(comparator.compare(row0, row1)).isNegative();
+    }
+
+    private static class DoubleAdapter extends TestColumnAdapter<double[], Double> implements DoubleColumnAdapter<double[]> {
+        public DoubleAdapter() {
+            super("value", Double.class, bean -> {
+                throw new UnsupportedOperationException();
+            });
+        }
+
+        @Override
+        public double getDouble(double[] row) {
+            return row[0];
+        }
+    }
+}
@@ -0,0 +1,69 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Timothy D. Jones
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package io.github.jonestimd.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class TimedLruCacheTest {
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    public void getReturnsUnexpiredValue() throws Exception {
+        TimedLruCache<String, Integer> cache = new TimedLruCache<>(2, 10L, clock::get);
+        cache.put("a", 1);
+        clock.set(9L);
+
+        assertThat(cache.get("a")).isEqualTo(1);
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.getEntry("a").isExpired()).isFalse();
+    }
+
+    @Test
+    public void getReturnsNullForExpiredValue() throws Exception {
+        TimedLruCache<String, Integer> cache = new TimedLruCache<>(2, 10L, clock::get);
+        cache.put("a", 1);
+        clock.set(10L);
+
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.getEntry("a").isExpired()).isTrue();
+        assertThat(cache.getEntry("a").getValue()).isEqualTo(1);
+    }
+
+    @Test
+    public void removesLeastRecentlyUsedEntry() throws Exception {
+        TimedLruCache<String, Integer> cache = new TimedLruCache<>(2, 10L, clock::get);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+
+        cache.put("c", 3);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getEntry("b")).isNull();
+        cache.clear();
+        assertThat(cache.size()).isEqualTo(0);
+    }
+}